@@ -92,6 +92,28 @@ public class RuntimeOptions {
               WAIT_FOR_PENDING_SERIALIZATION_JOBS_KEY, WAIT_FOR_PENDING_SERIALIZATION_JOBS)
           .build();
 
+  public static final String PRELOAD_LIBRARY_CACHES = optionName("preloadLibraryCaches");
+  public static final OptionKey<Boolean> PRELOAD_LIBRARY_CACHES_KEY = new OptionKey<>(false);
+  private static final OptionDescriptor PRELOAD_LIBRARY_CACHES_DESCRIPTOR =
+      OptionDescriptor.newBuilder(PRELOAD_LIBRARY_CACHES_KEY, PRELOAD_LIBRARY_CACHES).build();
+
+  public static final String ENABLE_PARALLEL_COMPILATION =
+      optionName("enableParallelCompilation");
+  public static final OptionKey<Boolean> ENABLE_PARALLEL_COMPILATION_KEY = new OptionKey<>(false);
+  private static final OptionDescriptor ENABLE_PARALLEL_COMPILATION_DESCRIPTOR =
+      OptionDescriptor.newBuilder(ENABLE_PARALLEL_COMPILATION_KEY, ENABLE_PARALLEL_COMPILATION)
+          .build();
+
+  public static final String COMPILATION_PROFILE = optionName("compilationProfile");
+  public static final OptionKey<String> COMPILATION_PROFILE_KEY = new OptionKey<>("");
+  private static final OptionDescriptor COMPILATION_PROFILE_DESCRIPTOR =
+      OptionDescriptor.newBuilder(COMPILATION_PROFILE_KEY, COMPILATION_PROFILE).build();
+
+  public static final String SOURCE_DIGEST_ALGORITHM = optionName("sourceDigestAlgorithm");
+  public static final OptionKey<String> SOURCE_DIGEST_ALGORITHM_KEY = new OptionKey<>("sha1");
+  private static final OptionDescriptor SOURCE_DIGEST_ALGORITHM_DESCRIPTOR =
+      OptionDescriptor.newBuilder(SOURCE_DIGEST_ALGORITHM_KEY, SOURCE_DIGEST_ALGORITHM).build();
+
   public static final String USE_GLOBAL_IR_CACHE_LOCATION = optionName("useGlobalIrCacheLocation");
   public static final OptionKey<Boolean> USE_GLOBAL_IR_CACHE_LOCATION_KEY = new OptionKey<>(true);
   public static final OptionDescriptor USE_GLOBAL_IR_CACHE_LOCATION_DESCRIPTOR =
@@ -136,6 +158,10 @@ public class RuntimeOptions {
               DISABLE_IR_CACHES_DESCRIPTOR,
               PREINITIALIZE_DESCRIPTOR,
               WAIT_FOR_PENDING_SERIALIZATION_JOBS_DESCRIPTOR,
+              PRELOAD_LIBRARY_CACHES_DESCRIPTOR,
+              SOURCE_DIGEST_ALGORITHM_DESCRIPTOR,
+              ENABLE_PARALLEL_COMPILATION_DESCRIPTOR,
+              COMPILATION_PROFILE_DESCRIPTOR,
               USE_GLOBAL_IR_CACHE_LOCATION_DESCRIPTOR,
               ENABLE_EXECUTION_TIMER_DESCRIPTOR,
               WARNINGS_LIMIT_DESCRIPTOR));
@@ -60,6 +60,7 @@ class ContextFactory {
       .option(RuntimeOptions.PROJECT_ROOT, projectRoot)
       .option(RuntimeOptions.STRICT_ERRORS, strictErrors.toString)
       .option(RuntimeOptions.WAIT_FOR_PENDING_SERIALIZATION_JOBS, "true")
+      .option(RuntimeOptions.PRELOAD_LIBRARY_CACHES, "true")
       .option(
         RuntimeOptions.USE_GLOBAL_IR_CACHE_LOCATION,
         useGlobalIrCacheLocation.toString
@@ -359,10 +359,13 @@ public class ExecutionService {
   }
 
   /**
-   * Applies modifications to literal module sources.
+   * Applies modifications to literal module sources. Edits of literals are patched into the
+   * module, and edits of method bodies only re-compile the affected methods. Otherwise the module
+   * is marked for re-compilation.
    *
    * @param module the module to edit.
    * @param edits the edits to apply.
+   * @param simpleUpdate the edit of a literal, or {@code null} if the edits change other code
    */
   public void modifyModuleSources(
       Module module,
@@ -382,7 +385,10 @@ public class ExecutionService {
                     module.getName(), edits, failure, module.getLiteralSource());
               },
               rope -> {
-                module.setLiteralSource(rope, simpleUpdate);
+                if (simpleUpdate != null
+                    || !context.getCompiler().recompileMethodBodies(module, rope)) {
+                  module.setLiteralSource(rope, simpleUpdate);
+                }
                 return new Object();
               });
     }
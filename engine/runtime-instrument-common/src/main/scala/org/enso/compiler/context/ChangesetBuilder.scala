@@ -22,14 +22,16 @@ import scala.util.Using
   *
   * @param source the module source
   * @param ir the IR node of the module
-  * @param simpleUpdate description of a simple editing change (usually in a literal)
+  * @param simpleUpdates descriptions of simple editing changes of literals, in
+  * the order of the edits, or an empty sequence if the module has to be
+  * re-compiled
   * @param invalidated the list of invalidated expressions
   * @tparam A the source type
   */
 case class Changeset[A](
   source: A,
   ir: IR,
-  simpleUpdate: Option[SimpleUpdate],
+  simpleUpdates: Seq[SimpleUpdate],
   invalidated: Set[IR.ExternalId]
 )
 
@@ -50,39 +52,51 @@ final class ChangesetBuilder[A: TextEditor: IndexedSource](
     * @return the computed changeset
     */
   @throws[CompilerError]
-  def build(edits: Seq[PendingEdit]): Changeset[A] = {
-
-    val simpleEditOptionFromSetValue: Option[PendingEdit.SetExpressionValue] =
-      edits.collect { case edit: PendingEdit.SetExpressionValue =>
-        edit
-      }.lastOption
-
-    // Try to detect if the text edit is a simple edit
-    val simpleEditFromTextEditOption = edits match {
-      case Seq(first) => Some(first)
-      case Seq(head, realEdit) =>
-        val firstAffected = invalidated(Seq(head.edit))
-        if (firstAffected.isEmpty) {
-          Some(realEdit)
-        } else {
-          None
-        }
-      case _ => None
-    }
+  def build(edits: Seq[PendingEdit]): Changeset[A] =
+    Changeset(source, ir, simpleUpdates(edits), compute(edits.map(_.edit)))
 
-    val simpleEditOption =
-      simpleEditOptionFromSetValue.orElse(simpleEditFromTextEditOption)
-
-    val simpleUpdateOption = simpleEditOption
-      .filter(e => e.edit.range.start.line == e.edit.range.end.line)
-      .map(e => (e, invalidated(Seq(e.edit))))
-      .filter(_._2.size == 1)
-      .flatMap { case (pending, directlyAffected) =>
-        val directlyAffectedId = directlyAffected.head.externalId
-        val literals =
-          ir.preorder.filter(_.getExternalId == directlyAffectedId)
-        val oldIr = literals.head
+  /** Detects whether the edits only change values of literals, so that they
+    * can be patched in place without re-compiling the module.
+    *
+    * Every edit has to either change a single literal on a single line, or not
+    * affect any IR node at all (e.g. an edit of the metadata section). The
+    * edited literals may be spread over any number of methods.
+    *
+    * @param edits the edits applied to the source
+    * @return the literal updates in the order of the edits, or an empty
+    *         sequence if the module has to be re-compiled
+    */
+  private def simpleUpdates(edits: Seq[PendingEdit]): Seq[SimpleUpdate] = {
+    val updates = edits
+      .zip(invalidatedByEach(edits.map(_.edit)))
+      .zipWithIndex
+      .collect {
+        case ((pending, directlyAffected), index)
+            if directlyAffected.nonEmpty =>
+          simpleUpdate(pending, index, directlyAffected)
+      }
+    if (updates.forall(_.isDefined)) updates.flatten else Seq()
+  }
 
+  /** Creates the description of an edit changing the value of a literal.
+    *
+    * @param pending the edit
+    * @param index the index of the edit in the batch
+    * @param directlyAffected the IR nodes directly affected by the edit
+    * @return the description of the update, if the edit only changes a literal
+    */
+  private def simpleUpdate(
+    pending: PendingEdit,
+    index: Int,
+    directlyAffected: Set[ChangesetBuilder.NodeId]
+  ): Option[SimpleUpdate] =
+    Option
+      .when(
+        directlyAffected.size == 1 &&
+        pending.edit.range.start.line == pending.edit.range.end.line
+      )(directlyAffected.head.internalId)
+      .flatMap(id => ir.preorder.find(_.getId == id))
+      .flatMap { oldIr =>
         def newIR(edit: PendingEdit): Option[Literal] = {
           val value = edit match {
             case pending: PendingEdit.SetExpressionValue => pending.value
@@ -102,16 +116,17 @@ final class ChangesetBuilder[A: TextEditor: IndexedSource](
 
         oldIr match {
           case node: Literal.Number =>
-            newIR(pending).map(ir => new SimpleUpdate(node, pending.edit, ir))
+            newIR(pending).map(ir =>
+              new SimpleUpdate(node, pending.edit, index, ir)
+            )
           case node: Literal.Text =>
-            newIR(pending).map(ir => new SimpleUpdate(node, pending.edit, ir))
+            newIR(pending).map(ir =>
+              new SimpleUpdate(node, pending.edit, index, ir)
+            )
           case _ => None
         }
       }
 
-    Changeset(source, ir, simpleUpdateOption, compute(edits.map(_.edit)))
-  }
-
   /** Traverses the IR and returns a list of all IR nodes affected by the edit
     * using the [[DataflowAnalysis]] information.
     *
@@ -173,17 +188,28 @@ final class ChangesetBuilder[A: TextEditor: IndexedSource](
     * @param edits the text edits
     * @return the set of IR nodes directly affected by the edit
     */
-  def invalidated(edits: Seq[TextEdit]): Set[ChangesetBuilder.NodeId] = {
+  def invalidated(edits: Seq[TextEdit]): Set[ChangesetBuilder.NodeId] =
+    invalidatedByEach(edits).flatten.toSet
+
+  /** Traverses the IR and returns the most specific (the innermost) IR nodes
+    * directly affected by each of the edits, applying them one after another.
+    *
+    * @param edits the text edits
+    * @return the IR nodes directly affected by each edit, in the order of the
+    *         edits
+    */
+  private def invalidatedByEach(
+    edits: Seq[TextEdit]
+  ): Seq[Set[ChangesetBuilder.NodeId]] = {
     @scala.annotation.tailrec
     def go(
       tree: ChangesetBuilder.Tree,
       source: A,
-      edits: mutable.Queue[TextEdit],
-      ids: mutable.Set[ChangesetBuilder.NodeId]
-    ): Set[ChangesetBuilder.NodeId] = {
-      if (edits.isEmpty) ids.toSet
-      else {
-        val edit         = edits.dequeue()
+      edits: List[TextEdit],
+      acc: List[Set[ChangesetBuilder.NodeId]]
+    ): List[Set[ChangesetBuilder.NodeId]] = edits match {
+      case Nil => acc.reverse
+      case edit :: rest =>
         val locationEdit = ChangesetBuilder.toLocationEdit(edit, source)
         var invalidatedSet =
           ChangesetBuilder.invalidated(tree, locationEdit.location, true)
@@ -193,11 +219,10 @@ final class ChangesetBuilder[A: TextEditor: IndexedSource](
         }
         val newTree   = ChangesetBuilder.updateLocations(tree, locationEdit)
         val newSource = TextEditor[A].edit(source, edit)
-        go(newTree, newSource, edits, ids ++= invalidatedSet.map(_.id))
-      }
+        go(newTree, newSource, rest, invalidatedSet.map(_.id).toSet :: acc)
     }
     val tree = ChangesetBuilder.buildTree(ir)
-    go(tree, source, mutable.Queue.from(edits), mutable.HashSet())
+    go(tree, source, edits.toList, Nil)
   }
 
   /** Apply the list of edits to the source file.
@@ -27,6 +27,7 @@ import org.enso.polyglot.CompilationStage
 import org.enso.polyglot.runtime.Runtime.Api
 import org.enso.polyglot.runtime.Runtime.Api.StackItem
 import org.enso.text.buffer.Rope
+import org.enso.text.editing.model.TextEdit
 
 import java.io.File
 import java.util.logging.Level
@@ -265,11 +266,7 @@ final class EnsureCompiledJob(
         module.getIr
       )
       val changeset = changesetBuilder.build(pendingEdits)
-      ctx.executionService.modifyModuleSources(
-        module,
-        edits,
-        changeset.simpleUpdate.orNull
-      )
+      modifyModuleSources(module, edits, changeset.simpleUpdates)
       Option.when(shouldExecute)(changeset)
     } finally {
       ctx.locking.releasePendingEditsLock()
@@ -286,6 +283,40 @@ final class EnsureCompiledJob(
     }
   }
 
+  /** Apply the edits to the module sources.
+    *
+    * When the edits only change values of literals, the edits are applied in
+    * segments, each ending with an edit of a literal, so that every literal can
+    * be patched in place. When they only change bodies of methods, just the
+    * affected methods are re-compiled. Otherwise the module is marked for
+    * re-compilation.
+    *
+    * @param module the module to edit
+    * @param edits the edits to apply
+    * @param simpleUpdates the literal updates in the order of the edits
+    * @param ctx the runtime context
+    */
+  private def modifyModuleSources(
+    module: Module,
+    edits: Seq[TextEdit],
+    simpleUpdates: Seq[SimpleUpdate]
+  )(implicit ctx: RuntimeContext): Unit = {
+    if (simpleUpdates.isEmpty) {
+      ctx.executionService.modifyModuleSources(module, edits, null)
+    } else {
+      val segmentEnds = simpleUpdates.init.map(_.editIndex + 1) :+ edits.length
+      simpleUpdates.zip(segmentEnds).foldLeft(0) {
+        case (segmentStart, (update, segmentEnd)) =>
+          ctx.executionService.modifyModuleSources(
+            module,
+            edits.slice(segmentStart, segmentEnd),
+            update
+          )
+          segmentEnd
+      }
+    }
+  }
+
   /** Create cache invalidation commands after applying the edits.
     *
     * @param changeset the [[Changeset]] object capturing the previous
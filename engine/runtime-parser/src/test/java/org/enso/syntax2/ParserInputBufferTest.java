@@ -0,0 +1,65 @@
+package org.enso.syntax2;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ParserInputBufferTest {
+  private static void assertEncoded(String input, ByteBuffer encoded) {
+    assertTrue("Native parser needs a direct buffer", encoded.isDirect());
+    assertEquals("Only the encoded bytes are passed", encoded.remaining(), encoded.capacity());
+    var bytes = new byte[encoded.remaining()];
+    encoded.duplicate().get(bytes);
+    assertArrayEquals(input.getBytes(StandardCharsets.UTF_8), bytes);
+  }
+
+  @Test
+  public void encodesNonBmpCharacters() {
+    var buffer = new Parser.InputBuffer();
+    var inputs =
+        new String[] {
+          "", "main = 42", "x = '\uD83D\uDE00'", "\uD835\uDD18\uD835\uDD2B\uD835\uDD26", "a\uD800b"
+        };
+    for (var input : inputs) {
+      assertEncoded(input, buffer.encode(input));
+    }
+  }
+
+  @Test
+  public void bufferIsReusedAcrossSizes() {
+    var buffer = new Parser.InputBuffer();
+    assertEncoded("main = 42", buffer.encode("main = 42"));
+    assertEquals(Parser.InputBuffer.MIN_CAPACITY, buffer.retainedCapacity());
+
+    var large = "x = 1\n".repeat(Parser.InputBuffer.MIN_CAPACITY / 4);
+    assertEncoded(large, buffer.encode(large));
+    var grownCapacity = buffer.retainedCapacity();
+    assertTrue(grownCapacity >= 3 * large.length());
+
+    // A shorter input reuses the grown buffer, without the bytes left over from the previous one.
+    var small = "x = '\uD83D\uDE00'";
+    assertEncoded(small, buffer.encode(small));
+    assertEquals(grownCapacity, buffer.retainedCapacity());
+
+    // Four bytes per surrogate pair still fit in the three bytes reserved per UTF-16 unit.
+    var emoji = "\uD83D\uDE00".repeat(grownCapacity / 6);
+    assertEncoded(emoji, buffer.encode(emoji));
+    assertEquals(grownCapacity, buffer.retainedCapacity());
+  }
+
+  @Test
+  public void hugeBuffersAreNotRetained() {
+    var buffer = new Parser.InputBuffer();
+    buffer.encode("main = 42");
+    var huge = "a".repeat(Parser.InputBuffer.MAX_RETAINED_CAPACITY / 3 + 1);
+    assertEncoded(huge, buffer.encode(huge));
+    assertEquals(0, buffer.retainedCapacity());
+
+    assertEncoded("main = 42", buffer.encode("main = 42"));
+    assertEquals(Parser.InputBuffer.MIN_CAPACITY, buffer.retainedCapacity());
+  }
+}
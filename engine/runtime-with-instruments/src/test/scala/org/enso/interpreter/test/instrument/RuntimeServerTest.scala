@@ -3568,6 +3568,184 @@ class RuntimeServerTest
     context.consumeOut shouldEqual List()
   }
 
+  it should "support editing literals of several methods in one batch" in {
+    val contextId  = UUID.randomUUID()
+    val requestId  = UUID.randomUUID()
+    val moduleName = "Enso_Test.Test.Main"
+
+    context.send(Api.Request(requestId, Api.CreateContextRequest(contextId)))
+    context.receive shouldEqual Some(
+      Api.Response(requestId, Api.CreateContextResponse(contextId))
+    )
+
+    val code =
+      """import Standard.Base.IO
+        |
+        |foo = 40
+        |
+        |bar = "answer"
+        |
+        |main =
+        |    IO.println bar
+        |    IO.println (foo + 2)
+        |""".stripMargin.linesIterator.mkString("\n")
+
+    // Create a new file
+    val mainFile = context.writeMain(code)
+
+    // Set sources for the module
+    context.send(Api.Request(Api.OpenFileNotification(mainFile, code)))
+    context.receiveNone shouldEqual None
+    context.consumeOut shouldEqual List()
+
+    // Push new item on the stack to trigger the re-execution
+    context.send(
+      Api.Request(
+        requestId,
+        Api.PushContextRequest(
+          contextId,
+          Api.StackItem
+            .ExplicitCall(
+              Api.MethodPointer(moduleName, moduleName, "main"),
+              None,
+              Vector()
+            )
+        )
+      )
+    )
+    context.receiveNIgnoreStdLib(3) should contain theSameElementsAs Seq(
+      Api.Response(Api.BackgroundJobsStartedNotification()),
+      Api.Response(requestId, Api.PushContextResponse(contextId)),
+      context.executionComplete(contextId)
+    )
+    context.consumeOut shouldEqual List("answer", "42")
+
+    // Modify the literals of both methods
+    context.send(
+      Api.Request(
+        Api.EditFileNotification(
+          mainFile,
+          Seq(
+            TextEdit(
+              model.Range(model.Position(2, 6), model.Position(2, 8)),
+              "1"
+            ),
+            TextEdit(
+              model.Range(model.Position(4, 7), model.Position(4, 13)),
+              "question"
+            )
+          ),
+          execute = true
+        )
+      )
+    )
+    context.receiveN(1) shouldEqual Seq(
+      context.executionComplete(contextId)
+    )
+    context.consumeOut shouldEqual List("question", "3")
+
+    // Close the file
+    context.send(Api.Request(Api.CloseFileNotification(mainFile)))
+    context.consumeOut shouldEqual List()
+  }
+
+  it should "support editing bodies of methods called by other methods" in {
+    val contextId  = UUID.randomUUID()
+    val requestId  = UUID.randomUUID()
+    val moduleName = "Enso_Test.Test.Main"
+
+    context.send(Api.Request(requestId, Api.CreateContextRequest(contextId)))
+    context.receive shouldEqual Some(
+      Api.Response(requestId, Api.CreateContextResponse(contextId))
+    )
+
+    val code =
+      """import Standard.Base.IO
+        |
+        |foo x = x + 1
+        |
+        |bar = foo 10
+        |
+        |main =
+        |    IO.println bar
+        |    IO.println (foo 1)
+        |""".stripMargin.linesIterator.mkString("\n")
+
+    // Create a new file
+    val mainFile = context.writeMain(code)
+
+    // Set sources for the module
+    context.send(Api.Request(Api.OpenFileNotification(mainFile, code)))
+    context.receiveNone shouldEqual None
+    context.consumeOut shouldEqual List()
+
+    // Push new item on the stack to trigger the re-execution
+    context.send(
+      Api.Request(
+        requestId,
+        Api.PushContextRequest(
+          contextId,
+          Api.StackItem
+            .ExplicitCall(
+              Api.MethodPointer(moduleName, moduleName, "main"),
+              None,
+              Vector()
+            )
+        )
+      )
+    )
+    context.receiveNIgnoreStdLib(3) should contain theSameElementsAs Seq(
+      Api.Response(Api.BackgroundJobsStartedNotification()),
+      Api.Response(requestId, Api.PushContextResponse(contextId)),
+      context.executionComplete(contextId)
+    )
+    context.consumeOut shouldEqual List("11", "2")
+
+    // Modify the body of the method called by the other methods
+    context.send(
+      Api.Request(
+        Api.EditFileNotification(
+          mainFile,
+          Seq(
+            TextEdit(
+              model.Range(model.Position(2, 8), model.Position(2, 13)),
+              "x * 3"
+            )
+          ),
+          execute = true
+        )
+      )
+    )
+    context.receiveN(1) shouldEqual Seq(
+      context.executionComplete(contextId)
+    )
+    context.consumeOut shouldEqual List("30", "3")
+
+    // Modify the body of a method following the edited one
+    context.send(
+      Api.Request(
+        Api.EditFileNotification(
+          mainFile,
+          Seq(
+            TextEdit(
+              model.Range(model.Position(4, 6), model.Position(4, 12)),
+              "foo 10 + (foo 20)"
+            )
+          ),
+          execute = true
+        )
+      )
+    )
+    context.receiveN(1) shouldEqual Seq(
+      context.executionComplete(contextId)
+    )
+    context.consumeOut shouldEqual List("90", "3")
+
+    // Close the file
+    context.send(Api.Request(Api.CloseFileNotification(mainFile)))
+    context.consumeOut shouldEqual List()
+  }
+
   it should "support file modifications after reopening the file" in {
     val contextId = UUID.randomUUID()
     val requestId = UUID.randomUUID()
@@ -0,0 +1,76 @@
+package org.enso.compiler.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.enso.compiler.core.EnsoParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the parser bridge: the native parse together with decoding the tree in Java, and the
+ * translation of the tree to IR, which visits every node of the tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmarks {
+  private static final int METHODS = 2000;
+  private static final String EXPRESSION = "x + 1";
+
+  private EnsoParser parser;
+  private String module;
+
+  @Setup
+  public void initializeBenchmark() {
+    parser = new EnsoParser();
+    var code = new StringBuilder("import Standard.Base.Data.Numbers\n\n");
+    for (var i = 0; i < METHODS; i++) {
+      code.append(
+          """
+          method_%1$d x y =
+              z = x + y * %1$d
+              if z > 10 then "big" else [z, x, y].map (v -> v + 1)
+
+          """
+              .formatted(i));
+    }
+    module = code.toString();
+  }
+
+  @TearDown
+  public void closeParser() throws Exception {
+    parser.close();
+  }
+
+  @Benchmark
+  public void parseModule(Blackhole hole) {
+    hole.consume(parser.parse(module));
+  }
+
+  @Benchmark
+  public void parseAndTranslateModule(Blackhole hole) {
+    hole.consume(parser.compile(module));
+  }
+
+  @Benchmark
+  public void parseExpression(Blackhole hole) {
+    hole.consume(parser.parse(EXPRESSION));
+  }
+
+  @Benchmark
+  public void parseAndTranslateExpression(Blackhole hole) {
+    hole.consume(parser.generateIRInline(parser.parse(EXPRESSION)));
+  }
+}
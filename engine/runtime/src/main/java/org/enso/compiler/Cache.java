@@ -3,7 +3,10 @@ package org.enso.compiler;
 import com.oracle.truffle.api.TruffleFile;
 import com.oracle.truffle.api.TruffleLogger;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
@@ -19,17 +22,31 @@ import org.bouncycastle.util.encoders.Hex;
 import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.logger.masking.MaskedPath;
 import org.enso.pkg.SourceFile;
+import org.enso.polyglot.RuntimeOptions;
 
 /**
  * Cache encapsulates a common functionality needed to serialize and de-serialize objects, while
  * maintaining its integrity in the process.
  *
+ * <p>The cached data is stored as a single serialized stream, which is deserialized eagerly. A
+ * table of contents with lazily decoded bindings would not save any work: right after loading,
+ * {@code SerializationManager.deserialize} and the late relinking in {@code
+ * Compiler.runCompilerPipeline} call {@code restoreFromSerialization} on every node in the {@code
+ * preorder} of the restored module, which forces every binding and method body to be decoded. Only
+ * the Truffle nodes of the method bodies are built lazily, on the first call.
+ *
  * @param <T> type of the cached data
  * @param <M> type of the metadata associated with the data
  */
 public abstract class Cache<T, M extends Cache.Metadata> {
   private final Object LOCK = new Object();
 
+  /** Cache data files smaller than this are read into the heap instead of being memory-mapped. */
+  static final long MIN_MAPPED_DATA_SIZE = 1024 * 1024;
+
+  private static final boolean IS_WINDOWS =
+      System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
   /** Returns a default level of logging for this Cache. */
   protected final Level logLevel;
   /** Log name to use in log messages */
@@ -127,7 +144,7 @@ public abstract class Cache<T, M extends Cache.Metadata> {
       byte[] bytesToWrite = serialize(context, entry);
 
       String blobDigest = computeDigestFromBytes(bytesToWrite);
-      String sourceDigest = computeDigest(entry, logger).get();
+      String sourceDigest = computeDigest(context, entry, logger).get();
       if (sourceDigest == null) {
         throw new ClassNotFoundException("unable to compute digest");
       }
@@ -250,14 +267,25 @@ public abstract class Cache<T, M extends Cache.Metadata> {
               || computeDigestFromSource(context, logger)
                   .map(digest -> digest.equals(meta.sourceHash()))
                   .orElseGet(() -> false);
-      byte[] blobBytes = dataPath.readAllBytes();
-      boolean blobDigestValid =
-          !needsDataDigestVerification || computeDigestFromBytes(blobBytes).equals(meta.blobHash());
+      // The data is only read once the sources are known to be up to date.
+      ByteBuffer blob =
+          sourceDigestValid
+              ? readData(dataPath, !IS_WINDOWS && context.getEnvironment().isFileIOAllowed())
+              : null;
+      boolean blobDigestValid;
+      try {
+        blobDigestValid =
+            blob != null
+                && (!needsDataDigestVerification
+                    || computeDigestFromBytes(blob).equals(meta.blobHash()));
+      } catch (InternalError e) {
+        return mappedDataUnavailable(e, logger);
+      }
 
       if (sourceDigestValid && blobDigestValid) {
         T cachedObject = null;
         try {
-          cachedObject = deserialize(context, blobBytes, meta, logger);
+          cachedObject = deserialize(context, blob, meta, logger);
           if (cachedObject != null) {
             return Optional.of(cachedObject);
           } else {
@@ -273,6 +301,8 @@ public abstract class Cache<T, M extends Cache.Metadata> {
         } catch (ClassNotFoundException e) {
           logger.log(Level.WARNING, logName + " appears to be corrupted", e);
           return Optional.empty();
+        } catch (InternalError e) {
+          return mappedDataUnavailable(e, logger);
         }
       } else {
         logger.log(logLevel, "One or more digests did not match for the cache for [{0}].", logName);
@@ -291,11 +321,58 @@ public abstract class Cache<T, M extends Cache.Metadata> {
     }
   }
 
+  /**
+   * Handles a failure to access memory-mapped cache data.
+   *
+   * <p>If a mapped file is truncated, e.g. by another process rewriting the cache, accessing the
+   * missing pages fails with an {@link InternalError}. The cache is then treated as invalid for
+   * this load, but it is not deleted, as the file is likely being replaced by a fresh cache.
+   */
+  private Optional<T> mappedDataUnavailable(InternalError error, TruffleLogger logger) {
+    logger.log(
+        logLevel,
+        "`" + logName + "` changed on disk while being loaded (caused by: " + error + ").");
+    return Optional.empty();
+  }
+
+  /**
+   * Reads the cache data file.
+   *
+   * <p>If mapping is allowed and the file is at least {@link #MIN_MAPPED_DATA_SIZE} bytes long, it
+   * is memory-mapped, so that the data is paged in by the OS as the deserializer consumes it,
+   * instead of being copied into a heap array up front. Smaller files are read into the heap, as
+   * mapping them would not save anything. The file is opened through its URI, as the channels
+   * provided by {@link TruffleFile} wrap the underlying {@link FileChannel} and cannot be mapped.
+   *
+   * <p>A mapping cannot be released explicitly; the file stays mapped until the returned buffer is
+   * garbage collected. On Windows a mapped file cannot be deleted or truncated, so the cache could
+   * not be invalidated or rewritten in the meantime. Hence the data is never mapped there.
+   *
+   * @param dataPath location of the cache data
+   * @param mayMap whether the file can be memory-mapped, i.e. it is not on Windows and it is
+   *     accessible in the host file system
+   * @return a read-only buffer with the contents of the file
+   * @throws IOException when the file cannot be read
+   */
+  static ByteBuffer readData(TruffleFile dataPath, boolean mayMap) throws IOException {
+    if (mayMap) {
+      var uri = dataPath.toUri();
+      if ("file".equals(uri.getScheme())) {
+        try (var channel = FileChannel.open(Path.of(uri), StandardOpenOption.READ)) {
+          if (channel.size() >= MIN_MAPPED_DATA_SIZE) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+          }
+        }
+      }
+    }
+    return ByteBuffer.wrap(dataPath.readAllBytes()).asReadOnlyBuffer();
+  }
+
   /**
    * Deserializes and validates data by returning the expected cached entry, or {@code null}.
    *
    * @param context the context
-   * @param data data to deserialize object from
+   * @param data data to deserialize object from, possibly memory-mapped
    * @param meta metadata corresponding to the `obj`
    * @param logger Truffle's logger
    * @return {@code data} transformed to a cached entry or {@code null}
@@ -303,7 +380,8 @@ public abstract class Cache<T, M extends Cache.Metadata> {
    * @throws IOException when I/O goes wrong
    * @throws ClassNotFoundException on problems with deserializaiton of Java classes
    */
-  protected abstract T deserialize(EnsoContext context, byte[] data, M meta, TruffleLogger logger)
+  protected abstract T deserialize(
+      EnsoContext context, ByteBuffer data, M meta, TruffleLogger logger)
       throws IOException, ClassNotFoundException, ClassNotFoundException;
 
   /**
@@ -331,11 +409,13 @@ public abstract class Cache<T, M extends Cache.Metadata> {
   /**
    * Compute digest of cache's data
    *
+   * @param context the language context in which saving is taking place
    * @param entry data for which digest should be computed
    * @param logger Truffle's logger
    * @return non-empty digest, if successful
    */
-  protected abstract Optional<String> computeDigest(T entry, TruffleLogger logger);
+  protected abstract Optional<String> computeDigest(
+      EnsoContext context, T entry, TruffleLogger logger);
 
   /**
    * Compute digest of data's source
@@ -358,27 +438,86 @@ public abstract class Cache<T, M extends Cache.Metadata> {
   }
 
   /**
-   * Computes digest from package sources using a default hashing algorithm.
+   * Computes digest from the remaining content of a buffer using a default hashing algorithm. The
+   * position of the buffer is not modified.
+   *
+   * @param buffer buffer for which hash will be computed
+   * @return string representation of buffer's hash
+   */
+  protected final String computeDigestFromBytes(ByteBuffer buffer) {
+    var digest = messageDigest();
+    digest.update(buffer.duplicate());
+    return Hex.toHexString(digest.digest());
+  }
+
+  /**
+   * Creates a stream reading the remaining content of a buffer, without copying it. The position of
+   * the buffer is not modified.
+   *
+   * @param buffer the buffer to read
+   * @return a stream over the buffer
+   */
+  protected static InputStream inputStreamOf(ByteBuffer buffer) {
+    return new ByteBufferInputStream(buffer.duplicate());
+  }
+
+  /**
+   * Computes digest from package sources.
    *
+   * <p>The result combines the digests of the individual source files. These are computed with the
+   * algorithm selected by {@link RuntimeOptions#SOURCE_DIGEST_ALGORITHM} and kept in a {@link
+   * SourceDigestIndex} stored next to the cache metadata, so only files that changed since the last
+   * computation are read and hashed again.
+   *
+   * @param context the language context
    * @param pkgSources the list of package sources
    * @param logger the truffle logger
    * @return string representation of bytes' hash
    */
   protected final String computeDigestOfLibrarySources(
-      List<SourceFile<TruffleFile>> pkgSources, TruffleLogger logger) {
+      EnsoContext context, List<SourceFile<TruffleFile>> pkgSources, TruffleLogger logger) {
     pkgSources.sort(Comparator.comparing(o -> o.qualifiedName().toString()));
 
-    var digest = messageDigest();
-    pkgSources.forEach(
-        source -> {
-          try {
-            digest.update(source.file().readAllBytes());
-          } catch (IOException e) {
-            logger.log(
-                logLevel, "failed to compute digest for " + source.qualifiedName().toString(), e);
-          }
-        });
-    return Hex.toHexString(digest.digest());
+    var algorithm =
+        SourceDigestIndex.Algorithm.fromName(
+            context.getEnvironment().getOptions().get(RuntimeOptions.SOURCE_DIGEST_ALGORITHM_KEY));
+    synchronized (LOCK) {
+      var index = SourceDigestIndex.load(sourceDigestIndexPath(context), algorithm, logger);
+      var digest = messageDigest();
+      pkgSources.forEach(
+          source -> {
+            try {
+              digest.update(index.digestOf(source.file()).getBytes(StandardCharsets.US_ASCII));
+            } catch (IOException e) {
+              logger.log(
+                  logLevel, "failed to compute digest for " + source.qualifiedName().toString(), e);
+            }
+          });
+      index.saveIfChanged(logger);
+      return Hex.toHexString(digest.digest());
+    }
+  }
+
+  /**
+   * Finds the location of the source digest index, in the first writable cache root.
+   *
+   * @param context the language context
+   * @return the location of the index, or {@code null} if there is no writable cache root
+   */
+  private TruffleFile sourceDigestIndexPath(EnsoContext context) {
+    return getCacheRoots(context)
+        .flatMap(
+            roots -> {
+              if (ensureRoot(roots.globalCacheRoot())) {
+                return Optional.of(roots.globalCacheRoot());
+              } else if (ensureRoot(roots.localCacheRoot())) {
+                return Optional.of(roots.localCacheRoot());
+              } else {
+                return Optional.empty();
+              }
+            })
+        .map(root -> root.resolve(cacheFileName(dataSuffix + SOURCE_DIGEST_INDEX_SUFFIX)))
+        .orElse(null);
   }
 
   /**
@@ -498,6 +637,9 @@ public abstract class Cache<T, M extends Cache.Metadata> {
 
   protected static final Charset metadataCharset = StandardCharsets.UTF_8;
 
+  /** Suffix appended to the data file name to get the name of the source digest index. */
+  private static final String SOURCE_DIGEST_INDEX_SUFFIX = ".sources";
+
   /**
    * Roots encapsulates two possible locations where caches can be stored.
    *
@@ -525,6 +667,44 @@ public abstract class Cache<T, M extends Cache.Metadata> {
     return new MaskedPath(Path.of(truffleFile.getPath()));
   }
 
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      } else if (!buffer.hasRemaining()) {
+        return -1;
+      }
+
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+
   interface Metadata {
     String sourceHash();
 
@@ -1,11 +1,11 @@
 package org.enso.compiler;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -48,8 +48,8 @@ public final class ImportExportCache extends Cache<ImportExportCache.CachedBindi
     }
 
     @Override
-    protected CachedBindings deserialize(EnsoContext context, byte[] data, Metadata meta, TruffleLogger logger) throws ClassNotFoundException, IOException, ClassNotFoundException {
-      try (var stream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+    protected CachedBindings deserialize(EnsoContext context, ByteBuffer data, Metadata meta, TruffleLogger logger) throws ClassNotFoundException, IOException, ClassNotFoundException {
+      try (var stream = new ObjectInputStream(inputStreamOf(data))) {
         if (stream.readObject() instanceof MapToBindings bindings) {
           return new CachedBindings(libraryName, bindings, Optional.empty());
         } else {
@@ -71,8 +71,8 @@ public final class ImportExportCache extends Cache<ImportExportCache.CachedBindi
     }
 
     @Override
-    protected Optional<String> computeDigest(CachedBindings entry, TruffleLogger logger) {
-        return entry.sources().map(sources -> computeDigestOfLibrarySources(sources, logger));
+    protected Optional<String> computeDigest(EnsoContext context, CachedBindings entry, TruffleLogger logger) {
+        return entry.sources().map(sources -> computeDigestOfLibrarySources(context, sources, logger));
     }
     @Override
     @SuppressWarnings("unchecked")
@@ -80,7 +80,7 @@ public final class ImportExportCache extends Cache<ImportExportCache.CachedBindi
         return context
                 .getPackageRepository()
                 .getPackageForLibraryJava(libraryName)
-                .map(pkg -> computeDigestOfLibrarySources(pkg.listSourcesJava(), logger));
+                .map(pkg -> computeDigestOfLibrarySources(context, pkg.listSourcesJava(), logger));
     }
 
     @Override
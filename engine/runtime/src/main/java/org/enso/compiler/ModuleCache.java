@@ -6,7 +6,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oracle.truffle.api.TruffleLogger;
 import com.oracle.truffle.api.source.Source;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.enso.compiler.core.ir.Module;
@@ -17,6 +16,7 @@ import org.enso.polyglot.CompilationStage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
@@ -45,8 +45,8 @@ public final class ModuleCache extends Cache<ModuleCache.CachedModule, ModuleCac
     }
 
     @Override
-    protected CachedModule deserialize(EnsoContext context, byte[] data, Metadata meta, TruffleLogger logger) throws ClassNotFoundException, IOException, ClassNotFoundException {
-        try (var stream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+    protected CachedModule deserialize(EnsoContext context, ByteBuffer data, Metadata meta, TruffleLogger logger) throws ClassNotFoundException, IOException, ClassNotFoundException {
+        try (var stream = new ObjectInputStream(inputStreamOf(data))) {
           if (stream.readObject() instanceof Module ir) {
               try {
                   return new CachedModule(ir,CompilationStage.valueOf(meta.compilationStage()), module.getSource());
@@ -85,7 +85,7 @@ public final class ModuleCache extends Cache<ModuleCache.CachedModule, ModuleCac
     }
 
     @Override
-    protected Optional<String> computeDigest(CachedModule entry, TruffleLogger logger) {
+    protected Optional<String> computeDigest(EnsoContext context, CachedModule entry, TruffleLogger logger) {
         return computeDigestOfModuleSources(entry.source());
     }
 
@@ -0,0 +1,184 @@
+package org.enso.compiler;
+
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.zip.CRC32C;
+import org.bouncycastle.jcajce.provider.digest.SHA1;
+import org.bouncycastle.util.encoders.Hex;
+
+/**
+ * A persisted index of digests of source files, used to avoid re-reading and re-hashing sources
+ * that did not change since the digest was last computed.
+ *
+ * <p>An entry is reused if the size and the modification time of the file match the recorded ones.
+ * Files modified very recently are not recorded, as their modification time may not yet reflect a
+ * subsequent change within the timestamp granularity of the file system.
+ *
+ * <p>The index is stored as a text file, with a header identifying the format and the digest
+ * algorithm, followed by one {@code size\tmtime\tdigest\tpath} line per file. Indexes that cannot be
+ * parsed, or that were computed with a different algorithm, are ignored.
+ */
+final class SourceDigestIndex {
+  private static final String HEADER_PREFIX = "enso-source-digests-v1 ";
+
+  /** Files modified less than this many milliseconds ago are not recorded in the index. */
+  private static final long MODIFICATION_GRACE_PERIOD_MILLIS = 2000;
+
+  private final TruffleFile indexFile;
+  private final Algorithm algorithm;
+  private final Map<String, Entry> entries;
+  private boolean changed = false;
+
+  private SourceDigestIndex(TruffleFile indexFile, Algorithm algorithm, Map<String, Entry> entries) {
+    this.indexFile = indexFile;
+    this.algorithm = algorithm;
+    this.entries = entries;
+  }
+
+  /** The algorithms that can be used to compute the digests of source files. */
+  enum Algorithm {
+    /** SHA-1, the default. */
+    SHA1("sha1"),
+    /**
+     * CRC-32C combined with the file size. It is not cryptographic, but is hardware accelerated, so
+     * it is a cheaper option for local development.
+     */
+    CRC32C("crc32c");
+
+    private final String name;
+
+    Algorithm(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Finds the algorithm by its name, as used in the runtime options.
+     *
+     * @param name the name of the algorithm
+     * @return the algorithm, or {@link #SHA1} if the name is not recognized
+     */
+    static Algorithm fromName(String name) {
+      for (var algorithm : values()) {
+        if (algorithm.name.equalsIgnoreCase(name)) {
+          return algorithm;
+        }
+      }
+      return SHA1;
+    }
+
+    String digest(byte[] bytes) {
+      return switch (this) {
+        case SHA1 -> Hex.toHexString(new SHA1.Digest().digest(bytes));
+        case CRC32C -> {
+          var crc = new CRC32C();
+          crc.update(bytes);
+          yield Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length);
+        }
+      };
+    }
+  }
+
+  private record Entry(long size, long lastModified, String digest) {}
+
+  /**
+   * Loads the index from the provided file.
+   *
+   * @param indexFile location of the index, or {@code null} if the index should not be persisted
+   * @param algorithm the digest algorithm
+   * @param logger a logger
+   * @return the loaded index, or an empty one if the file does not exist or is not valid
+   */
+  static SourceDigestIndex load(TruffleFile indexFile, Algorithm algorithm, TruffleLogger logger) {
+    var entries = new HashMap<String, Entry>();
+    if (indexFile != null && indexFile.isReadable()) {
+      try {
+        var lines = new String(indexFile.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+        if (lines.length > 0 && lines[0].equals(HEADER_PREFIX + algorithm.name)) {
+          for (int i = 1; i < lines.length; i++) {
+            var parts = lines[i].split("\t", 4);
+            if (parts.length == 4) {
+              try {
+                var entry =
+                    new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+                entries.put(parts[3], entry);
+              } catch (NumberFormatException e) {
+                // A malformed entry is skipped, so the file is just hashed again.
+              }
+            }
+          }
+        }
+      } catch (IOException e) {
+        logger.log(Level.FINEST, "Unable to read the source digest index.", e);
+      }
+    }
+    return new SourceDigestIndex(indexFile, algorithm, entries);
+  }
+
+  /**
+   * Computes the digest of a source file, reusing the recorded one if the file did not change.
+   *
+   * @param file the source file
+   * @return the digest of the file contents
+   * @throws IOException when the file cannot be read
+   */
+  String digestOf(TruffleFile file) throws IOException {
+    var path = file.getPath();
+    long size = file.size();
+    long lastModified = file.getLastModifiedTime().toMillis();
+    var entry = entries.get(path);
+    if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+      return entry.digest;
+    }
+
+    var digest = algorithm.digest(file.readAllBytes());
+    if (lastModified < System.currentTimeMillis() - MODIFICATION_GRACE_PERIOD_MILLIS) {
+      entries.put(path, new Entry(size, lastModified, digest));
+      changed = true;
+    } else if (entry != null) {
+      entries.remove(path);
+      changed = true;
+    }
+    return digest;
+  }
+
+  /**
+   * Writes the index back to its file, if any entries changed.
+   *
+   * @param logger a logger
+   */
+  void saveIfChanged(TruffleLogger logger) {
+    if (!changed || indexFile == null) {
+      return;
+    }
+
+    var builder = new StringBuilder(HEADER_PREFIX).append(algorithm.name).append('\n');
+    entries.forEach(
+        (path, entry) ->
+            builder
+                .append(entry.size)
+                .append('\t')
+                .append(entry.lastModified)
+                .append('\t')
+                .append(entry.digest)
+                .append('\t')
+                .append(path)
+                .append('\n'));
+    try (OutputStream stream =
+        indexFile.newOutputStream(
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      stream.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+      changed = false;
+    } catch (IOException | SecurityException e) {
+      logger.log(Level.FINEST, "Unable to write the source digest index.", e);
+    }
+  }
+}
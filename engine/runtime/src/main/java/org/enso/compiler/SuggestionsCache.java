@@ -6,11 +6,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oracle.truffle.api.TruffleFile;
 import com.oracle.truffle.api.TruffleLogger;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import org.apache.commons.lang3.StringUtils;
 import org.enso.editions.LibraryName;
 import org.enso.interpreter.runtime.EnsoContext;
@@ -50,9 +50,9 @@ public final class SuggestionsCache
   }
 
   @Override
-  protected CachedSuggestions deserialize(EnsoContext context, byte[] data, Metadata meta, TruffleLogger logger)
+  protected CachedSuggestions deserialize(EnsoContext context, ByteBuffer data, Metadata meta, TruffleLogger logger)
   throws ClassNotFoundException, ClassNotFoundException, IOException {
-    try (var stream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+    try (var stream = new ObjectInputStream(inputStreamOf(data))) {
       if (stream.readObject() instanceof Suggestions suggestions) {
         return new CachedSuggestions(libraryName, suggestions, Optional.empty());
       } else {
@@ -73,8 +73,8 @@ public final class SuggestionsCache
   }
 
   @Override
-  protected Optional<String> computeDigest(CachedSuggestions entry, TruffleLogger logger) {
-    return entry.getSources().map(sources -> computeDigestOfLibrarySources(sources, logger));
+  protected Optional<String> computeDigest(EnsoContext context, CachedSuggestions entry, TruffleLogger logger) {
+    return entry.getSources().map(sources -> computeDigestOfLibrarySources(context, sources, logger));
   }
 
   @Override
@@ -82,7 +82,7 @@ public final class SuggestionsCache
     return context
         .getPackageRepository()
         .getPackageForLibraryJava(libraryName)
-        .map(pkg -> computeDigestOfLibrarySources(pkg.listSourcesJava(), logger));
+        .map(pkg -> computeDigestOfLibrarySources(context, pkg.listSourcesJava(), logger));
   }
 
   @Override
@@ -13,6 +13,7 @@ import org.enso.compiler.PackageRepository;
 import org.enso.compiler.Passes;
 import org.enso.compiler.SerializationManager;
 import org.enso.compiler.core.ir.Expression;
+import org.enso.compiler.core.ir.module.scope.definition.Method;
 import org.enso.compiler.data.CompilerConfig;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.runtime.Module;
@@ -21,6 +22,7 @@ import org.enso.interpreter.runtime.scope.ModuleScope;
 import org.enso.interpreter.runtime.scope.TopLevelScope;
 import org.enso.pkg.QualifiedName;
 import org.enso.polyglot.CompilationStage;
+import org.enso.text.buffer.Rope;
 
 /**
  * Interface that encapsulate all services {@link Compiler} needs from Truffle or other environment.
@@ -33,6 +35,14 @@ public interface CompilerContext {
 
   boolean isUseGlobalCacheLocations();
 
+  boolean isPreloadLibraryCaches();
+
+  /**
+   * @return the file to write the compilation profile to, empty if compilation profiling is
+   *     disabled
+   */
+  Optional<TruffleFile> getCompilationProfileFile();
+
   boolean isInteractiveMode();
 
   PackageRepository getPackageRepository();
@@ -63,6 +73,20 @@ public interface CompilerContext {
   void truffleRunCodegen(
       Source source, ModuleScope scope, CompilerConfig config, org.enso.compiler.core.ir.Module ir);
 
+  /**
+   * Generates code for re-compiled methods of a module whose code has already been generated. The
+   * methods replace their previous versions in the module scope.
+   *
+   * @param module the module the methods belong to
+   * @param config the compiler configuration
+   * @param methods the re-compiled method definitions
+   */
+  void truffleRunMethodCodegen(
+      Module module,
+      CompilerConfig config,
+      scala.collection.immutable.List<Method.Explicit> methods)
+      throws IOException;
+
   ExpressionNode truffleRunInline(
       Source source, LocalScope localScope, Module module, CompilerConfig config, Expression ir);
 
@@ -105,6 +129,8 @@ public interface CompilerContext {
 
     void compilationStage(CompilationStage stage);
 
+    void patchedLiteralSource(Rope source);
+
     void loadedFromCache(boolean b);
 
     void hasCrossModuleLinks(boolean b);
@@ -8,11 +8,13 @@ import org.enso.text.editing.model.TextEdit;
  *
  * @param ir the current literal
  * @param edit the editor change
+ * @param editIndex the index of {@code edit} in the batch of edits it belongs to
  * @param newIr the new literal
  */
 public record SimpleUpdate(
   Literal ir,
   TextEdit edit,
+  int editIndex,
   Literal newIr
 ) {
 }
@@ -249,7 +249,8 @@ public final class EnsoLanguage extends TruffleLanguage<EnsoContext> {
           false,
           false,
           true,
-          scala.Option.apply(new PrintStream(outputRedirect))
+          scala.Option.apply(new PrintStream(outputRedirect)),
+          false
       );
       var moduleContext = new ModuleContext(
         module, redirectConfigWithStrictErrors,
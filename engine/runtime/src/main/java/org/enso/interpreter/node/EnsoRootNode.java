@@ -16,6 +16,7 @@ public abstract class EnsoRootNode extends RootNode {
   private final String name;
   private final int sourceStartIndex;
   private final int sourceLength;
+  private final int sourceRevision;
   private final LocalScope localScope;
   private final ModuleScope moduleScope;
   private final Source inlineSource;
@@ -47,6 +48,8 @@ public abstract class EnsoRootNode extends RootNode {
     }
     this.sourceStartIndex = sourceSection == null ? NO_SOURCE : sourceSection.getCharIndex();
     this.sourceLength = sourceSection == null ? NO_SOURCE : sourceSection.getCharLength();
+    this.sourceRevision =
+        sourceSection == null ? 0 : moduleScope.getModule().getSourceRevision();
   }
 
   /**
@@ -95,7 +98,10 @@ public abstract class EnsoRootNode extends RootNode {
         if (rootNode.sourceStartIndex == NO_SOURCE) {
           return null;
         } else {
-          return rootNode.getModuleScope().getModule().createSection(sourceStartIndex, sourceLength);
+          return rootNode
+              .getModuleScope()
+              .getModule()
+              .createSection(sourceStartIndex, sourceLength, rootNode.sourceRevision);
         }
       } else {
         return rootNode.inlineSource.createSection(sourceStartIndex, sourceLength);
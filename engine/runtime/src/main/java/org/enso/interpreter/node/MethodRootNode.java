@@ -1,5 +1,7 @@
 package org.enso.interpreter.node;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.enso.compiler.core.CompilerError;
@@ -12,8 +14,10 @@ import org.enso.interpreter.runtime.scope.LocalScope;
 import org.enso.interpreter.runtime.scope.ModuleScope;
 
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.dsl.ReportPolymorphism;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.DirectCallNode;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.NodeInfo;
 import com.oracle.truffle.api.source.SourceSection;
@@ -24,6 +28,7 @@ public class MethodRootNode extends ClosureRootNode {
 
   private final Type type;
   private final String methodName;
+  private final List<MethodRootNode> redirectedHere = new ArrayList<>();
 
   private MethodRootNode(
       EnsoLanguage language,
@@ -115,6 +120,24 @@ public class MethodRootNode extends ClosureRootNode {
     return methodName;
   }
 
+  /**
+   * Makes this method execute the body of its re-compiled version. Callers that have cached the
+   * call target of this method run the new code from now on. Methods previously redirected to
+   * this one are redirected to the new version directly.
+   *
+   * @param newVersion the root node of the re-compiled method
+   */
+  public void redirectTo(MethodRootNode newVersion) {
+    var target = newVersion.getCallTarget();
+    getBody().replace(new RedirectNode(target));
+    for (var previous : redirectedHere) {
+      previous.getBody().replace(new RedirectNode(target));
+    }
+    newVersion.redirectedHere.addAll(redirectedHere);
+    newVersion.redirectedHere.add(this);
+    redirectedHere.clear();
+  }
+
   @Override
   public Node deepCopy() {
     LazyBodyNode.replaceLazyNode(getBody());
@@ -160,6 +183,19 @@ public class MethodRootNode extends ClosureRootNode {
       }
     }
   }
+  private static final class RedirectNode extends ExpressionNode {
+    @Child private DirectCallNode callNode;
+
+    RedirectNode(RootCallTarget target) {
+      this.callNode = DirectCallNode.create(target);
+    }
+
+    @Override
+    public Object executeGeneric(VirtualFrame frame) {
+      return callNode.call(frame.getArguments());
+    }
+  }
+
   public boolean isSubjectToInstrumentation() {
     return true;
   }
@@ -31,6 +31,16 @@ public abstract class InteropApplicationNode extends Node {
     return InteropApplicationNodeGen.create();
   }
 
+  /**
+   * Returns the uncached instance of this node.
+   *
+   * @return an interop application node usable from any thread
+   */
+  @NeverDefault
+  public static InteropApplicationNode getUncached() {
+    return InteropApplicationNodeGen.getUncached();
+  }
+
   /**
    * Calls the function with given state and arguments.
    *
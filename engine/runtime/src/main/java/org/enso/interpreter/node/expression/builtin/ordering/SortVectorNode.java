@@ -2,6 +2,7 @@ package org.enso.interpreter.node.expression.builtin.ordering;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -56,6 +57,11 @@ public abstract class SortVectorNode extends Node {
 
   private static final int MAX_SORT_WARNINGS = 10;
 
+  /** The number of elements from which primitive arrays are sorted in parallel. */
+  private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+  private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
   public static SortVectorNode build() {
     return SortVectorNodeGen.create();
   }
@@ -119,6 +125,10 @@ public abstract class SortVectorNode extends Node {
       @Shared("anyToTextNode") @Cached AnyToTextNode toTextNode,
       @Shared("interop") @CachedLibrary(limit = "10") InteropLibrary interop) {
     EnsoContext ctx = EnsoContext.get(this);
+    var sorted = sortPrimitiveStorage(self, ascending > 0);
+    if (sorted != null) {
+      return sorted;
+    }
     Object[] elems;
     long longSize = 0L;
     try {
@@ -131,6 +141,10 @@ public abstract class SortVectorNode extends Node {
     } catch (ArithmeticException | InvalidArrayIndexException e) {
       throw invalidArrayIndexException(e, longSize);
     }
+    sorted = sortHomogeneousElements(elems, ascending > 0);
+    if (sorted != null) {
+      return sorted;
+    }
     var javaComparator =
         createDefaultComparator(
             lessThanNode, equalsNode, typeOfNode, toTextNode, ascending, problemBehavior, interop);
@@ -292,6 +306,120 @@ public abstract class SortVectorNode extends Node {
     }
   }
 
+  /**
+   * Sorts a vector backed by an array of primitive numbers, without boxing its elements.
+   *
+   * @return the sorted vector, or {@code null} if the vector is not backed by such an array or
+   *     contains values that the default comparator does not order like the Java sort does
+   */
+  @TruffleBoundary
+  private static Object sortPrimitiveStorage(Object self, boolean ascending) {
+    var longs = ArrayLikeHelpers.copyLongsOrNull(self);
+    if (longs != null) {
+      return sortLongs(longs, ascending);
+    }
+    var doubles = ArrayLikeHelpers.copyDoublesOrNull(self);
+    if (doubles != null && areTotallyOrdered(doubles)) {
+      return sortDoubles(doubles, ascending);
+    }
+    return null;
+  }
+
+  /**
+   * Sorts elements of the same primitive type - integers fitting into a {@code long}, floats, or
+   * normalized texts - without going through the default comparator. Numbers are collected into a
+   * primitive array, so the result is a vector backed by that array.
+   *
+   * @return the sorted vector, or {@code null} if the elements are not homogeneous or contain
+   *     values that have to be compared by the default comparator
+   */
+  @TruffleBoundary
+  private static Object sortHomogeneousElements(Object[] elems, boolean ascending) {
+    if (elems.length < 2) {
+      return null;
+    }
+    if (elems[0] instanceof Long) {
+      var longs = new long[elems.length];
+      for (int i = 0; i < elems.length; i++) {
+        if (!(elems[i] instanceof Long l)) {
+          return null;
+        }
+        longs[i] = l;
+      }
+      return sortLongs(longs, ascending);
+    }
+    if (elems[0] instanceof Double) {
+      var doubles = new double[elems.length];
+      for (int i = 0; i < elems.length; i++) {
+        if (!(elems[i] instanceof Double d)) {
+          return null;
+        }
+        doubles[i] = d;
+      }
+      return areTotallyOrdered(doubles) ? sortDoubles(doubles, ascending) : null;
+    }
+    if (elems[0] instanceof Text) {
+      var texts = new Text[elems.length];
+      for (int i = 0; i < elems.length; i++) {
+        // Denormalized texts are compared with the ICU normalizing comparison.
+        if (!(elems[i] instanceof Text t) || !t.is_normalized()) {
+          return null;
+        }
+        texts[i] = t;
+      }
+      Comparator<Text> comparator = Comparator.comparing(Text::toString);
+      Arrays.sort(texts, ascending ? comparator : comparator.reversed());
+      return ArrayLikeHelpers.asVectorWithCheckAt((Object[]) texts);
+    }
+    return null;
+  }
+
+  private static Object sortLongs(long[] longs, boolean ascending) {
+    if (longs.length >= PARALLEL_SORT_THRESHOLD) {
+      Arrays.parallelSort(longs);
+    } else {
+      Arrays.sort(longs);
+    }
+    if (!ascending) {
+      for (int i = 0, j = longs.length - 1; i < j; i++, j--) {
+        var tmp = longs[i];
+        longs[i] = longs[j];
+        longs[j] = tmp;
+      }
+    }
+    return ArrayLikeHelpers.asVectorFromLongs(longs);
+  }
+
+  private static Object sortDoubles(double[] doubles, boolean ascending) {
+    if (doubles.length >= PARALLEL_SORT_THRESHOLD) {
+      Arrays.parallelSort(doubles);
+    } else {
+      Arrays.sort(doubles);
+    }
+    if (!ascending) {
+      for (int i = 0, j = doubles.length - 1; i < j; i++, j--) {
+        var tmp = doubles[i];
+        doubles[i] = doubles[j];
+        doubles[j] = tmp;
+      }
+    }
+    return ArrayLikeHelpers.asVectorFromDoubles(doubles);
+  }
+
+  /**
+   * Checks that the Java sort orders the values like the default comparator. {@code NaN} is
+   * incomparable and reported as a problem, and {@code -0.0} is equal to {@code 0.0}, whereas the
+   * Java sort puts it first.
+   */
+  private static boolean areTotallyOrdered(double[] doubles) {
+    for (var d : doubles) {
+      if (Double.isNaN(d) || Double.doubleToRawLongBits(d) == NEGATIVE_ZERO_BITS) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private List<Group> splitByComparators(
       List<Object> elements, List<Type> comparators, List<Function> compareFuncs) {
     assert elements.size() == comparators.size();
@@ -0,0 +1,49 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import org.enso.interpreter.dsl.BuiltinMethod;
+import org.enso.interpreter.node.expression.builtin.text.util.ExpectStringNode;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.RegexCache;
+import org.enso.interpreter.runtime.data.text.Text;
+import org.enso.interpreter.runtime.data.vector.ArrayLikeHelpers;
+import org.enso.interpreter.runtime.error.PanicException;
+
+@BuiltinMethod(
+    type = "Prim_Text_Helper",
+    name = "regex_cache_statistics",
+    description =
+        "Returns the hits, misses, evictions, size and capacity of a segment of the regex cache.",
+    autoRegister = false)
+public class RegexCacheStatisticsNode extends Node {
+  private @Child ExpectStringNode expectStringNode = ExpectStringNode.build();
+
+  Object execute(Object segment) {
+    return statistics(expectStringNode.execute(segment));
+  }
+
+  @TruffleBoundary
+  private Object statistics(String segment) {
+    var ctx = EnsoContext.get(this);
+    RegexCache.Statistics statistics =
+        switch (segment) {
+          case "regex" -> ctx.getRegexCache().regexes().statistics();
+          case "replacement" -> ctx.getRegexCache().replacements().statistics();
+          default -> {
+            var msg = "Unknown regex cache segment: " + segment;
+            var args = new Object[] {Text.create(segment)};
+            var err = ctx.getBuiltins().error().makeUnsupportedArgumentsError(args, msg);
+            throw new PanicException(err, this);
+          }
+        };
+    return ArrayLikeHelpers.asVectorFromLongs(
+        new long[] {
+          statistics.hits(),
+          statistics.misses(),
+          statistics.evictions(),
+          statistics.size(),
+          statistics.capacity()
+        });
+  }
+}
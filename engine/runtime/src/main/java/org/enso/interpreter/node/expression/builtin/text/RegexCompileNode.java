@@ -9,6 +9,7 @@ import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.source.Source;
 import org.enso.interpreter.dsl.BuiltinMethod;
 import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.RegexCache;
 import org.enso.interpreter.runtime.builtin.Builtins;
 import org.enso.interpreter.runtime.callable.atom.Atom;
 import org.enso.interpreter.runtime.data.text.Text;
@@ -37,13 +38,13 @@ public abstract class RegexCompileNode extends Node {
       Text options,
       @Cached("pattern.toString()") String cachedPattern,
       @Cached("options.toString()") String cachedOptions,
-      @Cached("compile(cachedPattern, cachedOptions)") Object regex) {
+      @Cached("compileCached(cachedPattern, cachedOptions)") Object regex) {
     return regex;
   }
 
   @Specialization
   Object alwaysCompile(Text pattern, Text options) {
-    return compile(pattern.toString(), options.toString());
+    return compileCached(pattern.toString(), options.toString());
   }
 
   @Fallback
@@ -53,6 +54,23 @@ public abstract class RegexCompileNode extends Node {
     throw new PanicException(err, this);
   }
 
+  /**
+   * Looks the regex up in the {@link RegexCache} of the context, compiling it on a miss. Call sites
+   * seeing more distinct patterns than their inline cache can hold thus still share the compiled
+   * regexes with each other and with the other threads.
+   */
+  @TruffleBoundary
+  Object compileCached(String pattern, String options) {
+    var regexes = EnsoContext.get(this).getRegexCache().regexes();
+    var key = new RegexCache.RegexKey(pattern, options);
+    var regex = regexes.get(key);
+    if (regex == null) {
+      regex = compile(pattern, options);
+      regexes.put(key, regex, pattern.length() + options.length());
+    }
+    return regex;
+  }
+
   @TruffleBoundary
   Object compile(String pattern, String options) {
     var ctx = EnsoContext.get(this);
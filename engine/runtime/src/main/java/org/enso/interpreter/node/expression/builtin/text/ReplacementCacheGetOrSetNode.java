@@ -0,0 +1,67 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import org.enso.interpreter.dsl.BuiltinMethod;
+import org.enso.interpreter.node.BaseNode.TailStatus;
+import org.enso.interpreter.node.callable.InvokeCallableNode;
+import org.enso.interpreter.node.expression.builtin.text.util.ExpectStringNode;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.RegexCache;
+import org.enso.interpreter.runtime.callable.argument.CallArgumentInfo;
+import org.enso.interpreter.runtime.error.DataflowError;
+import org.enso.interpreter.runtime.state.State;
+
+@BuiltinMethod(
+    type = "Prim_Text_Helper",
+    name = "replacement_cache_get_or_set",
+    description =
+        "Returns the replacement cached for the given pattern and replacement string, or computes"
+            + " it with the given function and caches it.",
+    autoRegister = false)
+public class ReplacementCacheGetOrSetNode extends Node {
+  private @Child ExpectStringNode expectStringNode = ExpectStringNode.build();
+  private @Child InvokeCallableNode invokeCallableNode;
+
+  ReplacementCacheGetOrSetNode() {
+    invokeCallableNode =
+        InvokeCallableNode.build(
+            new CallArgumentInfo[] {new CallArgumentInfo()},
+            InvokeCallableNode.DefaultsExecutionMode.EXECUTE,
+            InvokeCallableNode.ArgumentsExecutionMode.PRE_EXECUTED);
+    invokeCallableNode.setTailStatus(TailStatus.NOT_TAIL);
+  }
+
+  Object execute(
+      VirtualFrame frame, State state, Object pattern, Object replacement, Object producer) {
+    var replacements = EnsoContext.get(this).getRegexCache().replacements();
+    var key =
+        new RegexCache.ReplacementKey(
+            expectStringNode.execute(pattern), expectStringNode.execute(replacement));
+    var cached = get(replacements, key);
+    if (cached != null) {
+      return cached;
+    }
+    var nothing = EnsoContext.get(this).getNothing();
+    var value = invokeCallableNode.execute(producer, frame, state, new Object[] {nothing});
+    if (!(value instanceof DataflowError)) {
+      put(replacements, key, value);
+    }
+    return value;
+  }
+
+  @TruffleBoundary
+  private static Object get(
+      RegexCache.Segment<RegexCache.ReplacementKey> replacements, RegexCache.ReplacementKey key) {
+    return replacements.get(key);
+  }
+
+  @TruffleBoundary
+  private static void put(
+      RegexCache.Segment<RegexCache.ReplacementKey> replacements,
+      RegexCache.ReplacementKey key,
+      Object value) {
+    replacements.put(key, value, key.length());
+  }
+}
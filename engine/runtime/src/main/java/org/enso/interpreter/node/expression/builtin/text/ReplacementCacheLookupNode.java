@@ -0,0 +1,32 @@
+package org.enso.interpreter.node.expression.builtin.text;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import org.enso.interpreter.dsl.BuiltinMethod;
+import org.enso.interpreter.node.expression.builtin.text.util.ExpectStringNode;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.RegexCache;
+
+@BuiltinMethod(
+    type = "Prim_Text_Helper",
+    name = "replacement_cache_lookup",
+    description =
+        "Returns the replacement cached for the given pattern and replacement string, or Nothing,"
+            + " for testing purposes.",
+    autoRegister = false)
+public class ReplacementCacheLookupNode extends Node {
+  private @Child ExpectStringNode expectStringNode = ExpectStringNode.build();
+
+  Object execute(Object pattern, Object replacement) {
+    var key =
+        new RegexCache.ReplacementKey(
+            expectStringNode.execute(pattern), expectStringNode.execute(replacement));
+    var value = lookup(key);
+    return value == null ? EnsoContext.get(this).getNothing() : value;
+  }
+
+  @TruffleBoundary
+  private Object lookup(RegexCache.ReplacementKey key) {
+    return EnsoContext.get(this).getRegexCache().replacements().get(key);
+  }
+}
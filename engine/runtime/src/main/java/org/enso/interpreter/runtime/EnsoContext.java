@@ -27,6 +27,7 @@ import org.enso.interpreter.instrument.NotificationHandler;
 import org.enso.interpreter.runtime.Module;
 import org.enso.interpreter.runtime.builtin.Builtins;
 import org.enso.interpreter.runtime.data.Type;
+import org.enso.interpreter.runtime.scope.ModuleScope;
 import org.enso.interpreter.runtime.scope.TopLevelScope;
 import org.enso.interpreter.runtime.state.ExecutionEnvironment;
 import org.enso.interpreter.runtime.state.State;
@@ -76,7 +77,11 @@ public class EnsoContext {
   private @CompilationFinal TopLevelScope topScope;
   private final ThreadManager threadManager;
   private final ThreadExecutors threadExecutors;
+  private ExecutorService parallelExecutor;
   private final ResourceManager resourceManager;
+  private final RegexCache regexCache = new RegexCache();
+  private final ModuleScope.ResolutionValidity scopeResolutionValidity =
+      new ModuleScope.ResolutionValidity();
   private final boolean isInlineCachingDisabled;
   private final boolean isIrCachingDisabled;
   private final boolean shouldWaitForPendingSerializationJobs;
@@ -133,7 +138,8 @@ public class EnsoContext {
             isParallelismEnabled,
             true,
             getOption(RuntimeOptions.STRICT_ERRORS_KEY),
-            scala.Option.empty());
+            scala.Option.empty(),
+            getOption(RuntimeOptions.ENABLE_PARALLEL_COMPILATION_KEY));
     this.home = home;
     this.builtins = new Builtins(this);
     this.notificationHandler = notificationHandler;
@@ -451,6 +457,16 @@ public class EnsoContext {
     return this.topScope;
   }
 
+  /**
+   * Gets the tracker of the changes of the module scopes of this context, which guards their
+   * method and conversion resolution caches.
+   *
+   * @return the tracker of the changes of the module scopes
+   */
+  public ModuleScope.ResolutionValidity getScopeResolutionValidity() {
+    return scopeResolutionValidity;
+  }
+
   /**
    * Returns the atom constructor corresponding to the {@code Nothing} type, for builtin constructs
    * that need to return an atom of this type.
@@ -515,6 +531,26 @@ public class EnsoContext {
     return threadExecutors.newFixedThreadPool(parallel, name, systemThreads);
   }
 
+  /** @return the number of threads taking part in data-parallel operations */
+  public int getParallelism() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Returns the pool running data-parallel operations, such as parallel maps over vectors. The
+   * thread starting such an operation takes part in it, so the pool has one thread less than
+   * {@link #getParallelism()}.
+   *
+   * @return the pool of polyglot threads, created on first use
+   */
+  public synchronized ExecutorService getParallelExecutor() {
+    if (parallelExecutor == null) {
+      parallelExecutor =
+          newFixedThreadPool(Math.max(1, getParallelism() - 1), "enso-parallel", false);
+    }
+    return parallelExecutor;
+  }
+
   /** @return the thread manager for this context. */
   public ThreadManager getThreadManager() {
     return threadManager;
@@ -525,6 +561,11 @@ public class EnsoContext {
     return resourceManager;
   }
 
+  /** @return the cache of compiled regular expressions for this context */
+  public RegexCache getRegexCache() {
+    return regexCache;
+  }
+
   /** @return whether inline caches should be disabled for this context. */
   public boolean isInlineCachingDisabled() {
     return isInlineCachingDisabled;
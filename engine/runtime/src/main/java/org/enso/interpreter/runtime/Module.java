@@ -227,7 +227,8 @@ public final class Module implements EnsoObject {
   /**
    * Sets new literal sources for the module. Optionally one can suggest {@link SimpleUpdate}
    * information to perform small {@link PatchedModuleValues patching} of existing AST, IR & co.
-   * rather than complete re-parse.
+   * rather than complete re-parse. Several literals can be patched by calling this method once per
+   * update; once the module has to be re-compiled, further updates are ignored.
    *
    * @param source the module source.
    * @param update suggested small change in a single literal or {@code null} when complete
@@ -235,7 +236,9 @@ public final class Module implements EnsoObject {
    * @see PatchedModuleValues
    */
   public void setLiteralSource(Rope source, SimpleUpdate update) {
-    if (this.scope != null && update != null) {
+    if (this.scope != null
+        && update != null
+        && compilationStage.isAtLeast(CompilationStage.AFTER_CODEGEN)) {
       var change = update.ir();
       if (this.patchedValues == null) {
         this.patchedValues = new PatchedModuleValues(this);
@@ -260,6 +263,23 @@ public final class Module implements EnsoObject {
     }
     this.sources = this.sources.newWith(source);
     this.compilationStage = CompilationStage.INITIAL;
+    // the offsets of the patched literals do not apply to the re-compiled module
+    disposeInteractive();
+  }
+
+  /**
+   * Sets new literal sources for the module after its edited methods were re-compiled. The
+   * compilation stage is kept, as the module scope already contains the re-compiled methods.
+   *
+   * @param source the module source
+   */
+  void setPatchedLiteralSource(Rope source) {
+    this.sources = this.sources.newWith(source);
+    if (this.patchedValues == null) {
+      this.patchedValues = new PatchedModuleValues(this);
+    } else {
+      this.patchedValues.methodsReplaced();
+    }
   }
 
   /**
@@ -326,22 +346,38 @@ public final class Module implements EnsoObject {
     return newSources.source();
   }
 
+  /**
+   * Constructs source section for current {@link #getSource()} of this module.
+   *
+   * @param sourceStartIndex 0-based offset in the current source
+   * @param sourceLength length in the current source
+   * @return the section or {@code null} if it is outside of the source
+   */
+  public final SourceSection createSection(int sourceStartIndex, int sourceLength) {
+    return createSection(sourceStartIndex, sourceLength, getSourceRevision());
+  }
+
   /**
    * Constructs source section for current {@link #getSource()} of this module.
    *
    * @param sourceStartIndex 0-based offset at the time compilation was performed
    * @param sourceLength length at the time compilation was performed
-   * @return
+   * @param revision the {@link #getSourceRevision() revision} of the source at the time
+   *     compilation was performed
+   * @return the section or {@code null} if it is outside of the source
    */
-  public final SourceSection createSection(int sourceStartIndex, int sourceLength) {
+  public final SourceSection createSection(int sourceStartIndex, int sourceLength, int revision) {
     var src = sources.source();
     if (src == null) {
       return null;
     }
     allSources.put(src, this);
-    var startDelta = patchedValues == null ? 0 : patchedValues.findDelta(sourceStartIndex, false);
+    var startDelta =
+        patchedValues == null ? 0 : patchedValues.findDelta(sourceStartIndex, false, revision);
     var endDelta =
-        patchedValues == null ? 0 : patchedValues.findDelta(sourceStartIndex + sourceLength, true);
+        patchedValues == null
+            ? 0
+            : patchedValues.findDelta(sourceStartIndex + sourceLength, true, revision);
     var start = sourceStartIndex + startDelta;
     var length = sourceLength + endDelta - startDelta;
     if (start + length == src.getLength() + 1) {
@@ -353,6 +389,16 @@ public final class Module implements EnsoObject {
     return src.createSection(start, length);
   }
 
+  /**
+   * The revision of the module source that changes each time literals are patched in place. Code
+   * generated for the module records the revision of the source its locations refer to.
+   *
+   * @return the current revision of the source
+   */
+  public final int getSourceRevision() {
+    return patchedValues == null ? 0 : patchedValues.revision();
+  }
+
   /**
    * Check whether given source has ever been associated with this module.
    *
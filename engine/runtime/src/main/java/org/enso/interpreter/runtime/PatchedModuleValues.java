@@ -14,11 +14,11 @@ import org.enso.interpreter.runtime.tag.Patchable;
 
 /**
  * Keeps patched values for expression in  module. Also keeps mapping of
- * original source offset and new {@link #findDelta(int, boolean) deltas}.
+ * original source offset and new {@link #findDelta(int, boolean, int) deltas}.
  */
 final class PatchedModuleValues {
   private final Module module;
-  private final TreeMap<Integer,int[]> deltas = new TreeMap<>();
+  private final List<int[]> deltas = new ArrayList<>();
   private Map<Node, Predicate<Expression>> values;
 
   PatchedModuleValues(Module module) {
@@ -32,10 +32,10 @@ final class PatchedModuleValues {
 
   /** Keeps "deltas" for each {@code offset} where a modification happened.
    * Edits are always deleting few characters and inserting another few characters
-   * at a given location. The idea here is to use {@code SortedMap} to keep
-   * information about "deltas" at each offset of modification. Whenever new
-   * edit is made, the delta at its offset is recorded and all deltas after
-   * the offset adjusted as they shift too.
+   * at a given location. The deltas are kept in the order of the edits, each
+   * with the offset of its edit in the source as it was before the edit. A
+   * location is moved to the current source by applying the deltas one after
+   * another.
    *
    * @param collect {@link Node} to value map of the values to use
    * @param offset location when a modification happened
@@ -56,17 +56,25 @@ final class PatchedModuleValues {
     if (delta == 0) {
       return;
     }
-    Map.Entry<Integer, int[]> previous = deltas.floorEntry(offset);
-    if (previous == null) {
-      deltas.put(offset, new int[] { delta });
-    } else if (previous.getKey() == offset) {
-      previous.getValue()[0] += delta;
-    } else {
-      deltas.put(offset, new int[] { previous.getValue()[0] + delta });
-    }
-    for (int[] after : deltas.tailMap(offset, false).values()) {
-      after[0] += delta;
-    }
+    deltas.add(new int[] { offset, delta });
+  }
+
+  /** Forgets the patchable values collected so far, because some methods of
+   * the module have been replaced by their re-compiled versions. The values
+   * are collected again from the module scope on the next edit.
+   */
+  synchronized void methodsReplaced() {
+    values = null;
+  }
+
+  /** The revision of the source that locations of newly generated nodes refer
+   * to. The deltas recorded later on apply to these locations, the ones
+   * recorded before do not.
+   *
+   * @return the number of deltas recorded so far
+   */
+  int revision() {
+    return deltas.size();
   }
 
   /** Checks whether a simple edit is applicable and performs it if so.
@@ -166,10 +174,17 @@ final class PatchedModuleValues {
    * @param offset the original location
    * @param inclusive are modifications at the same location going to count or not
    *   - they count for section ends, but do not count for section starts
+   * @param revision the {@link #revision() revision} of the source the location refers to
    * @return positive or negative delta to apply at given offset
    */
-  int findDelta(int offset, boolean inclusive) {
-    Map.Entry<Integer, int[]> previous = inclusive ? deltas.floorEntry(offset) : deltas.lowerEntry(offset);
-    return previous == null ? 0 : previous.getValue()[0];
+  int findDelta(int offset, boolean inclusive, int revision) {
+    int at = offset;
+    for (int i = revision; i < deltas.size(); i++) {
+      var d = deltas.get(i);
+      if (d[0] < at || (inclusive && d[0] == at)) {
+        at += d[1];
+      }
+    }
+    return at - offset;
   }
 }
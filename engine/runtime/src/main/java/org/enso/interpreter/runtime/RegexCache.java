@@ -0,0 +1,135 @@
+package org.enso.interpreter.runtime;
+
+import java.util.LinkedHashMap;
+
+/**
+ * A cache of compiled regular expressions, and of the replacement strings parsed for use with them,
+ * shared by all the threads of a context.
+ *
+ * <p>Each kind of values is kept in its own {@link Segment}, so that a burst of one kind does not
+ * evict the other. Segments are bounded both by their number of entries and by the total length of
+ * their keys, as the size of a compiled regular expression grows with its pattern. The least
+ * recently used entries are evicted first.
+ */
+public final class RegexCache {
+  /** The maximum number of compiled regular expressions. */
+  public static final int MAX_REGEXES = 256;
+
+  /** The maximum number of parsed replacement strings. */
+  public static final int MAX_REPLACEMENTS = 64;
+
+  /** The maximum total length of the keys of a segment. */
+  private static final long MAX_KEY_CHARACTERS = 1 << 20;
+
+  private final Segment<RegexKey> regexes = new Segment<>(MAX_REGEXES, MAX_KEY_CHARACTERS);
+  private final Segment<ReplacementKey> replacements =
+      new Segment<>(MAX_REPLACEMENTS, MAX_KEY_CHARACTERS);
+
+  /** @return the segment of compiled regular expressions */
+  public Segment<RegexKey> regexes() {
+    return regexes;
+  }
+
+  /** @return the segment of parsed replacement strings */
+  public Segment<ReplacementKey> replacements() {
+    return replacements;
+  }
+
+  /**
+   * The key of a compiled regular expression.
+   *
+   * @param pattern the pattern
+   * @param options the regex flags the pattern was compiled with
+   */
+  public record RegexKey(String pattern, String options) {}
+
+  /**
+   * The key of a parsed replacement string. The pattern is part of the key, as references to named
+   * groups in the replacement are resolved to the group numbers of the pattern.
+   *
+   * @param pattern the pattern the replacement is used with
+   * @param replacement the replacement string
+   */
+  public record ReplacementKey(String pattern, String replacement) {
+    /** @return the total length of the pattern and the replacement string */
+    public int length() {
+      return pattern.length() + replacement.length();
+    }
+  }
+
+  /**
+   * A snapshot of the counters of a segment.
+   *
+   * @param hits the number of lookups that found a value
+   * @param misses the number of lookups that found no value
+   * @param evictions the number of entries evicted to fit the bounds
+   * @param size the current number of entries
+   * @param capacity the maximum number of entries
+   */
+  public record Statistics(long hits, long misses, long evictions, int size, int capacity) {}
+
+  /**
+   * A bounded LRU map. All the operations are synchronized, values are computed by the callers
+   * outside of the lock.
+   *
+   * @param <K> the type of keys
+   */
+  public static final class Segment<K> {
+    private final int capacity;
+    private final long maxKeyCharacters;
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long keyCharacters;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private record Entry(Object value, int weight) {}
+
+    private Segment(int capacity, long maxKeyCharacters) {
+      this.capacity = capacity;
+      this.maxKeyCharacters = maxKeyCharacters;
+    }
+
+    /**
+     * Looks up a value, marking it as the most recently used one.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if there is none
+     */
+    public synchronized Object get(K key) {
+      var entry = entries.get(key);
+      if (entry == null) {
+        misses++;
+        return null;
+      }
+      hits++;
+      return entry.value;
+    }
+
+    /**
+     * Stores a value, evicting the least recently used entries if the bounds are exceeded.
+     *
+     * @param key the key
+     * @param value the value
+     * @param weight the length of the key
+     */
+    public synchronized void put(K key, Object value, int weight) {
+      var previous = entries.put(key, new Entry(value, weight));
+      if (previous != null) {
+        keyCharacters -= previous.weight;
+      }
+      keyCharacters += weight;
+      var it = entries.values().iterator();
+      while ((entries.size() > capacity || keyCharacters > maxKeyCharacters) && it.hasNext()) {
+        keyCharacters -= it.next().weight;
+        it.remove();
+        evictions++;
+      }
+    }
+
+    /** @return a snapshot of the counters of this segment */
+    public synchronized Statistics statistics() {
+      return new Statistics(hits, misses, evictions, entries.size(), capacity);
+    }
+  }
+}
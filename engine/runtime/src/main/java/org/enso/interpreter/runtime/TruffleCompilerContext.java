@@ -17,6 +17,7 @@ import org.enso.compiler.context.CompilerContext;
 import org.enso.compiler.context.FreshNameSupply;
 import org.enso.compiler.core.IR;
 import org.enso.compiler.core.ir.Expression;
+import org.enso.compiler.core.ir.module.scope.definition.Method;
 import org.enso.compiler.data.CompilerConfig;
 import org.enso.interpreter.node.ExpressionNode;
 import org.enso.interpreter.runtime.scope.LocalScope;
@@ -25,6 +26,7 @@ import org.enso.interpreter.runtime.scope.TopLevelScope;
 import org.enso.pkg.QualifiedName;
 import org.enso.polyglot.CompilationStage;
 import org.enso.polyglot.RuntimeOptions;
+import org.enso.text.buffer.Rope;
 
 import com.oracle.truffle.api.TruffleFile;
 import com.oracle.truffle.api.TruffleLogger;
@@ -59,6 +61,20 @@ final class TruffleCompilerContext implements CompilerContext {
             .get(RuntimeOptions.USE_GLOBAL_IR_CACHE_LOCATION_KEY);
   }
 
+  @Override
+  public boolean isPreloadLibraryCaches() {
+    return context.getEnvironment().getOptions().get(RuntimeOptions.PRELOAD_LIBRARY_CACHES_KEY);
+  }
+
+  @Override
+  public Optional<TruffleFile> getCompilationProfileFile() {
+    var path = context.getEnvironment().getOptions().get(RuntimeOptions.COMPILATION_PROFILE_KEY);
+    if (path.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(context.getEnvironment().getPublicTruffleFile(path));
+  }
+
   @Override
   public boolean isInteractiveMode() {
     return context.getEnvironment().getOptions().get(RuntimeOptions.INTERACTIVE_MODE_KEY);
@@ -124,6 +140,15 @@ final class TruffleCompilerContext implements CompilerContext {
     new IrToTruffle(context, source, scope, config).run(ir);
   }
 
+  @Override
+  public void truffleRunMethodCodegen(
+      Module module,
+      CompilerConfig config,
+      scala.collection.immutable.List<Method.Explicit> methods)
+      throws IOException {
+    new IrToTruffle(context, module.getSource(), module.getScope(), config).runMethods(methods);
+  }
+
   @Override
   public ExpressionNode truffleRunInline(Source source, LocalScope localScope, Module module, CompilerConfig config, Expression ir) {
     return new IrToTruffle(context, source, module.getScope(), config)
@@ -258,6 +283,7 @@ final class TruffleCompilerContext implements CompilerContext {
     private final Module module;
     private org.enso.compiler.core.ir.Module ir;
     private CompilationStage stage;
+    private Rope patchedLiteralSource;
     private Boolean loadedFromCache;
     private Boolean hasCrossModuleLinks;
     private boolean resetScope;
@@ -277,6 +303,11 @@ final class TruffleCompilerContext implements CompilerContext {
       this.stage = stage;
     }
 
+    @Override
+    public void patchedLiteralSource(Rope source) {
+      this.patchedLiteralSource = source;
+    }
+
     @Override
     public void loadedFromCache(boolean b) {
       this.loadedFromCache = b;
@@ -305,6 +336,9 @@ final class TruffleCompilerContext implements CompilerContext {
       if (stage != null) {
         module.unsafeSetCompilationStage(stage);
       }
+      if (patchedLiteralSource != null) {
+        module.setPatchedLiteralSource(patchedLiteralSource);
+      }
       if (loadedFromCache != null) {
         module.setLoadedFromCache(loadedFromCache);
       }
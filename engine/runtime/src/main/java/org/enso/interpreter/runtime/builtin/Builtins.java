@@ -1,18 +1,7 @@
 package org.enso.interpreter.runtime.builtin;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.nio.charset.StandardCharsets;
-import java.util.AbstractMap;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,12 +12,9 @@ import org.enso.compiler.context.FreshNameSupply;
 import org.enso.compiler.core.CompilerError;
 import org.enso.compiler.phase.BuiltinsIrBuilder;
 import org.enso.interpreter.EnsoLanguage;
-import org.enso.interpreter.dsl.TypeProcessor;
-import org.enso.interpreter.dsl.model.MethodDefinition;
 import org.enso.interpreter.node.expression.builtin.Any;
 import org.enso.interpreter.node.expression.builtin.Boolean;
 import org.enso.interpreter.node.expression.builtin.Builtin;
-import org.enso.interpreter.node.expression.builtin.BuiltinRootNode;
 import org.enso.interpreter.node.expression.builtin.Nothing;
 import org.enso.interpreter.node.expression.builtin.Polyglot;
 import org.enso.interpreter.node.expression.builtin.debug.Debug;
@@ -60,11 +46,9 @@ import com.oracle.truffle.api.CompilerDirectives;
 /** Container class for static predefined atoms, methods, and their containing scope. */
 public final class Builtins {
 
-  private static final List<Constructor<? extends Builtin>> loadedBuiltinConstructors;
   private static final Map<String, LoadedBuiltinMethod> loadedBuiltinMethods;
 
   static {
-    loadedBuiltinConstructors = readBuiltinTypes();
     loadedBuiltinMethods = readBuiltinMethodsMethods();
   }
 
@@ -127,8 +111,10 @@ public final class Builtins {
     EnsoLanguage language = context.getLanguage();
     module = Module.empty(QualifiedName.fromString(MODULE_NAME), null);
     scope = module.compileScope(context);
+    // The context is still being created, so the scope cannot look up its tracker yet.
+    scope.setResolutionValidity(context.getScopeResolutionValidity());
 
-    builtins = initializeBuiltinTypes(loadedBuiltinConstructors, language, scope);
+    builtins = initializeBuiltinTypes(language, scope);
     builtinsByName =
         builtins.values().stream()
             .collect(
@@ -229,66 +215,17 @@ public final class Builtins {
   }
 
   /**
-   * Returns a list of supported builtins.
-   *
-   * <p>Builtin types are marked via @BuiltinType annotation. The metadata file represents a single
-   * builtin type per row. The format of the row is as follows: <Enso name of the builtin
-   * type>:<Name of the class representing it>:[<field1>,<field2>,...] where the last column gives a
-   * list of optional type's fields.
+   * Initialize builtin types in the context of the given language and module scope.
    *
+   * <p>Builtin types are marked via @BuiltinType annotation. Their instances are created by the
+   * {@link BuiltinTypesGen} registry, generated by the annotation processor.
    */
-  private static List<Constructor<? extends Builtin>> readBuiltinTypes() {
-    ClassLoader classLoader = Builtins.class.getClassLoader();
-    List<String> lines;
-    try (InputStream resource = classLoader.getResourceAsStream(TypeProcessor.META_PATH)) {
-      lines =
-          new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))
-              .lines()
-              .collect(Collectors.toList());
-    } catch (Exception ioe) {
-      lines = new ArrayList<>();
-      ioe.printStackTrace();
-    }
-
-    return lines.stream()
-        .map(
-            line -> {
-              String[] builtinMeta = line.split(":");
-              if (builtinMeta.length < 2 || builtinMeta.length > 4) {
-                java.lang.System.out.println(Arrays.toString(builtinMeta));
-                throw new CompilerError("Invalid builtin metadata in: " + line);
-              }
-              try {
-                @SuppressWarnings("unchecked")
-                Class<? extends Builtin> clazz =
-                    (Class<? extends Builtin>) Class.forName(builtinMeta[1]);
-
-                // Note: Don't create a new instance of the builtin at this point
-                // because that will be too much for the inliner and won't get
-                // constant folded.
-                return clazz.getConstructor();
-              } catch (ClassNotFoundException | NoSuchMethodException e) {
-                e.printStackTrace();
-                throw new CompilerError("Invalid builtin type entry: " + builtinMeta[1]);
-              }
-            })
-        .collect(Collectors.toList());
-  }
-
-  /** Initialize builting types in the context of the given language and module scope */
   private Map<Class<? extends Builtin>, Builtin> initializeBuiltinTypes(
-      List<Constructor<? extends Builtin>> constrs, EnsoLanguage language, ModuleScope scope) {
+      EnsoLanguage language, ModuleScope scope) {
     Map<Class<? extends Builtin>, Builtin> builtins = new HashMap<>();
-    constrs.forEach(
-        constr -> {
-          try {
-            Builtin builtin = constr.newInstance();
-            builtins.put(builtin.getClass(), builtin);
-          } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
-            throw new CompilerError("Invalid builtin type entry: " + constr);
-          }
-        });
+    for (Builtin builtin : BuiltinTypesGen.createAll()) {
+      builtins.put(builtin.getClass(), builtin);
+    }
     builtins.values().forEach(b -> b.initialize(language, scope, builtins));
     return builtins;
   }
@@ -339,52 +276,23 @@ public final class Builtins {
   /**
    * Loads a Map of builtin methods.
    *
-   * <p>Builtin methods are marked via @BuiltinMethod annotation. THe metadata file represents a
-   * single builtin method per row. The format of the row is as follows: <Fully qualified name of
-   * the builtin method>:<Class name of the builtin method representing it>
+   * <p>Builtin methods are marked via @BuiltinMethod annotation. They are listed by the {@link
+   * BuiltinMethodsGen} registry, generated by the annotation processor, under their fully
+   * qualified names.
    *
    * @return A map of builtin method nodes per builtin type name
    */
   private static Map<String, LoadedBuiltinMethod> readBuiltinMethodsMethods() {
-    ClassLoader classLoader = Builtins.class.getClassLoader();
-    List<String> lines;
-    try (InputStream resource = classLoader.getResourceAsStream(MethodDefinition.META_PATH)) {
-      lines =
-          new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))
-              .lines()
-              .collect(Collectors.toList());
-    } catch (Exception ioe) {
-      lines = new ArrayList<>();
-      ioe.printStackTrace();
-    }
-
-    return lines.stream()
-            .map(
-                line -> {
-                  String[] builtinMeta = line.split(":");
-                  if (builtinMeta.length != 4) {
-                    throw new CompilerError("Invalid builtin metadata in: " + line);
-                  }
-                  String[] builtinName = builtinMeta[0].split("\\.");
-                  if (builtinName.length != 2) {
-                    throw new CompilerError("Invalid builtin metadata in : " + line);
-                  }
-                  boolean isStatic = java.lang.Boolean.valueOf(builtinMeta[2]);
-                  boolean isAutoRegister = java.lang.Boolean.valueOf(builtinMeta[3]);
-
-                  try {
-                    @SuppressWarnings("unchecked")
-                    Class<BuiltinRootNode> clazz =
-                            (Class<BuiltinRootNode>) Class.forName(builtinMeta[1]);
-                    Method meth = clazz.getMethod("makeFunction", EnsoLanguage.class, boolean.class);
-                    LoadedBuiltinMethod meta = new LoadedBuiltinMethod(meth, isStatic, isAutoRegister);
-                    return new AbstractMap.SimpleEntry<String, LoadedBuiltinMethod>(builtinMeta[0], meta);
-                  } catch (ClassNotFoundException | NoSuchMethodException e) {
-                    e.printStackTrace();
-                    throw new CompilerError("Invalid builtin method " + line);
-                  }
-                })
-           .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    Map<String, LoadedBuiltinMethod> methods = new HashMap<>();
+    BuiltinMethodsGen.registerAll(
+        (fullName, index, isStatic, isAutoRegister) -> {
+          String[] builtinName = fullName.split("\\.");
+          if (builtinName.length != 2) {
+            throw new CompilerError("Invalid builtin metadata in : " + fullName);
+          }
+          methods.put(fullName, new LoadedBuiltinMethod(index, isStatic, isAutoRegister));
+        });
+    return methods;
   }
 
   /**
@@ -636,14 +544,10 @@ public final class Builtins {
     return module;
   }
 
-  private record LoadedBuiltinMethod(Method meth, boolean isStatic, boolean isAutoRegister) {
+  private record LoadedBuiltinMethod(int index, boolean isStatic, boolean isAutoRegister) {
     Optional<BuiltinFunction> toFunction(EnsoLanguage language, boolean isStaticInstance) {
-      try {
-        return Optional.ofNullable((Function) meth.invoke(null, language, isStaticInstance)).map(f-> new BuiltinFunction(f, isAutoRegister));
-      } catch (Exception e) {
-        e.printStackTrace();
-        return Optional.empty();
-      }
+      Function fun = BuiltinMethodsGen.makeFunction(index, language, isStaticInstance);
+      return Optional.ofNullable(fun).map(f -> new BuiltinFunction(f, isAutoRegister));
     }
   }
 
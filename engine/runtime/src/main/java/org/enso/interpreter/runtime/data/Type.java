@@ -100,6 +100,8 @@ public final class Type implements EnsoObject {
       CompilerAsserts.neverPartOfCompilation();
       this.definitionScope.registerAllMethodsOfTypeToScope(this, scope);
       this.definitionScope = scope;
+      // Methods are looked up in the definition scope first, so cached lookups are stale now.
+      scope.invalidateResolutionCaches();
       if (generateAccessorsInTarget) {
         generateQualifiedAccessor();
       }
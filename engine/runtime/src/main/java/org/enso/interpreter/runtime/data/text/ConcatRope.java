@@ -1,9 +1,32 @@
 package org.enso.interpreter.runtime.data.text;
 
-/** Represents a concatenation of two text values. */
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.enso.polyglot.common_utils.Core_Text_Utils;
+
+/**
+ * Represents a concatenation of two text values.
+ *
+ * <p>The operands are either non-empty strings or other ropes. Ropes are kept balanced like AVL
+ * trees: the heights of the operands of any rope differ by at most one, so texts built by
+ * repeatedly appending to them stay logarithmically deep.
+ *
+ * <p>Besides its length and height, every rope lazily computes whether it consists of ASCII
+ * characters only and, if so, its number of grapheme clusters. Every ASCII character is a grapheme
+ * cluster on its own, except for the CR LF pair, so this needs no ICU break iteration.
+ */
 public class ConcatRope {
+  /** Marks the grapheme length that has not been computed yet. */
+  private static final int UNKNOWN = -2;
+
+  /** Marks the grapheme length of a rope that contains non-ASCII characters. */
+  static final int NOT_ASCII = Core_Text_Utils.NOT_ASCII;
+
   private final Object left;
   private final Object right;
+  private final int length;
+  private final int height;
+  private volatile int asciiGraphemeLength = UNKNOWN;
 
   /**
    * Creates a new rope concatenating the arguments.
@@ -11,9 +34,71 @@ public class ConcatRope {
    * @param left the left operand
    * @param right the right operand
    */
-  public ConcatRope(Object left, Object right) {
+  private ConcatRope(Object left, Object right) {
     this.left = left;
     this.right = right;
+    long sum = (long) lengthOf(left) + lengthOf(right);
+    this.length = (int) Math.min(sum, Integer.MAX_VALUE);
+    this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+  }
+
+  /**
+   * Concatenates two text values, rebalancing the resulting rope if necessary.
+   *
+   * @param left the left operand, a string or a rope
+   * @param right the right operand, a string or a rope
+   * @return the concatenation, a string if one of the operands was empty, or a rope
+   */
+  public static Object concat(Object left, Object right) {
+    if (left instanceof String s && s.isEmpty()) {
+      return right;
+    }
+    if (right instanceof String s && s.isEmpty()) {
+      return left;
+    }
+    return join(left, right);
+  }
+
+  private static Object join(Object left, Object right) {
+    int lh = heightOf(left);
+    int rh = heightOf(right);
+    if (lh > rh + 1) {
+      var l = (ConcatRope) left;
+      var joined = join(l.right, right);
+      return balance(l.left, joined);
+    } else if (rh > lh + 1) {
+      var r = (ConcatRope) right;
+      var joined = join(left, r.left);
+      return balance(joined, r.right);
+    } else {
+      return new ConcatRope(left, right);
+    }
+  }
+
+  /**
+   * Creates a rope of two balanced operands whose heights differ by at most two, applying a single
+   * or double rotation if they differ by two.
+   */
+  private static ConcatRope balance(Object left, Object right) {
+    int lh = heightOf(left);
+    int rh = heightOf(right);
+    if (rh > lh + 1) {
+      var r = (ConcatRope) right;
+      if (heightOf(r.right) >= heightOf(r.left)) {
+        return new ConcatRope(new ConcatRope(left, r.left), r.right);
+      }
+      var rl = (ConcatRope) r.left;
+      return new ConcatRope(new ConcatRope(left, rl.left), new ConcatRope(rl.right, r.right));
+    } else if (lh > rh + 1) {
+      var l = (ConcatRope) left;
+      if (heightOf(l.left) >= heightOf(l.right)) {
+        return new ConcatRope(l.left, new ConcatRope(l.right, right));
+      }
+      var lr = (ConcatRope) l.right;
+      return new ConcatRope(new ConcatRope(l.left, lr.left), new ConcatRope(lr.right, right));
+    } else {
+      return new ConcatRope(left, right);
+    }
   }
 
   /** @return the left operand of this concatenation. */
@@ -25,4 +110,98 @@ public class ConcatRope {
   public Object getRight() {
     return right;
   }
+
+  /**
+   * @return the number of UTF-16 code units of this concatenation, saturated at {@link
+   *     Integer#MAX_VALUE}.
+   */
+  public int length() {
+    return length;
+  }
+
+  /** @return the height of this rope, strings being of height zero. */
+  public int height() {
+    return height;
+  }
+
+  /**
+   * Computes the number of grapheme clusters of this rope if it consists of ASCII characters only.
+   *
+   * <p>The value is memoized in every visited rope, so ropes sharing operands with this one do not
+   * scan them again. The traversal is iterative.
+   *
+   * @return the number of grapheme clusters, or {@link #NOT_ASCII}
+   */
+  public int asciiGraphemeLength() {
+    int result = asciiGraphemeLength;
+    if (result != UNKNOWN) {
+      return result;
+    }
+    Deque<ConcatRope> workStack = new ArrayDeque<>();
+    workStack.push(this);
+    while (!workStack.isEmpty()) {
+      var rope = workStack.peek();
+      if (rope.asciiGraphemeLength != UNKNOWN) {
+        workStack.pop();
+        continue;
+      }
+      boolean pending = false;
+      if (rope.left instanceof ConcatRope l && l.asciiGraphemeLength == UNKNOWN) {
+        workStack.push(l);
+        pending = true;
+      }
+      if (rope.right instanceof ConcatRope r && r.asciiGraphemeLength == UNKNOWN) {
+        workStack.push(r);
+        pending = true;
+      }
+      if (!pending) {
+        workStack.pop();
+        rope.asciiGraphemeLength = rope.combineAsciiGraphemeLengths();
+      }
+    }
+    return asciiGraphemeLength;
+  }
+
+  /** Combines the already computed grapheme lengths of the operands. */
+  private int combineAsciiGraphemeLengths() {
+    int l = knownAsciiGraphemeLength(left);
+    if (l == NOT_ASCII) {
+      return NOT_ASCII;
+    }
+    int r = knownAsciiGraphemeLength(right);
+    if (r == NOT_ASCII) {
+      return NOT_ASCII;
+    }
+    boolean crlfAcrossOperands = lastChar(left) == '\r' && firstChar(right) == '\n';
+    return l + r - (crlfAcrossOperands ? 1 : 0);
+  }
+
+  private static int knownAsciiGraphemeLength(Object operand) {
+    return operand instanceof ConcatRope rope
+        ? rope.asciiGraphemeLength
+        : Core_Text_Utils.asciiGraphemeLength((String) operand);
+  }
+
+  private static char firstChar(Object operand) {
+    while (operand instanceof ConcatRope rope) {
+      operand = rope.left;
+    }
+    return ((String) operand).charAt(0);
+  }
+
+  private static char lastChar(Object operand) {
+    while (operand instanceof ConcatRope rope) {
+      operand = rope.right;
+    }
+    var string = (String) operand;
+    return string.charAt(string.length() - 1);
+  }
+
+  private static int lengthOf(Object operand) {
+    return operand instanceof ConcatRope rope ? rope.length : ((String) operand).length();
+  }
+
+  private static int heightOf(Object operand) {
+    return operand instanceof ConcatRope rope ? rope.height : 0;
+  }
 }
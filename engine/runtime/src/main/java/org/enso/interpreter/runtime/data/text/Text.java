@@ -1,9 +1,9 @@
 package org.enso.interpreter.runtime.data.text;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.enso.interpreter.dsl.Builtin;
 import org.enso.interpreter.node.expression.builtin.text.util.ToJavaStringNode;
@@ -25,7 +25,16 @@ import com.oracle.truffle.api.library.ExportMessage;
 @ExportLibrary(InteropLibrary.class)
 @ExportLibrary(TypesLibrary.class)
 public final class Text implements EnsoObject {
-  private static final Lock LOCK = new ReentrantLock();
+  private static final VarHandle CONTENTS;
+
+  static {
+    try {
+      CONTENTS = MethodHandles.lookup().findVarHandle(Text.class, "contents", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
   private volatile Object contents;
   private volatile int length = -1;
   private volatile FcdNormalized fcdNormalized = FcdNormalized.UNKNOWN;
@@ -36,11 +45,7 @@ public final class Text implements EnsoObject {
     UNKNOWN
   }
 
-  private Text(String string) {
-    this.contents = string;
-  }
-
-  private Text(ConcatRope contents) {
+  private Text(Object contents) {
     this.contents = contents;
   }
 
@@ -84,6 +89,11 @@ public final class Text implements EnsoObject {
         return false;
       }
       case UNKNOWN -> {
+        if (asciiGraphemeLength() != ConcatRope.NOT_ASCII) {
+          // ASCII characters have no decompositions.
+          setFcdNormalized(true);
+          return true;
+        }
         Normalizer2 normalizer = Normalizer2.getNFDInstance();
         boolean isNormalized = normalizer.isNormalized(toString());
         setFcdNormalized(isNormalized);
@@ -111,7 +121,7 @@ public final class Text implements EnsoObject {
    * @return a Text representing concatenation of t1 and t2.
    */
   public static Text create(Text t1, Text t2) {
-    return new Text(new ConcatRope(t1.contents, t2.contents));
+    return new Text(ConcatRope.concat(t1.contents, t2.contents));
   }
 
   /**
@@ -122,7 +132,7 @@ public final class Text implements EnsoObject {
    * @return a Text representing concatenation of t1 and t2.
    */
   public static Text create(Text t1, String t2) {
-    return new Text(new ConcatRope(t1.contents, t2));
+    return new Text(ConcatRope.concat(t1.contents, t2));
   }
 
   /**
@@ -133,7 +143,7 @@ public final class Text implements EnsoObject {
    * @return a Text representing concatenation of t1 and t2.
    */
   public static Text create(String t1, Text t2) {
-    return new Text(new ConcatRope(t1, t2.contents));
+    return new Text(ConcatRope.concat(t1, t2.contents));
   }
 
   /**
@@ -144,7 +154,7 @@ public final class Text implements EnsoObject {
    * @return a Text representing concatenation of t1 and t2.
    */
   public static Text create(String t1, String t2) {
-    return new Text(new ConcatRope(t1, t2));
+    return new Text(ConcatRope.concat(t1, t2));
   }
 
   /**
@@ -154,7 +164,7 @@ public final class Text implements EnsoObject {
    * @return the concatenation of this and the requested string.
    */
   public Text add(String other) {
-    return new Text(new ConcatRope(this.contents, other));
+    return new Text(ConcatRope.concat(this.contents, other));
   }
 
   /**
@@ -164,7 +174,7 @@ public final class Text implements EnsoObject {
    * @return the concatenation of this and the requested text.
    */
   public Text add(Text other) {
-    return new Text(new ConcatRope(this.contents, other.contents));
+    return new Text(ConcatRope.concat(this.contents, other.contents));
   }
 
   @ExportMessage
@@ -179,9 +189,26 @@ public final class Text implements EnsoObject {
 
   @CompilerDirectives.TruffleBoundary
   private int computeLength() {
+    int asciiLength = asciiGraphemeLength();
+    if (asciiLength != ConcatRope.NOT_ASCII) {
+      return asciiLength;
+    }
     return Core_Text_Utils.computeGraphemeLength(toString());
   }
 
+  /**
+   * Computes the number of grapheme clusters without flattening the text or using ICU, if the text
+   * consists of ASCII characters only.
+   */
+  private int asciiGraphemeLength() {
+    Object c = this.contents;
+    if (c instanceof String s) {
+      return Core_Text_Utils.asciiGraphemeLength(s);
+    } else {
+      return ((ConcatRope) c).asciiGraphemeLength();
+    }
+  }
+
   @CompilerDirectives.TruffleBoundary
   @ExportMessage
   String toDisplayString(
@@ -201,11 +228,6 @@ public final class Text implements EnsoObject {
     return true;
   }
 
-  private void setContents(String contents) {
-    assert length == -1 || length == contents.length();
-    this.contents = contents;
-  }
-
   private void setFcdNormalized(boolean flag) {
     if (flag) {
       fcdNormalized = FcdNormalized.YES;
@@ -237,38 +259,45 @@ public final class Text implements EnsoObject {
   /**
    * Converts text to a Java String. For use outside of Truffle Nodes.
    *
+   * <p>The rope is flattened without any locking. The flattened string is published with a
+   * compare-and-set, so threads racing to flatten the same text all end up sharing the string that
+   * was published first.
+   *
    * @param text the text to convert.
    * @return the result of conversion.
    */
   @CompilerDirectives.TruffleBoundary
   private static String flattenIfNecessary(Text text) {
-    LOCK.lock();
-    String result;
-    try {
-      Object c = text.contents;
-      if (c instanceof String s) {
-        result = s;
-      } else {
-        Deque<Object> workStack = new ArrayDeque<>();
-        StringBuilder bldr = new StringBuilder();
-        workStack.push(c);
-        while (!workStack.isEmpty()) {
-          Object item = workStack.pop();
-          if (item instanceof String) {
-            bldr.append((String) item);
-          } else {
-            ConcatRope rope = (ConcatRope) item;
-            workStack.push(rope.getRight());
-            workStack.push(rope.getLeft());
-          }
-        }
-        result = bldr.toString();
-        text.setContents(result);
-      }
-    } finally {
-      LOCK.unlock();
+    Object c = text.contents;
+    if (c instanceof String s) {
+      return s;
+    }
+    String result = flatten((ConcatRope) c);
+    if (CONTENTS.compareAndSet(text, c, result)) {
+      return result;
     }
-    return result;
+    return (String) text.contents;
   }
 
+  /**
+   * Appends the leaves of a rope, from left to right, to a builder sized to fit them exactly. Left
+   * branches are descended in a loop and only the right ones are deferred, so that ropes of any
+   * depth are flattened in linear time without recursion.
+   */
+  private static String flatten(ConcatRope rope) {
+    StringBuilder bldr = new StringBuilder(rope.length());
+    Deque<Object> rightBranches = new ArrayDeque<>();
+    Object item = rope;
+    while (true) {
+      while (item instanceof ConcatRope r) {
+        rightBranches.push(r.getRight());
+        item = r.getLeft();
+      }
+      bldr.append((String) item);
+      if (rightBranches.isEmpty()) {
+        return bldr.toString();
+      }
+      item = rightBranches.pop();
+    }
+  }
 }
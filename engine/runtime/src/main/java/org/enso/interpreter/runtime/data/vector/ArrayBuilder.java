@@ -86,6 +86,22 @@ final class ArrayBuilder implements EnsoObject {
         primitiveArray = null;
         add(e);
       }
+    } else if (primitiveArray instanceof boolean[] booleanArray) {
+      if (e instanceof Boolean b) {
+        if (size == booleanArray.length) {
+          CompilerDirectives.transferToInterpreter();
+          primitiveArray = booleanArray = Arrays.copyOf(booleanArray, size * 2);
+        }
+        booleanArray[size++] = b;
+      } else {
+        CompilerDirectives.transferToInterpreter();
+        objectArray = new Object[booleanArray.length];
+        for (int i = 0; i < size; i++) {
+          objectArray[i] = booleanArray[i];
+        }
+        primitiveArray = null;
+        add(e);
+      }
     } else {
       assert objectArray == null;
       assert primitiveArray == null;
@@ -98,6 +114,10 @@ final class ArrayBuilder implements EnsoObject {
         var arr = new double[initialCapacity];
         arr[0] = d;
         primitiveArray = arr;
+      } else if (e instanceof Boolean b) {
+        var arr = new boolean[initialCapacity];
+        arr[0] = b;
+        primitiveArray = arr;
       } else {
         var arr = new Object[initialCapacity];
         arr[0] = e;
@@ -119,6 +139,8 @@ final class ArrayBuilder implements EnsoObject {
           return longArray[index];
         } else if (primitiveArray instanceof double[] doubleArray) {
           return doubleArray[index];
+        } else if (primitiveArray instanceof boolean[] booleanArray) {
+          return booleanArray[index];
         }
       }
       throw new ArrayIndexOutOfBoundsException();
@@ -137,11 +159,37 @@ final class ArrayBuilder implements EnsoObject {
       return longArray.length == size ? longArray : Arrays.copyOf(longArray, size);
     } else if (primitiveArray instanceof double[] doubleArray) {
       return doubleArray.length == size ? doubleArray : Arrays.copyOf(doubleArray, size);
+    } else if (primitiveArray instanceof boolean[] booleanArray) {
+      return booleanArray.length == size ? booleanArray : Arrays.copyOf(booleanArray, size);
     } else {
       return EMPTY_ARRAY;
     }
   }
 
+  /**
+   * Creates a vector of the elements added to the builder. Elements that are all {@code long},
+   * {@code double} or {@code boolean} values are kept unboxed in the vector.
+   *
+   * @param ensoOnly whether all the elements are known to be Enso values without warnings
+   * @return the vector
+   */
+  Object toVector(boolean ensoOnly) {
+    var arr = toArray();
+    if (arr instanceof long[] longs) {
+      return Vector.fromLongArray(longs);
+    }
+    if (arr instanceof double[] doubles) {
+      return Vector.fromDoubleArray(doubles);
+    }
+    if (arr instanceof boolean[] booleans) {
+      return Vector.fromBooleanArray(booleans);
+    }
+    if (ensoOnly) {
+      return Vector.fromEnsoOnlyArray((Object[]) arr);
+    }
+    return Vector.fromInteropArray(new Array((Object[]) arr));
+  }
+
   int getSize() {
     return size;
   }
@@ -180,16 +228,7 @@ final class ArrayBuilder implements EnsoObject {
         yield get(index, iop);
       }
       case "getSize" -> getSize();
-      case "toArray" -> {
-        var arr = toArray();
-        if (arr instanceof long[] longs) {
-          yield Vector.fromLongArray(longs);
-        }
-        if (arr instanceof double[] doubles) {
-          yield Vector.fromDoubleArray(doubles);
-        }
-        yield Vector.fromInteropArray(new Array((Object[])arr));
-      }
+      case "toArray" -> toVector(false);
       default -> throw UnknownIdentifierException.create(name);
     };
   }
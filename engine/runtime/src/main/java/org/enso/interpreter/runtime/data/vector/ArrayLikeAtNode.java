@@ -47,6 +47,11 @@ public abstract class ArrayLikeAtNode extends Node {
     return self.readArrayElement(index);
   }
 
+  @Specialization
+  Object vectorBooleanAt(Vector.Boolean self, long index) throws InvalidArrayIndexException {
+    return self.readArrayElement(index);
+  }
+
   @Specialization
   Object vectorAt(
       Vector.Generic self,
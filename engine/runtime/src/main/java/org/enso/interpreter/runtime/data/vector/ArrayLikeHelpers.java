@@ -99,18 +99,23 @@ public final class ArrayLikeHelpers {
       }
       target.add(value);
     }
-    var res = target.toArray();
-    if (res instanceof long[] longs) {
-      return Vector.fromLongArray(longs);
-    }
-    if (res instanceof double[] doubles) {
-      return Vector.fromDoubleArray(doubles);
-    }
-    if (nonTrivialEnsoValue) {
-      return Vector.fromInteropArray(new Array((Object[])res));
-    } else {
-      return Vector.fromEnsoOnlyArray((Object[])res);
-    }
+    return target.toVector(!nonTrivialEnsoValue);
+  }
+
+  @Builtin.Method(
+      name = "map_parallel",
+      description = "Applies a function to all elements of an array-like object in parallel.",
+      autoRegister = false)
+  public static Object mapParallel(Object arrayLike, Function fun, State state) {
+    return ParallelArrayLike.map(arrayLike, fun, state);
+  }
+
+  @Builtin.Method(
+      name = "reduce_parallel",
+      description = "Combines the elements of an array-like object in parallel.",
+      autoRegister = false)
+  public static Object reduceParallel(Object arrayLike, Function fun, State state) {
+    return ParallelArrayLike.reduce(arrayLike, fun, state);
   }
 
   @Builtin.Method(
@@ -158,4 +163,32 @@ public final class ArrayLikeHelpers {
   public static EnsoObject asVectorFromArray(Object storage) {
     return Vector.fromInteropArray(storage);
   }
+
+  public static EnsoObject asVectorFromLongs(long[] storage) {
+    return Vector.fromLongArray(storage);
+  }
+
+  public static EnsoObject asVectorFromDoubles(double[] storage) {
+    return Vector.fromDoubleArray(storage);
+  }
+
+  /**
+   * Copies the elements of a vector backed by a {@code long[]}.
+   *
+   * @param obj array like object
+   * @return a copy of the elements, or {@code null} if the object is not such a vector
+   */
+  public static long[] copyLongsOrNull(Object obj) {
+    return obj instanceof Vector.Long vector ? vector.copyStorage() : null;
+  }
+
+  /**
+   * Copies the elements of a vector backed by a {@code double[]}.
+   *
+   * @param obj array like object
+   * @return a copy of the elements, or {@code null} if the object is not such a vector
+   */
+  public static double[] copyDoublesOrNull(Object obj) {
+    return obj instanceof Vector.Double vector ? vector.copyStorage() : null;
+  }
 }
@@ -41,6 +41,11 @@ public abstract class ArrayLikeLengthNode extends Node {
     return self.getArraySize();
   }
 
+  @Specialization
+  static long vectorBooleanLength(Vector.Boolean self) {
+    return self.getArraySize();
+  }
+
   @Specialization
   long vectorLength(
       Vector.Generic self, @Exclusive @CachedLibrary(limit = "3") InteropLibrary iop) {
@@ -0,0 +1,277 @@
+package org.enso.interpreter.runtime.data.vector;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleSafepoint;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.enso.interpreter.node.callable.InteropApplicationNode;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.interpreter.runtime.callable.function.Function;
+import org.enso.interpreter.runtime.data.EnsoObject;
+import org.enso.interpreter.runtime.error.DataflowError;
+import org.enso.interpreter.runtime.error.WarningsLibrary;
+import org.enso.interpreter.runtime.state.State;
+
+/**
+ * Data-parallel operations on array-like objects.
+ *
+ * <p>The index range is split into contiguous partitions. The first partition is processed by the
+ * calling thread, the others by the {@link EnsoContext#getParallelExecutor() parallel executor} of
+ * the context. Each partition is processed in index order and stops at its first failure. The
+ * partitions are awaited in index order, so the first failure found is the one at the lowest index:
+ * the remaining partitions are then stopped and the failure is reported, a dataflow error is
+ * returned and a panic is rethrown. As long as the applied function is pure, the result is thus the
+ * same as the one of the sequential operation. No task started by an operation is still running
+ * once it returns.
+ *
+ * <p>The function is called with the state of the caller in every thread, so that it runs in the
+ * same execution environment as it would sequentially. The state is shared by the threads: reading
+ * it is safe, changing it is one of the side effects the function must not have.
+ */
+final class ParallelArrayLike {
+  /** The number of partitions created per thread, to balance uneven work. */
+  private static final int PARTITIONS_PER_THREAD = 4;
+
+  /**
+   * Set in the threads of the parallel executor. Nested operations run sequentially there, as
+   * waiting for tasks queued behind the running ones could exhaust the pool.
+   */
+  private static final ThreadLocal<Boolean> IN_WORKER = ThreadLocal.withInitial(() -> false);
+
+  private ParallelArrayLike() {}
+
+  /**
+   * Applies a function to each element of an array-like object.
+   *
+   * @param arrayLike the array-like object
+   * @param function the function to apply
+   * @param state the state of the caller
+   * @return a vector of the results, or the first dataflow error returned by the function
+   */
+  @TruffleBoundary
+  static Object map(Object arrayLike, Function function, State state) {
+    var length = Math.toIntExact(ArrayLikeLengthNode.getUncached().executeLength(arrayLike));
+    var results = new Object[length];
+    var failure =
+        runPartitioned(
+            length,
+            (from, to, stop) -> {
+              for (int i = from; i < to && !stop.get(); i++) {
+                var value = execute(function, state, at(arrayLike, i));
+                if (value instanceof DataflowError) {
+                  return new Failure(value, null);
+                }
+                results[i] = value;
+              }
+              return null;
+            });
+    if (failure != null) {
+      return failure.report();
+    }
+
+    var warnings = WarningsLibrary.getUncached();
+    var builder = ArrayBuilder.newBuilder(length);
+    var ensoOnly = true;
+    for (var value : results) {
+      var isEnsoValue =
+          value instanceof EnsoObject
+              || value instanceof Boolean
+              || value instanceof Long
+              || value instanceof Double;
+      if (!isEnsoValue || warnings.hasWarnings(value)) {
+        ensoOnly = false;
+      }
+      builder.add(value);
+    }
+    return builder.toVector(ensoOnly);
+  }
+
+  /**
+   * Combines the elements of a non-empty array-like object using an associative binary function.
+   *
+   * <p>Each partition is reduced separately, and the partial results are then combined in the
+   * index order.
+   *
+   * @param arrayLike the array-like object
+   * @param function the function combining two values
+   * @param state the state of the caller
+   * @return the combined value, or the first dataflow error returned by the function
+   */
+  @TruffleBoundary
+  static Object reduce(Object arrayLike, Function function, State state) {
+    var length = Math.toIntExact(ArrayLikeLengthNode.getUncached().executeLength(arrayLike));
+    if (length == 0) {
+      throw new IllegalArgumentException("Cannot reduce an empty array.");
+    }
+    var partials = new ConcurrentSkipListMap<Integer, Object>();
+    var failure =
+        runPartitioned(
+            length,
+            (from, to, stop) -> {
+              var acc = at(arrayLike, from);
+              for (int i = from + 1; i < to; i++) {
+                if (stop.get()) {
+                  return null;
+                }
+                acc = execute(function, state, acc, at(arrayLike, i));
+                if (acc instanceof DataflowError) {
+                  return new Failure(acc, null);
+                }
+              }
+              partials.put(from, acc);
+              return null;
+            });
+    if (failure != null) {
+      return failure.report();
+    }
+
+    Object acc = null;
+    for (var partial : partials.values()) {
+      acc = acc == null ? partial : execute(function, state, acc, partial);
+      if (acc instanceof DataflowError) {
+        return acc;
+      }
+    }
+    return acc;
+  }
+
+  /**
+   * Processes the elements in the range from {@code from} inclusive to {@code to} exclusive.
+   *
+   * <p>The {@code stop} flag is checked before each element. It is set once the result of the
+   * operation is known not to depend on this partition, e.g. after a failure in an earlier one. The
+   * partition may then return {@code null} without processing the rest of its elements.
+   */
+  @FunctionalInterface
+  private interface Partition {
+    /**
+     * @return the failure at the lowest index of the range, or {@code null}
+     */
+    Failure process(int from, int to, AtomicBoolean stop);
+  }
+
+  /**
+   * A failure of processing an element.
+   *
+   * @param error the returned dataflow error, or {@code null}
+   * @param panic the thrown exception, or {@code null}
+   */
+  private record Failure(Object error, RuntimeException panic) {
+    Object report() {
+      if (panic != null) {
+        throw panic;
+      }
+      return error;
+    }
+  }
+
+  private static Failure runPartitioned(int length, Partition partition) {
+    var context = EnsoContext.get(null);
+    int threads = context.getParallelism();
+    int count = Math.min(length, threads * PARTITIONS_PER_THREAD);
+    var stop = new AtomicBoolean();
+    if (threads <= 1
+        || count <= 1
+        || IN_WORKER.get()
+        || !context.getEnvironment().isCreateThreadAllowed()) {
+      return processSafely(partition, 0, length, stop);
+    }
+
+    var executor = context.getParallelExecutor();
+    var futures = new ArrayList<Future<Failure>>(count - 1);
+    try {
+      for (int p = 1; p < count; p++) {
+        int from = bound(length, count, p);
+        int to = bound(length, count, p + 1);
+        futures.add(
+            executor.submit(
+                () -> {
+                  if (stop.get()) {
+                    return null;
+                  }
+                  var token = context.getThreadManager().enter();
+                  IN_WORKER.set(true);
+                  try {
+                    return processSafely(partition, from, to, stop);
+                  } finally {
+                    IN_WORKER.set(false);
+                    context.getThreadManager().leave(token);
+                  }
+                }));
+      }
+      var failure = processSafely(partition, 0, bound(length, count, 1), stop);
+      for (var future : futures) {
+        if (failure != null) {
+          break;
+        }
+        failure = await(future);
+      }
+      return failure;
+    } finally {
+      // The partitions are awaited in index order, so the remaining ones cannot change the result.
+      // They are stopped, and waited for so that none of them still runs the function once the
+      // operation returns.
+      stop.set(true);
+      for (var future : futures) {
+        awaitDone(future);
+      }
+    }
+  }
+
+  private static int bound(int length, int count, int partition) {
+    return (int) ((long) length * partition / count);
+  }
+
+  private static Failure processSafely(Partition partition, int from, int to, AtomicBoolean stop) {
+    try {
+      return partition.process(from, to, stop);
+    } catch (RuntimeException panic) {
+      return new Failure(null, panic);
+    }
+  }
+
+  private static Failure await(Future<Failure> future) {
+    awaitDone(future);
+    try {
+      return future.get();
+    } catch (InterruptedException | CancellationException e) {
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** Waits for the task to finish, leaving its failures to be reported by the caller. */
+  private static void awaitDone(Future<Failure> future) {
+    TruffleSafepoint.setBlockedThreadInterruptible(
+        null,
+        f -> {
+          try {
+            f.get();
+          } catch (ExecutionException | CancellationException e) {
+            // Reported by the caller, once the future is done.
+          }
+        },
+        future);
+  }
+
+  private static Object at(Object arrayLike, int index) {
+    try {
+      return ArrayLikeAtNode.getUncached().executeAt(arrayLike, index);
+    } catch (InvalidArrayIndexException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Object execute(Function function, State state, Object... arguments) {
+    return InteropApplicationNode.getUncached().execute(function, state, arguments);
+  }
+}
@@ -122,6 +122,10 @@ abstract class Vector implements EnsoObject {
     return new Double(arr);
   }
 
+  static Vector fromBooleanArray(boolean[] arr) {
+    return new Boolean(arr);
+  }
+
   static Object fromEnsoOnlyArray(Object[] arr) {
     return new EnsoOnly(arr);
   }
@@ -289,6 +293,11 @@ abstract class Vector implements EnsoObject {
       this.storage = storage;
     }
 
+    /** @return a copy of the elements of this vector */
+    double[] copyStorage() {
+      return storage.clone();
+    }
+
     @ExportMessage
     long getArraySize() {
       return storage.length;
@@ -352,6 +361,11 @@ abstract class Vector implements EnsoObject {
       this.storage = storage;
     }
 
+    /** @return a copy of the elements of this vector */
+    long[] copyStorage() {
+      return storage.clone();
+    }
+
     @ExportMessage
     long getArraySize() {
       return storage.length;
@@ -392,4 +406,54 @@ abstract class Vector implements EnsoObject {
       return false;
     }
   }
+
+  @ExportLibrary(value = InteropLibrary.class)
+  @ExportLibrary(value = WarningsLibrary.class)
+  static final class Boolean extends Vector {
+    private final boolean[] storage;
+
+    private Boolean(boolean[] storage) {
+      this.storage = storage;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+      return storage.length;
+    }
+
+    @ExportMessage
+    Object readArrayElement(long index) throws InvalidArrayIndexException {
+      try {
+        return storage[Math.toIntExact(index)];
+      } catch (ArithmeticException | IndexOutOfBoundsException ex) {
+        throw InvalidArrayIndexException.create(index);
+      }
+    }
+
+    @ExportMessage
+    boolean isArrayElementReadable(long index) {
+      var size = storage.length;
+      return index < size && index >= 0;
+    }
+
+    @ExportMessage
+    boolean hasWarnings() {
+      return false;
+    }
+
+    @ExportMessage
+    Warning[] getWarnings(Node location) throws UnsupportedMessageException {
+      return new Warning[0];
+    }
+
+    @ExportMessage
+    Boolean removeWarnings() {
+      return this;
+    }
+
+    @ExportMessage
+    boolean isLimitReached() {
+      return false;
+    }
+  }
 }
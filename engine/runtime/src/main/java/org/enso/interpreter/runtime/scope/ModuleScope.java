@@ -1,6 +1,8 @@
 package org.enso.interpreter.runtime.scope;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -11,6 +13,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.interpreter.runtime.Module;
 import org.enso.interpreter.runtime.callable.function.Function;
 import org.enso.interpreter.runtime.data.EnsoObject;
@@ -28,6 +31,8 @@ public final class ModuleScope implements EnsoObject {
   private Map<Type, Map<Type, Function>> conversions;
   private Set<ModuleScope> imports;
   private Set<ModuleScope> exports;
+  private volatile ResolutionCache resolutionCache;
+  private volatile ResolutionValidity resolutionValidity;
 
   private static final Type noTypeKey;
 
@@ -125,9 +130,24 @@ public final class ModuleScope implements EnsoObject {
       throw new RedefinedMethodException(type.getName(), method);
     } else {
       methodMap.put(method, function);
+      invalidateResolutionCaches();
     }
   }
 
+  /**
+   * Replaces a method defined for a given type with its re-compiled version.
+   *
+   * @param type the type the method was defined for
+   * @param method method name
+   * @param function the new {@link Function} associated with this definition
+   * @return the previously registered function, or {@code null} if there was none
+   */
+  public Function replaceMethod(Type type, String method, Function function) {
+    var previous = ensureMethodMapFor(type).put(method, function);
+    invalidateResolutionCaches();
+    return previous;
+  }
+
   /**
    * Returns a list of the conversion methods defined in this module for a given constructor.
    *
@@ -159,6 +179,7 @@ public final class ModuleScope implements EnsoObject {
       throw new RedefinedConversionException(toType.getName(), fromType.getName());
     } else {
       sourceMap.put(fromType, function);
+      invalidateResolutionCaches();
     }
   }
 
@@ -185,6 +206,18 @@ public final class ModuleScope implements EnsoObject {
    */
   @TruffleBoundary
   public Function lookupMethodDefinition(Type type, String name) {
+    var methodCache = getResolutionCache().methods;
+    var key = new MethodKey(type, name);
+    var cached = methodCache.get(key);
+    if (cached == null) {
+      var resolved = resolveMethodDefinition(type, name);
+      cached = resolved == null ? NOT_FOUND : resolved;
+      methodCache.putIfAbsent(key, cached);
+    }
+    return cached == NOT_FOUND ? null : (Function) cached;
+  }
+
+  private Function resolveMethodDefinition(Type type, String name) {
     Function definedWithAtom = type.getDefinitionScope().getMethodMapFor(type).get(name);
     if (definedWithAtom != null) {
       return definedWithAtom;
@@ -202,8 +235,27 @@ public final class ModuleScope implements EnsoObject {
         .orElse(null);
   }
 
+  /**
+   * Looks up the conversion from a given type to the target type.
+   *
+   * @param type the type to convert from
+   * @param target the type to convert to
+   * @return the matching conversion definition or null if not found
+   */
   @TruffleBoundary
   public Function lookupConversionDefinition(Type type, Type target) {
+    var conversionCache = getResolutionCache().conversions;
+    var key = new ConversionKey(type, target);
+    var cached = conversionCache.get(key);
+    if (cached == null) {
+      var resolved = resolveConversionDefinition(type, target);
+      cached = resolved == null ? NOT_FOUND : resolved;
+      conversionCache.putIfAbsent(key, cached);
+    }
+    return cached == NOT_FOUND ? null : (Function) cached;
+  }
+
+  private Function resolveConversionDefinition(Type type, Type target) {
     Function definedWithAtom = type.getDefinitionScope().getConversionsFor(target).get(type);
     if (definedWithAtom != null) {
       return definedWithAtom;
@@ -219,6 +271,105 @@ public final class ModuleScope implements EnsoObject {
         .orElse(null);
   }
 
+  /**
+   * Returns the resolution cache of this scope, replacing it with an empty one if any scope changed
+   * since it was created.
+   */
+  private ResolutionCache getResolutionCache() {
+    var cache = resolutionCache;
+    if (cache == null || !cache.valid.isValid()) {
+      cache = new ResolutionCache(getResolutionValidity().current());
+      resolutionCache = cache;
+    }
+    return cache;
+  }
+
+  /**
+   * Returns the tracker of the changes of the scopes of the context this scope belongs to, looking
+   * it up on first use.
+   */
+  private ResolutionValidity getResolutionValidity() {
+    var validity = resolutionValidity;
+    if (validity == null) {
+      validity = EnsoContext.get(null).getScopeResolutionValidity();
+      resolutionValidity = validity;
+    }
+    return validity;
+  }
+
+  /**
+   * Sets the tracker of the changes of the scopes of the context this scope belongs to. Only
+   * needed for scopes used while the context is being created, when it cannot be looked up yet.
+   *
+   * @param validity the tracker of the context
+   */
+  public void setResolutionValidity(ResolutionValidity validity) {
+    this.resolutionValidity = validity;
+  }
+
+  /**
+   * Invalidates the method and conversion resolution caches of all scopes of the context, e.g.
+   * after the definition scope of a type changed.
+   */
+  public void invalidateResolutionCaches() {
+    getResolutionValidity().invalidate();
+  }
+
+  /**
+   * Tracks the changes of all module scopes of a context. Resolution results may depend on other
+   * scopes (the definition scope of the type, imported scopes and the scopes they export), so any
+   * change invalidates the resolution caches of all scopes of the context.
+   */
+  public static final class ResolutionValidity {
+    /**
+     * Valid as long as no method or conversion was registered, and no import or export was added,
+     * in any scope of the context since the assumption was created.
+     */
+    private volatile Assumption scopesUnchanged;
+
+    private Assumption current() {
+      var assumption = scopesUnchanged;
+      if (assumption == null || !assumption.isValid()) {
+        synchronized (this) {
+          assumption = scopesUnchanged;
+          if (assumption == null || !assumption.isValid()) {
+            assumption = Truffle.getRuntime().createAssumption("module scopes unchanged");
+            scopesUnchanged = assumption;
+          }
+        }
+      }
+      return assumption;
+    }
+
+    private void invalidate() {
+      var assumption = scopesUnchanged;
+      if (assumption != null && assumption.isValid()) {
+        assumption.invalidate();
+      }
+    }
+  }
+
+  /** Marks a cached lookup that did not find any definition. */
+  private static final Object NOT_FOUND = new Object();
+
+  private record MethodKey(Type type, String name) {}
+
+  private record ConversionKey(Type type, Type target) {}
+
+  /**
+   * The results of method and conversion lookups in this scope, valid as long as the assumption
+   * holds.
+   */
+  private static final class ResolutionCache {
+    private final Assumption valid;
+    private final Map<MethodKey, Object> methods = new ConcurrentHashMap<>();
+    private final Map<ConversionKey, Object> conversions = new ConcurrentHashMap<>();
+
+    private ResolutionCache(Assumption valid) {
+      this.valid = valid;
+    }
+  }
+
   private Function getExportedMethod(Type type, String name) {
     Function here = getMethodMapFor(type).get(name);
     if (here != null) {
@@ -250,6 +401,7 @@ public final class ModuleScope implements EnsoObject {
    */
   public void addImport(ModuleScope scope) {
     imports.add(scope);
+    invalidateResolutionCaches();
   }
 
   /**
@@ -259,6 +411,7 @@ public final class ModuleScope implements EnsoObject {
    */
   public void addExport(ModuleScope scope) {
     exports.add(scope);
+    invalidateResolutionCaches();
   }
 
   public Map<String, Type> getTypes() {
@@ -329,6 +482,7 @@ public final class ModuleScope implements EnsoObject {
     types = new HashMap<>();
     conversions = new HashMap<>();
     polyglotSymbols = new HashMap<>();
+    invalidateResolutionCaches();
   }
 
   /**
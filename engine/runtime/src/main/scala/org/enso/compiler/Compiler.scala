@@ -18,15 +18,19 @@ import org.enso.compiler.core.ir.{
   Module => IRModule
 }
 import org.enso.compiler.core.ir.expression.Error
+import org.enso.compiler.core.IR
+import org.enso.compiler.core.ir.MetadataStorage._
+import org.enso.compiler.core.ir.module.scope.{Definition, definition}
 import org.enso.compiler.core.ir.module.scope.Export
 import org.enso.compiler.core.ir.module.scope.Import
 import org.enso.compiler.core.ir.module.scope.imports;
 import org.enso.compiler.core.EnsoParser
 import org.enso.compiler.data.{BindingsMap, CompilerConfig}
 import org.enso.compiler.exception.CompilationAbortedException
-import org.enso.compiler.pass.PassManager
+import org.enso.compiler.pass.{PassManager, PassProfiler}
 import org.enso.compiler.pass.analyse._
 import org.enso.compiler.phase.{
+  EditedMethods,
   ExportCycleException,
   ExportsResolution,
   ImportResolver
@@ -39,10 +43,12 @@ import org.enso.pkg.QualifiedName
 import org.enso.polyglot.LanguageInfo
 import org.enso.polyglot.CompilationStage
 import org.enso.syntax2.Tree
+import org.enso.text.buffer.Rope
 
-import java.io.{PrintStream, StringReader}
+import java.io.{IOException, PrintStream, StringReader}
 import java.util.concurrent.{
   CompletableFuture,
+  CompletionException,
   ExecutorService,
   Future,
   LinkedBlockingDeque,
@@ -51,6 +57,7 @@ import java.util.concurrent.{
 }
 import java.util.logging.Level
 import scala.jdk.OptionConverters._
+import scala.util.control.NonFatal
 
 /** This class encapsulates the static transformation processes that take place
   * on source code, including parsing, desugaring, type-checking, static
@@ -63,8 +70,13 @@ class Compiler(
   val packageRepository: PackageRepository,
   config: CompilerConfig
 ) extends CompilerStub {
+  private val profileFile =
+    context.getCompilationProfileFile.toScala
+  private val profiler: Option[PassProfiler] =
+    profileFile.map(_ => new PassProfiler)
+  private val passes: Passes =
+    new Passes(config, profiler = profiler)
   private val freshNameSupply: FreshNameSupply = new FreshNameSupply
-  private val passes: Passes                   = new Passes(config)
   private val passManager: PassManager         = passes.passManager
   private val importResolver: ImportResolver   = new ImportResolver(this)
   private val irCachingEnabled                 = !context.isIrCachingDisabled
@@ -77,20 +89,29 @@ class Compiler(
       new PrintStream(config.outputRedirect.get)
     else context.getOut
   private lazy val ensoCompiler: EnsoParser = new EnsoParser()
-
-  /** The thread pool that handles parsing of modules. */
-  private val pool: ExecutorService = if (config.parallelParsing) {
-    new ThreadPoolExecutor(
-      Compiler.startingThreadCount,
-      Compiler.maximumThreadCount,
-      Compiler.threadKeepalive,
-      TimeUnit.SECONDS,
-      new LinkedBlockingDeque[Runnable](),
-      (runnable: Runnable) => {
-        context.createThread(runnable)
-      }
+  private val parsedModules: ParsedModuleCache =
+    new ParsedModuleCache(
+      ParsedModuleCache.defaultMaxEntries,
+      ParsedModuleCache.defaultMaxCharacters
     )
-  } else null
+
+  /** The thread pool that handles parsing of modules and, if enabled, the
+    * parallel compilation of independent modules.
+    */
+  private val pool: ExecutorService =
+    if (config.parallelParsing || config.parallelCompilation) {
+      new ThreadPoolExecutor(
+        if (config.parallelCompilation) Compiler.parallelCompilationThreadCount
+        else Compiler.startingThreadCount,
+        Compiler.maximumThreadCount,
+        Compiler.threadKeepalive,
+        TimeUnit.SECONDS,
+        new LinkedBlockingDeque[Runnable](),
+        (runnable: Runnable) => {
+          context.createThread(runnable)
+        }
+      )
+    } else null
 
   /** Duplicates this compiler with a different config.
     * @param newConfig Configuration to be used in the duplicated Compiler.
@@ -136,6 +157,135 @@ class Compiler(
     )
   }
 
+  /** Re-compiles only the methods of a module affected by an edit of method
+    * bodies.
+    *
+    * The edit has to keep the imports, the exports, the types and the
+    * signatures of all top-level methods, see [[EditedMethods]]. The passes
+    * run on the new IR of the module with the bodies of the preceding methods
+    * left out, and code is generated only for the edited methods and the
+    * methods following them. These replace their previous versions in the
+    * module scope, the rest of the module keeps its code.
+    *
+    * @param module the compiled module to update
+    * @param source the new source of the module
+    * @return `true` if the module has been updated, `false` if the module has
+    *         to be compiled again
+    */
+  def recompileMethodBodies(module: Module, source: Rope): Boolean = {
+    val oldIr = context.getIr(module)
+    val stage = context.getCompilationStage(module)
+    val isCompiled =
+      oldIr != null && stage.isAtLeast(CompilationStage.AFTER_CODEGEN)
+    if (!isCompiled || config.isStrictErrors || context.isSynthetic(module)) {
+      false
+    } else {
+      try {
+        val name      = context.getModuleName(module)
+        val oldSource = context.getCharacters(module)
+        val newSource = source.characters
+        def parse(src: CharSequence): IRModule =
+          parsedModules.getOrParse(name, src) {
+            ensoCompiler.generateIR(ensoCompiler.parse(src))
+          }
+        val oldParsed = parse(oldSource)
+        val newParsed = parse(newSource)
+        EditedMethods
+          .find(oldParsed, oldSource, newParsed, newSource)
+          .exists(recompileMethods(module, oldIr, newParsed, source, _))
+      } catch {
+        case NonFatal(e) =>
+          context.log(
+            Level.WARNING,
+            "Re-compiling methods of [{0}] failed, compiling the module: {1}",
+            context.getModuleName(module),
+            e
+          )
+          false
+      }
+    }
+  }
+
+  private def recompileMethods(
+    module: Module,
+    oldIr: IRModule,
+    newParsed: IRModule,
+    source: Rope,
+    edit: EditedMethods.Recompile
+  ): Boolean = {
+    context.log(
+      Compiler.defaultLogLevel,
+      "Re-compiling methods of [{0}] from offset {1}.",
+      context.getModuleName(module),
+      edit.newStart
+    )
+    val moduleContext = ModuleContext(
+      module          = module,
+      freshNameSupply = Some(freshNameSupply),
+      compilerConfig  = config,
+      pkgRepo         = Some(packageRepository)
+    )
+    val bindings = newParsed.bindings.zipWithIndex.map {
+      case (binding, index) if index < edit.firstBinding =>
+        EditedMethods.withoutMethodBodies(binding)
+      case (binding, _) => binding
+    }
+    val withExports = injectSyntheticModuleExports(
+      newParsed.copy(bindings = bindings),
+      module.getDirectModulesRefs
+    )
+    val discovered = recognizeBindings(withExports, moduleContext)
+      .updateMetadata(
+        BindingAnalysis -->> oldIr.unsafeGetMetadata(
+          BindingAnalysis,
+          "No binding analysis on a compiled module."
+        )
+      )
+    val processed = runMethodBodyPasses(
+      runGlobalTypingPasses(discovered, moduleContext),
+      moduleContext
+    )
+
+    def isRecompiled(start: Int)(binding: IR): Boolean =
+      binding.location.exists(_.start >= start)
+    def methods(bindings: List[Definition]) = bindings.collect {
+      case method: definition.Method.Explicit => method
+    }
+    def signatures(bindings: List[Definition]) = methods(bindings).map { m =>
+      (m.methodReference.showCode(), m.isStaticWrapperForInstanceMethod)
+    }
+    val (replaced, kept) =
+      oldIr.bindings.partition(isRecompiled(edit.oldStart))
+    val recompiled = processed.bindings.filter(isRecompiled(edit.newStart))
+    val onlyMethods = recompiled.forall {
+      case _: Definition.Type              => false
+      case _: definition.Method.Conversion => false
+      case _                               => true
+    }
+    if (onlyMethods && signatures(replaced) == signatures(recompiled)) {
+      val dataflow = for {
+        oldInfo <- oldIr.getMetadata(DataflowAnalysis)
+        newInfo <- processed.getMetadata(DataflowAnalysis)
+      } yield oldInfo ++ newInfo
+      val ir = oldIr.copy(
+        bindings = kept ++ recompiled,
+        location = processed.location
+      )
+      dataflow.foreach(info => ir.updateMetadata(DataflowAnalysis -->> info))
+      context.updateModule(
+        module,
+        { u =>
+          u.ir(ir)
+          u.patchedLiteralSource(source)
+        }
+      )
+      context.truffleRunMethodCodegen(module, config, methods(recompiled))
+      true
+    } else {
+      false
+    }
+  }
+
   /** Compiles the requested packages, writing the compiled IR to the library
     * cache directories.
     *
@@ -332,7 +482,7 @@ class Compiler(
         modules.flatMap(runImportsAndExportsResolution(_, generateCode))
     }
 
-    requiredModules.foreach { module =>
+    forEachModule(requiredModules) { module =>
       if (
         !context
           .getCompilationStage(module)
@@ -358,7 +508,7 @@ class Compiler(
         )
       }
     }
-    requiredModules.foreach { module =>
+    forEachModule(requiredModules) { module =>
       if (
         !context
           .getCompilationStage(module)
@@ -387,7 +537,7 @@ class Compiler(
 
     runErrorHandling(requiredModules)
 
-    requiredModules.foreach { module =>
+    forEachModule(requiredModules) { module =>
       if (
         !context
           .getCompilationStage(module)
@@ -395,7 +545,9 @@ class Compiler(
             CompilationStage.AFTER_RUNTIME_STUBS
           )
       ) {
-        context.runStubsGenerator(module)
+        profileStep(module, "RuntimeStubs") {
+          context.runStubsGenerator(module)
+        }
         context.updateModule(
           module,
           { u =>
@@ -404,7 +556,7 @@ class Compiler(
         )
       }
     }
-    requiredModules.foreach { module =>
+    forEachModule(requiredModules) { module =>
       if (
         !context
           .getCompilationStage(module)
@@ -420,7 +572,9 @@ class Compiler(
             context.getModuleName(module)
           )
 
-          context.truffleRunCodegen(module, config)
+          profileStep(module, "Codegen") {
+            context.truffleRunCodegen(module, config)
+          }
         }
         context.updateModule(
           module,
@@ -455,6 +609,140 @@ class Compiler(
     requiredModules
   }
 
+  /** Runs a compilation phase on each of the provided modules.
+    *
+    * When parallel compilation is enabled, the phase runs concurrently on the
+    * compiler's thread pool. The import graph of `modules` is split into its
+    * strongly connected components. The modules of a component, which import
+    * each other, are processed one after another in their order in `modules`.
+    * A component is only processed once the phase has finished for every
+    * component it imports, so components that do not depend on each other are
+    * processed in parallel.
+    *
+    * @param modules the modules to process, in the sequential order
+    * @param phase the phase to run on a single module
+    */
+  private def forEachModule(
+    modules: List[Module]
+  )(phase: Module => Unit): Unit = {
+    if (!config.parallelCompilation || pool == null || modules.length < 2) {
+      modules.foreach(phase)
+    } else {
+      val components = importComponents(modules)
+      val componentOf = components.zipWithIndex.flatMap {
+        case (component, index) =>
+          component.map(module => context.getModuleName(module) -> index)
+      }.toMap
+      // Components come dependencies first, so the tasks they wait for are
+      // already created.
+      val tasks = new Array[CompletableFuture[Void]](components.length)
+      components.zipWithIndex.foreach { case (component, index) =>
+        val dependencies = component
+          .flatMap(importedModuleNames)
+          .flatMap(componentOf.get)
+          .distinct
+          .filter(_ != index)
+          .map(tasks(_))
+        tasks(index) = CompletableFuture
+          .allOf(dependencies: _*)
+          .thenRunAsync(() => component.foreach(phase), pool)
+      }
+      try {
+        CompletableFuture.allOf(tasks.toIndexedSeq: _*).join()
+      } catch {
+        case _: CompletionException =>
+          // Components depending on a failed one fail with the same cause, so
+          // the first failure in dependency order is the original one.
+          tasks.find(_.isCompletedExceptionally).foreach { task =>
+            try task.join()
+            catch { case e: CompletionException => throw e.getCause }
+          }
+      }
+    }
+  }
+
+  /** Splits the import graph of the provided modules into its strongly
+    * connected components, using Tarjan's algorithm.
+    *
+    * Imports of modules outside of `modules` are ignored.
+    *
+    * @param modules the modules to split
+    * @return the components, each listing its modules in their order in
+    *         `modules`, ordered so that every component comes after all the
+    *         components it imports
+    */
+  private def importComponents(modules: List[Module]): List[List[Module]] = {
+    val order = modules.zipWithIndex.map { case (module, index) =>
+      context.getModuleName(module) -> index
+    }.toMap
+    val imports = modules.map { module =>
+      importedModuleNames(module).flatMap(order.get).distinct
+    }.toIndexedSeq
+    val moduleAt   = modules.toIndexedSeq
+    val visitIndex = Array.fill(modules.length)(-1)
+    val lowLink    = new Array[Int](modules.length)
+    val onStack    = new Array[Boolean](modules.length)
+    val stack      = collection.mutable.Stack[Int]()
+    val components = List.newBuilder[List[Module]]
+    var visited    = 0
+
+    def visit(module: Int): Unit = {
+      visitIndex(module) = visited
+      lowLink(module) = visited
+      visited += 1
+      stack.push(module)
+      onStack(module) = true
+      imports(module).foreach { imported =>
+        if (visitIndex(imported) == -1) {
+          visit(imported)
+          lowLink(module) = Math.min(lowLink(module), lowLink(imported))
+        } else if (onStack(imported)) {
+          lowLink(module) = Math.min(lowLink(module), visitIndex(imported))
+        }
+      }
+      if (lowLink(module) == visitIndex(module)) {
+        val component = collection.mutable.ListBuffer[Int]()
+        var member    = -1
+        while (member != module) {
+          member = stack.pop()
+          onStack(member) = false
+          component += member
+        }
+        components += component.sorted.map(moduleAt).toList
+      }
+    }
+
+    modules.indices.foreach { module =>
+      if (visitIndex(module) == -1) visit(module)
+    }
+    components.result()
+  }
+
+  /** Runs a compilation step on a module, recording it if compilation
+    * profiling is enabled.
+    *
+    * @param module the module being compiled
+    * @param name the name of the step
+    * @param step the step to run
+    */
+  private def profileStep(module: Module, name: String)(step: => Unit): Unit =
+    profiler match {
+      case Some(p) => p.profile(context.getModuleName(module), name)(step)
+      case None    => step
+    }
+
+  /** Gets the names of the modules imported by the provided module.
+    *
+    * @param module the module to get the imports of
+    * @return the names of the modules imported by `module`
+    */
+  private def importedModuleNames(module: Module): List[QualifiedName] =
+    context
+      .getIr(module)
+      .getMetadata(BindingAnalysis)
+      .map(_.resolvedImports.map(_.target.module.getName))
+      .getOrElse(Nil)
+
   private def isModuleInRootPackage(module: Module): Boolean = {
     if (!context.isInteractive(module)) {
       val pkg = PackageRepositoryUtils
@@ -615,9 +903,11 @@ class Compiler(
       isGeneratingDocs = isGenDocs
     )
 
-    val src  = context.getCharacters(module)
-    val tree = ensoCompiler.parse(src)
-    val expr = ensoCompiler.generateIR(tree)
+    val src = context.getCharacters(module)
+    val expr =
+      parsedModules.getOrParse(context.getModuleName(module), src) {
+        ensoCompiler.generateIR(ensoCompiler.parse(src))
+      }
 
     val exprWithModuleExports =
       if (context.isSynthetic(module))
@@ -1250,6 +1540,34 @@ class Compiler(
   def shutdown(waitForPendingJobCompletion: Boolean): Unit = {
     serializationManager.shutdown(waitForPendingJobCompletion)
     shutdownParsingPool(waitForPendingJobCompletion)
+    writeCompilationProfile()
+    parsedModules.clear()
+  }
+
+  /** Writes the recorded compilation profile, if profiling is enabled. */
+  private def writeCompilationProfile(): Unit = {
+    for {
+      file <- profileFile
+      p    <- profiler if !p.isEmpty
+    } {
+      try {
+        val out = file.newOutputStream()
+        try p.writeChromeTrace(out)
+        finally out.close()
+        context.log(
+          Level.INFO,
+          "Compilation profile written to [{0}].",
+          file.getPath
+        )
+      } catch {
+        case e: IOException =>
+          context.log(
+            Level.WARNING,
+            "Unable to write the compilation profile.",
+            e
+          )
+      }
+    }
   }
 
   private def shutdownParsingPool(waitForPendingCompilation: Boolean): Unit = {
@@ -1303,6 +1621,10 @@ object Compiler {
   /** The number of threads at compiler start. */
   val startingThreadCount: Integer = 2
 
+  /** The number of threads used when parallel compilation is enabled. */
+  val parallelCompilationThreadCount: Integer =
+    Math.min(maximumThreadCount, Runtime.getRuntime.availableProcessors())
+
   /** The thread keep-alive time in seconds. */
   val threadKeepalive: Long = 2
 }
@@ -0,0 +1,135 @@
+package org.enso.compiler
+
+import org.enso.compiler.core.ir.{Module => IRModule}
+import org.enso.pkg.QualifiedName
+
+import java.lang.ref.SoftReference
+import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util
+
+/** A memo of the IR of parsed modules, keyed by the digest of the module
+  * sources.
+  *
+  * It allows the compiler to skip parsing and translating the sources of a
+  * module whose IR was discarded (e.g. by a cache invalidation caused by an
+  * edit of another module), but whose contents did not change.
+  *
+  * The parsed IR is handed out as is and memoized. As the compiler passes
+  * update the metadata and the diagnostics of the IR in place, a memoized IR
+  * is handed out as a copy without them. The least recently used entries are
+  * evicted once there are more than `maxEntries` of them, or once the total
+  * length of the memoized sources, an estimate of the size of their IR,
+  * exceeds `maxCharacters`. The IR is only softly reachable, so that the
+  * garbage collector can drop it under memory pressure.
+  *
+  * This class is safe to use concurrently.
+  *
+  * @param maxEntries the maximum number of memoized modules
+  * @param maxCharacters the maximum total length of the memoized sources
+  */
+final class ParsedModuleCache(maxEntries: Int, maxCharacters: Long) {
+  import ParsedModuleCache._
+
+  private val entries =
+    new util.LinkedHashMap[QualifiedName, Entry](16, 0.75f, true)
+  private var totalCharacters: Long = 0
+
+  /** Returns the IR of the module, parsing its sources only if they changed
+    * since the last time they were parsed.
+    *
+    * @param module the name of the module
+    * @param src the sources of the module
+    * @param parse parses the sources of the module
+    * @return the IR of the module, not shared with any other caller
+    */
+  def getOrParse(module: QualifiedName, src: CharSequence)(
+    parse: => IRModule
+  ): IRModule = {
+    val digest = digestOf(src)
+    val cached = entries.synchronized {
+      Option(entries.get(module))
+        .filter(e => util.Arrays.equals(e.digest, digest))
+        .flatMap { entry =>
+          val ir = Option(entry.ir.get())
+          if (ir.isEmpty) remove(module)
+          ir
+        }
+    }
+    cached match {
+      case Some(ir) => duplicate(ir)
+      case None =>
+        val ir = parse
+        put(module, Entry(digest, new SoftReference(ir), src.length()))
+        ir
+    }
+  }
+
+  /** @return the number of memoized modules */
+  def size: Int = entries.synchronized(entries.size())
+
+  /** Removes all the memoized modules. */
+  def clear(): Unit = entries.synchronized {
+    entries.clear()
+    totalCharacters = 0
+  }
+
+  private def put(module: QualifiedName, entry: Entry): Unit =
+    entries.synchronized {
+      val previous = entries.put(module, entry)
+      if (previous != null) {
+        totalCharacters -= previous.characters
+      }
+      totalCharacters += entry.characters
+      val it = entries.values().iterator()
+      while (
+        (entries.size() > maxEntries || totalCharacters > maxCharacters) &&
+        it.hasNext
+      ) {
+        totalCharacters -= it.next().characters
+        it.remove()
+      }
+    }
+
+  private def remove(module: QualifiedName): Unit = {
+    val removed = entries.remove(module)
+    if (removed != null) {
+      totalCharacters -= removed.characters
+    }
+  }
+}
+
+object ParsedModuleCache {
+
+  /** The default limit of the number of memoized modules. */
+  val defaultMaxEntries: Int = 1024
+
+  /** The default limit of the total length of the memoized sources. */
+  val defaultMaxCharacters: Long = 8 * 1024 * 1024
+
+  /** A memoized module.
+    *
+    * @param digest the digest of the module sources
+    * @param ir the IR of the module, cleared under memory pressure
+    * @param characters the length of the module sources
+    */
+  private case class Entry(
+    digest: Array[Byte],
+    ir: SoftReference[IRModule],
+    characters: Int
+  )
+
+  private def duplicate(ir: IRModule): IRModule =
+    ir.duplicate(
+      keepLocations   = true,
+      keepMetadata    = false,
+      keepDiagnostics = false
+    )
+
+  private def digestOf(src: CharSequence): Array[Byte] = {
+    val digest = MessageDigest.getInstance("SHA-1")
+    digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(src)))
+    digest.digest()
+  }
+}
@@ -20,12 +20,14 @@ import org.enso.compiler.pass.{
   IRPass,
   PassConfiguration,
   PassGroup,
-  PassManager
+  PassManager,
+  PassProfiler
 }
 
 class Passes(
   config: CompilerConfig,
-  passes: Option[List[PassGroup]] = None
+  passes: Option[List[PassGroup]] = None,
+  profiler: Option[PassProfiler]  = None
 ) {
 
   val moduleDiscoveryPasses = new PassGroup(
@@ -118,7 +120,7 @@ class Passes(
 
   /** The pass manager for running compiler passes. */
   val passManager: PassManager =
-    new PassManager(passOrdering, passConfig)
+    new PassManager(passOrdering, passConfig, profiler)
 
   /** Slices the compiler's pass ordering to provide the list of all passes that
     * run _before_ [[pass]].
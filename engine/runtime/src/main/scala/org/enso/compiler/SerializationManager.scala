@@ -14,57 +14,74 @@ import java.io.NotSerializableException
 import java.util
 import java.util.concurrent.{
   Callable,
+  CancellationException,
   CompletableFuture,
   ConcurrentHashMap,
+  ExecutionException,
+  ExecutorService,
+  Executors,
   Future,
   LinkedBlockingDeque,
   ThreadPoolExecutor,
-  TimeUnit
+  TimeUnit,
+  TimeoutException
 }
 import java.util.logging.Level
 
-import scala.collection.mutable
+import scala.jdk.CollectionConverters._
 import scala.jdk.OptionConverters.RichOptional
 
-final class SerializationManager(compiler: Compiler) {
+/** Manages the serialization and deserialization of the module and library
+  * caches.
+  *
+  * @param compiler the compiler whose modules are serialized
+  * @param pool the thread pool that handles serialization
+  */
+final class SerializationManager private[compiler] (
+  compiler: Compiler,
+  pool: ThreadPoolExecutor
+) {
 
   import SerializationManager._
 
+  def this(compiler: Compiler) =
+    this(compiler, SerializationManager.createPool(compiler))
+
   /** The debug logging level. */
   private val debugLogLevel = Level.FINE
 
-  /** A set of the modules that are currently being serialized.
+  /** The modules that are currently being serialized, mapped to futures
+    * completed once their serialization finishes.
     *
-    * This set is accessed concurrently. This is safe as it is backed by a
-    * [[ConcurrentHashMap]] and is wrapped with the scala [[mutable.Set]]
-    * interface.
+    * This map is accessed concurrently.
     */
-  private val isSerializing: mutable.Set[QualifiedName] = buildConcurrentHashSet
+  private val isSerializing =
+    new ConcurrentHashMap[QualifiedName, CompletableFuture[Unit]]()
 
-  /** A map of the modules awaiting serialization to their associated tasks
+  /** The library bindings caches that are being loaded ahead of time.
     *
     * This map is accessed concurrently.
     */
-  private val isWaitingForSerialization =
-    collection.concurrent.TrieMap[QualifiedName, Future[Boolean]]()
-
-  /** The thread pool that handles serialization. */
-  private val pool: ThreadPoolExecutor = new ThreadPoolExecutor(
-    SerializationManager.startingThreadCount,
-    SerializationManager.maximumThreadCount,
-    SerializationManager.threadKeepalive,
-    TimeUnit.SECONDS,
-    new LinkedBlockingDeque[Runnable](),
-    (runnable: Runnable) => {
-      compiler.context.createSystemThread(runnable)
-    }
-  )
+  private val prefetchedBindings = new ConcurrentHashMap[
+    LibraryName,
+    CompletableFuture[Option[ImportExportCache.CachedBindings]]
+  ]()
 
-  // Make sure it is started to avoid races with language shutdown with low job
-  // count.
-  if (compiler.context.isCreateThreadAllowed) {
-    pool.prestartAllCoreThreads()
-  }
+  /** The thread pool loading library caches ahead of time, created on first
+    * use.
+    */
+  private var loadingPool: ExecutorService = _
+
+  /** A map of the modules and libraries awaiting serialization to their
+    * pending requests.
+    *
+    * An entry is removed when its serialization starts, so a request made
+    * while a previous one is still queued replaces the task to run instead of
+    * scheduling another one. All compound operations on this map synchronize
+    * on it.
+    */
+  private val isWaitingForSerialization =
+    collection.concurrent.TrieMap[QualifiedName, PendingSerialization]()
 
   // === Interface ============================================================
 
@@ -114,12 +131,10 @@ final class SerializationManager(compiler: Compiler) {
       useGlobalCacheLocations
     )
     if (useThreadPool) {
-      isWaitingForSerialization.synchronized {
-        val future = pool.submit(task)
-        isWaitingForSerialization.put(module.getName, future)
-        future
-      }
+      scheduleSerialization(module.getName, task)
     } else {
+      // A request still waiting in the queue is superseded by this one.
+      abort(module)
       try {
         CompletableFuture.completedFuture(task.call())
       } catch {
@@ -147,11 +162,7 @@ final class SerializationManager(compiler: Compiler) {
     val task: Callable[Boolean] =
       doSerializeLibrary(libraryName, useGlobalCacheLocations)
     if (compiler.context.isCreateThreadAllowed) {
-      isWaitingForSerialization.synchronized {
-        val future = pool.submit(task)
-        isWaitingForSerialization.put(libraryName.toQualifiedName, future)
-        future
-      }
+      scheduleSerialization(libraryName.toQualifiedName, task)
     } else {
       try {
         CompletableFuture.completedFuture(task.call())
@@ -171,37 +182,34 @@ final class SerializationManager(compiler: Compiler) {
     libraryName: LibraryName,
     useGlobalCacheLocations: Boolean
   ): Callable[Boolean] = () => {
-    while (isSerializingLibrary(libraryName)) {
-      Thread.sleep(100)
-    }
-
-    compiler.context.logSerializationManager(
-      debugLogLevel,
-      "Running serialization for bindings [{0}].",
-      libraryName
-    )
-    startSerializing(libraryName.toQualifiedName)
-    val bindingsCache = new ImportExportCache.CachedBindings(
-      libraryName,
-      new ImportExportCache.MapToBindings(
-        compiler.packageRepository
-          .getModulesForLibrary(libraryName)
-          .map { module =>
-            val ir = module.getIr
-            val bindings = ir.unsafeGetMetadata(
-              BindingAnalysis,
-              "Non-parsed module used in ImportResolver"
-            )
-            val abstractBindings = bindings.prepareForSerialization(compiler)
-            (module.getName, abstractBindings)
-          }
-          .toMap
-      ),
-      compiler.packageRepository
-        .getPackageForLibraryJava(libraryName)
-        .map(_.listSourcesJava())
-    )
+    val serializing = new CompletableFuture[Unit]()
     try {
+      startSerializing(libraryName.toQualifiedName, serializing)
+      compiler.context.logSerializationManager(
+        debugLogLevel,
+        "Running serialization for bindings [{0}].",
+        libraryName
+      )
+      val bindingsCache = new ImportExportCache.CachedBindings(
+        libraryName,
+        new ImportExportCache.MapToBindings(
+          compiler.packageRepository
+            .getModulesForLibrary(libraryName)
+            .map { module =>
+              val ir = module.getIr
+              val bindings = ir.unsafeGetMetadata(
+                BindingAnalysis,
+                "Non-parsed module used in ImportResolver"
+              )
+              val abstractBindings = bindings.prepareForSerialization(compiler)
+              (module.getName, abstractBindings)
+            }
+            .toMap
+        ),
+        compiler.packageRepository
+          .getPackageForLibraryJava(libraryName)
+          .map(_.listSourcesJava())
+      )
       val result =
         try {
           val cache = new ImportExportCache(libraryName)
@@ -232,7 +240,7 @@ final class SerializationManager(compiler: Compiler) {
 
       result
     } finally {
-      finishSerializing(libraryName.toQualifiedName)
+      finishSerializing(libraryName.toQualifiedName, serializing)
     }
   }
 
@@ -302,9 +310,7 @@ final class SerializationManager(compiler: Compiler) {
       abort(libraryName)
       None
     } else {
-      while (isSerializingLibrary(libraryName)) {
-        Thread.sleep(100)
-      }
+      awaitSerialization(libraryName.toQualifiedName)
       val cache = new SuggestionsCache(libraryName)
       compiler.context.loadCache(cache).toScala match {
         case result @ Some(_: SuggestionsCache.CachedSuggestions) =>
@@ -328,34 +334,106 @@ final class SerializationManager(compiler: Compiler) {
   def deserializeLibraryBindings(
     libraryName: LibraryName
   ): Option[ImportExportCache.CachedBindings] = {
+    val prefetched = Option(prefetchedBindings.remove(libraryName))
     if (isWaitingForSerialization(libraryName)) {
+      prefetched.foreach(_.cancel(false))
       abort(libraryName)
       None
     } else {
-      while (isSerializingLibrary(libraryName)) {
-        Thread.sleep(100)
+      awaitSerialization(libraryName.toQualifiedName)
+      prefetched match {
+        case Some(future) =>
+          try future.join()
+          catch {
+            case e: CancellationException =>
+              compiler.context.logSerializationManager(
+                Level.FINEST,
+                "Loading of bindings for library [{0}] was cancelled.",
+                libraryName,
+                e
+              )
+              loadLibraryBindings(libraryName)
+            case e: Throwable =>
+              compiler.context.logSerializationManager(
+                Level.WARNING,
+                s"Loading of bindings for library [$libraryName] failed.",
+                e
+              )
+              None
+          }
+        case None =>
+          loadLibraryBindings(libraryName)
       }
-      val cache = new ImportExportCache(libraryName)
-      compiler.context.loadCache(cache).toScala match {
-        case result @ Some(_: ImportExportCache.CachedBindings) =>
-          compiler.context.logSerializationManager(
-            Level.FINE,
-            "Restored bindings for library [{0}].",
-            libraryName
-          )
-          result
-        case _ =>
-          compiler.context.logSerializationManager(
-            Level.FINEST,
-            "Unable to load bindings for library [{0}].",
-            libraryName
-          )
-          None
+    }
+  }
+
+  /** Starts loading and verifying the bindings cache of a library in the
+    * background, so that a later [[deserializeLibraryBindings]] call does not
+    * have to wait for it.
+    *
+    * Caches of multiple libraries are loaded concurrently on a bounded pool.
+    * This has no effect unless preloading of library caches is enabled, and
+    * the library's package has to be already loaded.
+    *
+    * @param libraryName the library whose bindings should be loaded
+    */
+  def prefetchLibraryBindings(libraryName: LibraryName): Unit = {
+    if (isPrefetchingEnabled && !isWaitingForSerialization(libraryName)) {
+      val pool = getLoadingPool
+      if (pool != null) {
+        prefetchedBindings.computeIfAbsent(
+          libraryName,
+          name =>
+            CompletableFuture.supplyAsync(
+              () => {
+                awaitSerialization(name.toQualifiedName)
+                loadLibraryBindings(name)
+              },
+              pool
+            )
+        )
       }
+    }
+  }
 
+  /** @return whether library caches should be loaded ahead of time */
+  def isPrefetchingEnabled: Boolean =
+    compiler.context.isPreloadLibraryCaches &&
+    !compiler.context.isIrCachingDisabled &&
+    compiler.context.isCreateThreadAllowed
+
+  private def loadLibraryBindings(
+    libraryName: LibraryName
+  ): Option[ImportExportCache.CachedBindings] = {
+    val cache = new ImportExportCache(libraryName)
+    compiler.context.loadCache(cache).toScala match {
+      case result @ Some(_: ImportExportCache.CachedBindings) =>
+        compiler.context.logSerializationManager(
+          Level.FINE,
+          "Restored bindings for library [{0}].",
+          libraryName
+        )
+        result
+      case _ =>
+        compiler.context.logSerializationManager(
+          Level.FINEST,
+          "Unable to load bindings for library [{0}].",
+          libraryName
+        )
+        None
     }
   }
 
+  private def getLoadingPool: ExecutorService = synchronized {
+    if (loadingPool == null && !pool.isShutdown) {
+      loadingPool = Executors.newFixedThreadPool(
+        SerializationManager.loadingThreadCount,
+        (runnable: Runnable) => compiler.context.createSystemThread(runnable)
+      )
+    }
+    loadingPool
+  }
+
   /** Deserializes the requested module from the cache if possible.
     *
     * If the requested module is currently being serialized it will wait for
@@ -375,9 +453,7 @@ final class SerializationManager(compiler: Compiler) {
       abort(module)
       None
     } else {
-      while (isSerializingModule(module.getName)) {
-        Thread.sleep(100)
-      }
+      awaitSerialization(module.getName)
 
       compiler.context.loadCache(module.getCache).toScala match {
         case Some(loadedCache) =>
@@ -429,18 +505,16 @@ final class SerializationManager(compiler: Compiler) {
     }
   }
 
-  /** Checks if the provided module is in the process of being serialized.
+  /** Waits until the serialization of the provided module or library, if any
+    * is in progress, finishes.
     *
-    * @param module the module to check
-    * @return `true` if `module` is currently being serialized, `false`
-    *         otherwise
+    * @param name the name of the module or library
     */
-  private def isSerializingModule(module: QualifiedName): Boolean = {
-    isSerializing.contains(module)
-  }
-
-  private def isSerializingLibrary(library: LibraryName): Boolean = {
-    isSerializing.contains(library.toQualifiedName)
+  private def awaitSerialization(name: QualifiedName): Unit = {
+    val future = isSerializing.get(name)
+    if (future != null) {
+      future.join()
+    }
   }
 
   private def isWaitingForSerialization(name: QualifiedName): Boolean = {
@@ -471,12 +545,9 @@ final class SerializationManager(compiler: Compiler) {
 
   private def abort(name: QualifiedName): Boolean = {
     isWaitingForSerialization.synchronized {
-      if (isWaitingForSerialization(name)) {
-        isWaitingForSerialization
-          .remove(name)
-          .map(_.cancel(false))
-          .getOrElse(false)
-      } else false
+      isWaitingForSerialization
+        .remove(name)
+        .exists(_.result.cancel(false))
     }
   }
 
@@ -524,15 +595,32 @@ final class SerializationManager(compiler: Compiler) {
           jobCount
         )
 
-        // Bound the waiting loop
-        val maxCount = 60
-        var counter  = 0
-        while (this.hasJobsRemaining && counter < maxCount) {
-          counter += 1
-          Thread.sleep(1 * 1000)
+        // Bound the waiting time. Jobs may schedule further jobs, so the
+        // pending ones are collected again until none remain.
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60)
+        while (this.hasJobsRemaining && System.nanoTime() < deadline) {
+          val pending: List[Future[_]] =
+            isWaitingForSerialization.synchronized {
+              isWaitingForSerialization.values.map(_.result).toList
+            } ++ isSerializing.values().asScala
+          pending.foreach { future =>
+            val remaining = deadline - System.nanoTime()
+            if (remaining > 0) {
+              try future.get(remaining, TimeUnit.NANOSECONDS)
+              catch {
+                case _: TimeoutException | _: ExecutionException |
+                    _: CancellationException =>
+              }
+            }
+          }
         }
       }
 
+      synchronized {
+        if (loadingPool != null) {
+          loadingPool.shutdownNow()
+        }
+      }
       pool.shutdown()
 
       // Bound the waiting loop
@@ -544,7 +632,7 @@ final class SerializationManager(compiler: Compiler) {
       }
 
       pool.shutdownNow()
-      Thread.sleep(100)
+      pool.awaitTermination(100, TimeUnit.MILLISECONDS)
       compiler.context.logSerializationManager(
         debugLogLevel,
         "Serialization manager has been shut down."
@@ -554,12 +642,72 @@ final class SerializationManager(compiler: Compiler) {
 
   // === Internals ============================================================
 
+  /** Schedules the serialization task for the module or library described by
+    * `name`.
+    *
+    * If a previous request for the same name has not started yet, its task is
+    * replaced by the provided one, so that only the latest version is written,
+    * and the future of the previous request is returned.
+    *
+    * @param name the name of the module or library to serialize
+    * @param task the serialization task
+    * @return the future completed with the result of the serialization
+    */
+  private def scheduleSerialization(
+    name: QualifiedName,
+    task: Callable[Boolean]
+  ): Future[Boolean] = {
+    isWaitingForSerialization.synchronized {
+      isWaitingForSerialization.get(name) match {
+        case Some(pending) =>
+          compiler.context.logSerializationManager(
+            debugLogLevel,
+            "Coalescing serialization requests for [{0}].",
+            name
+          )
+          pending.task = task
+          pending.result
+        case None =>
+          val pending = new PendingSerialization(task)
+          isWaitingForSerialization.put(name, pending)
+          pool.execute(() => runPendingSerialization(name, pending))
+          pending.result
+      }
+    }
+  }
+
+  /** Runs the latest task of a pending serialization request, unless the
+    * request has been aborted in the meantime.
+    *
+    * @param name the name of the module or library to serialize
+    * @param pending the pending request
+    */
+  private def runPendingSerialization(
+    name: QualifiedName,
+    pending: PendingSerialization
+  ): Unit = {
+    val task = isWaitingForSerialization.synchronized {
+      if (isWaitingForSerialization.get(name).contains(pending)) {
+        isWaitingForSerialization.remove(name)
+        Some(pending.task)
+      } else None
+    }
+    task.foreach { latestTask =>
+      try {
+        pending.result.complete(latestTask.call())
+      } catch {
+        case e: Throwable =>
+          pending.result.completeExceptionally(e)
+      }
+    }
+  }
+
   /** @return `true` if there are remaining serialization jobs, `false`
     *         otherwise
     */
   private def hasJobsRemaining: Boolean = {
     isWaitingForSerialization.synchronized {
-      isWaitingForSerialization.nonEmpty || isSerializing.nonEmpty
+      isWaitingForSerialization.nonEmpty || !isSerializing.isEmpty
     }
   }
 
@@ -581,17 +729,14 @@ final class SerializationManager(compiler: Compiler) {
     source: Source,
     useGlobalCacheLocations: Boolean
   ): Callable[Boolean] = { () =>
-    while (isSerializingModule(name)) {
-      Thread.sleep(100)
-    }
-
-    compiler.context.logSerializationManager(
-      debugLogLevel,
-      "Running serialization for module [{0}].",
-      name
-    )
-    startSerializing(name)
+    val serializing = new CompletableFuture[Unit]()
     try {
+      startSerializing(name, serializing)
+      compiler.context.logSerializationManager(
+        debugLogLevel,
+        "Running serialization for module [{0}].",
+        name
+      )
       val fixedStage =
         if (stage.isAtLeast(CompilationStage.AFTER_STATIC_PASSES)) {
           CompilationStage.AFTER_STATIC_PASSES
@@ -620,46 +765,84 @@ final class SerializationManager(compiler: Compiler) {
         )
         throw e
     } finally {
-      finishSerializing(name)
+      finishSerializing(name, serializing)
     }
   }
 
   /** Sets the module described by `name` as serializing.
+    *
+    * If the module is already being serialized, waits for that to finish
+    * first.
     *
     * @param name the name of the module to set as serializing
+    * @param future the future completed by [[finishSerializing]], which
+    *               waiters for this serialization join
     */
-  private def startSerializing(name: QualifiedName): Unit = {
-    isWaitingForSerialization.synchronized {
-      isWaitingForSerialization.remove(name)
+  private def startSerializing(
+    name: QualifiedName,
+    future: CompletableFuture[Unit]
+  ): Unit = {
+    var running = isSerializing.putIfAbsent(name, future)
+    while (running != null) {
+      running.join()
+      running = isSerializing.putIfAbsent(name, future)
     }
-    isSerializing.add(name)
   }
 
   /** Sets the module described by `name` as finished with serialization.
+    *
+    * It is safe to call even if [[startSerializing]] did not complete, as
+    * only the entry registered with the given future is removed.
     *
     * @param name the name of the module to set as having finished serialization
+    * @param future the future passed to [[startSerializing]]
     */
-  private def finishSerializing(name: QualifiedName): Unit = {
-    isSerializing.remove(name)
+  private def finishSerializing(
+    name: QualifiedName,
+    future: CompletableFuture[Unit]
+  ): Unit = {
+    isSerializing.remove(name, future)
+    future.complete(())
   }
+}
+
+object SerializationManager {
 
-  /** Builds a [[mutable.Set]] that is backed by a [[ConcurrentHashMap]] and is
-    * hence safe for concurrent access.
+  /** A serialization request that has been scheduled, but has not started
+    * yet.
     *
-    * @tparam T the type of the set elements
-    * @return a concurrent [[mutable.Set]]
+    * @param task the latest serialization task requested
     */
-  private def buildConcurrentHashSet[T]: mutable.Set[T] = {
-    import scala.jdk.CollectionConverters._
-    java.util.Collections
-      .newSetFromMap(
-        new ConcurrentHashMap[T, java.lang.Boolean]()
-      )
-      .asScala
+  private class PendingSerialization(var task: Callable[Boolean]) {
+
+    /** The future completed with the result of the serialization. */
+    val result: CompletableFuture[Boolean] = new CompletableFuture[Boolean]()
   }
-}
 
-object SerializationManager {
+  /** Creates the thread pool that handles serialization.
+    *
+    * @param compiler the compiler creating the serialization threads
+    * @return the started thread pool
+    */
+  private def createPool(compiler: Compiler): ThreadPoolExecutor = {
+    val pool = new ThreadPoolExecutor(
+      startingThreadCount,
+      maximumThreadCount,
+      threadKeepalive,
+      TimeUnit.SECONDS,
+      new LinkedBlockingDeque[Runnable](),
+      (runnable: Runnable) => {
+        compiler.context.createSystemThread(runnable)
+      }
+    )
+
+    // Make sure it is started to avoid races with language shutdown with low
+    // job count.
+    if (compiler.context.isCreateThreadAllowed) {
+      pool.prestartAllCoreThreads()
+    }
+    pool
+  }
 
   /** The maximum number of serialization threads allowed. */
   val maximumThreadCount: Integer = 2
@@ -670,6 +853,10 @@ object SerializationManager {
   /** The thread keep-alive time in seconds. */
   val threadKeepalive: Long = 3
 
+  /** The maximum number of threads loading library caches ahead of time. */
+  val loadingThreadCount: Int =
+    Math.min(4, Runtime.getRuntime.availableProcessors())
+
   implicit private class LibraryOps(val libraryName: LibraryName)
       extends AnyVal {
     def toQualifiedName: QualifiedName =
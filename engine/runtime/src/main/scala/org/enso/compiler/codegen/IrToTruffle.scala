@@ -155,6 +155,18 @@ class IrToTruffle(
     */
   def run(ir: Module): Unit = processModule(ir)
 
+  /** Executes the codegen pass on re-compiled method definitions of a module
+    * that has already been generated.
+    *
+    * The methods replace their previous versions in the module scope. The
+    * previous versions are redirected to the new ones, so that the callers
+    * which have cached them execute the new code.
+    *
+    * @param methods the method definitions to generate code for
+    */
+  def runMethods(methods: List[definition.Method.Explicit]): Unit =
+    methods.foreach(processMethodDefinition(_, replaceMethod))
+
   /** Executes the codegen pass on an inline input.
     *
     * @param ir         the IR to generate code for
@@ -341,270 +353,7 @@ class IrToTruffle(
     }
 
     // Register the method definitions in scope
-    methodDefs.foreach(methodDef => {
-      val scopeInfo = methodDef
-        .unsafeGetMetadata(
-          AliasAnalysis,
-          s"Missing scope information for method " +
-          s"`${methodDef.typeName.map(_.name + ".").getOrElse("")}${methodDef.methodName.name}`."
-        )
-        .unsafeAs[AliasAnalysis.Info.Scope.Root]
-      val dataflowInfo = methodDef.unsafeGetMetadata(
-        DataflowAnalysis,
-        "Method definition missing dataflow information."
-      )
-
-      @tailrec
-      def getContext(tp: Expression): Option[String] = tp match {
-        case fn: Tpe.Function => getContext(fn.result)
-        case ctx: Tpe.Context =>
-          ctx.context match {
-            case lit: Name.Literal => Some(lit.name)
-            case _                 => None
-          }
-        case _ => None
-      }
-
-      val effectContext = methodDef
-        .getMetadata(TypeSignatures)
-        .flatMap(sig => getContext(sig.signature))
-
-      val declaredConsOpt =
-        methodDef.methodReference.typePointer match {
-          case None =>
-            Some(moduleScope.getAssociatedType)
-          case Some(tpePointer) =>
-            tpePointer
-              .getMetadata(MethodDefinitions)
-              .map { res =>
-                res.target match {
-                  case BindingsMap.ResolvedType(module, tp) =>
-                    module.unsafeAsModule().getScope.getTypes.get(tp.name)
-                  case BindingsMap.ResolvedModule(module) =>
-                    module.unsafeAsModule().getScope.getAssociatedType
-                  case BindingsMap.ResolvedConstructor(_, _) =>
-                    throw new CompilerError(
-                      "Impossible, should be caught by MethodDefinitions pass"
-                    )
-                  case BindingsMap.ResolvedPolyglotSymbol(_, _) =>
-                    throw new CompilerError(
-                      "Impossible polyglot symbol, should be caught by MethodDefinitions pass."
-                    )
-                  case BindingsMap.ResolvedPolyglotField(_, _) =>
-                    throw new CompilerError(
-                      "Impossible polyglot field, should be caught by MethodDefinitions pass."
-                    )
-                  case _: BindingsMap.ResolvedMethod =>
-                    throw new CompilerError(
-                      "Impossible here, should be caught by MethodDefinitions pass."
-                    )
-                }
-              }
-        }
-
-      val consOpt = declaredConsOpt.map { c =>
-        if (methodDef.isStatic) {
-          c.getEigentype
-        } else { c }
-      }
-
-      consOpt.foreach { cons =>
-        val fullMethodDefName =
-          cons.getName ++ Constants.SCOPE_SEPARATOR ++ methodDef.methodName.name
-        val expressionProcessor = new ExpressionProcessor(
-          fullMethodDefName,
-          scopeInfo.graph,
-          scopeInfo.graph.rootScope,
-          dataflowInfo
-        )
-
-        val function = methodDef.body match {
-          case fn: Function if isBuiltinMethod(fn.body) =>
-            // For builtin types that own the builtin method we only check that
-            // the method has been registered during the initialization of builtins
-            // and not attempt to register it in the scope (can't redefined methods).
-            // For non-builtin types (or modules) that own the builtin method
-            // we have to look up the function and register it in the scope.
-            // Static wrappers for instance methods have to be registered always.
-            val fullMethodName = methodDef.body
-              .asInstanceOf[Function.Lambda]
-              .body
-              .asInstanceOf[Literal.Text]
-
-            val builtinNameElements = fullMethodName.text.split('.')
-            if (builtinNameElements.length != 2) {
-              throw new CompilerError(
-                s"Unknown builtin method ${fullMethodName.text}, probably should be '$fullMethodDefName?'"
-              )
-            }
-            val methodName      = builtinNameElements(1)
-            val methodOwnerName = builtinNameElements(0)
-
-            val staticWrapper = methodDef.isStaticWrapperForInstanceMethod
-
-            val builtinFunction = context.getBuiltins
-              .getBuiltinFunction(
-                methodOwnerName,
-                methodName,
-                language,
-                staticWrapper
-              )
-            builtinFunction.toScala
-              .map(Some(_))
-              .toRight(
-                new CompilerError(
-                  s"Unable to find Truffle Node for method ${cons.getName}.${methodDef.methodName.name}"
-                )
-              )
-              .left
-              .flatMap { l =>
-                // Builtin Types Number and Integer have methods only for documentation purposes
-                val number = context.getBuiltins.number()
-                val ok =
-                  staticWrapper && (cons == number.getNumber.getEigentype || cons == number.getInteger.getEigentype) ||
-                  !staticWrapper && (cons == number.getNumber             || cons == number.getInteger)
-                if (ok) Right(None)
-                else Left(l)
-              }
-              .map(fOpt =>
-                fOpt.map { m =>
-                  if (m.isAutoRegister) {
-                    val irFunctionArgumentsCount = fn.arguments.length
-                    val builtinArgumentsCount =
-                      m.getFunction.getSchema.getArgumentsCount
-                    if (irFunctionArgumentsCount != builtinArgumentsCount) {
-                      val irFunctionArguments =
-                        fn.arguments.map(_.name.name).mkString(",")
-                      val builtinArguments =
-                        m.getFunction.getSchema.getArgumentInfos
-                          .map(_.getName)
-                          .mkString(",")
-                      throw new CompilerError(
-                        s"Wrong number of arguments provided in the definition of builtin function ${cons.getName}.${methodDef.methodName.name}. " +
-                        s"[$irFunctionArguments] vs [$builtinArguments]"
-                      )
-                    }
-                    val bodyBuilder =
-                      new expressionProcessor.BuildFunctionBody(
-                        fn.arguments,
-                        fn.body,
-                        effectContext,
-                        true
-                      )
-                    val builtinRootNode =
-                      m.getFunction.getCallTarget.getRootNode
-                        .asInstanceOf[BuiltinRootNode]
-                    builtinRootNode.setModuleName(moduleScope.getModule.getName)
-                    builtinRootNode.setTypeName(cons.getQualifiedName)
-                    new RuntimeFunction(
-                      m.getFunction.getCallTarget,
-                      null,
-                      new FunctionSchema(
-                        new Array[RuntimeAnnotation](0),
-                        bodyBuilder.args(): _*
-                      )
-                    )
-                  } else {
-                    m.getFunction
-                  }
-                }
-              )
-          case fn: Function =>
-            val bodyBuilder =
-              new expressionProcessor.BuildFunctionBody(
-                fn.arguments,
-                fn.body,
-                effectContext,
-                true
-              )
-            val rootNode = MethodRootNode.build(
-              language,
-              expressionProcessor.scope,
-              moduleScope,
-              () => bodyBuilder.bodyNode(),
-              makeSection(moduleScope, methodDef.location),
-              cons,
-              methodDef.methodName.name
-            )
-            val callTarget = rootNode.getCallTarget
-            val arguments  = bodyBuilder.args()
-            // build annotations
-            val annotations =
-              methodDef.getMetadata(GenericAnnotations).toVector.flatMap {
-                meta =>
-                  meta.annotations
-                    .collect { case annotation: Name.GenericAnnotation =>
-                      val scopeElements = Seq(
-                        cons.getName,
-                        methodDef.methodName.name,
-                        annotation.name
-                      )
-                      val scopeName =
-                        scopeElements.mkString(Constants.SCOPE_SEPARATOR)
-                      val scopeInfo = annotation
-                        .unsafeGetMetadata(
-                          AliasAnalysis,
-                          s"Missing scope information for annotation " +
-                          s"${annotation.name} of method " +
-                          scopeElements.init.mkString(Constants.SCOPE_SEPARATOR)
-                        )
-                        .unsafeAs[AliasAnalysis.Info.Scope.Root]
-                      val dataflowInfo = annotation.unsafeGetMetadata(
-                        DataflowAnalysis,
-                        "Missing dataflow information for annotation " +
-                        s"${annotation.name} of method " +
-                        scopeElements.init.mkString(Constants.SCOPE_SEPARATOR)
-                      )
-                      val expressionProcessor = new ExpressionProcessor(
-                        scopeName,
-                        scopeInfo.graph,
-                        scopeInfo.graph.rootScope,
-                        dataflowInfo
-                      )
-                      val expressionNode =
-                        expressionProcessor.run(annotation.expression, true)
-                      val closureName =
-                        s"<default::${expressionProcessor.scopeName}>"
-                      val closureRootNode = ClosureRootNode.build(
-                        language,
-                        expressionProcessor.scope,
-                        moduleScope,
-                        expressionNode,
-                        makeSection(moduleScope, annotation.location),
-                        closureName,
-                        true,
-                        false
-                      )
-                      new RuntimeAnnotation(annotation.name, closureRootNode)
-                    }
-              }
-
-            Right(
-              Some(
-                new RuntimeFunction(
-                  callTarget,
-                  null,
-                  new FunctionSchema(annotations.toArray, arguments: _*)
-                )
-              )
-            )
-          case _ =>
-            Left(
-              new CompilerError(
-                "Method bodies must be functions at the point of codegen."
-              )
-            )
-        }
-        function match {
-          case Left(failure) =>
-            throw failure
-          case Right(Some(fun)) =>
-            moduleScope.registerMethod(cons, methodDef.methodName.name, fun)
-          case _ =>
-          // Don't register dummy function nodes
-        }
-      }
-    })
+    methodDefs.foreach(processMethodDefinition(_, moduleScope.registerMethod))
 
     val conversionDefs = module.bindings.collect {
       case conversion: definition.Method.Conversion =>
@@ -676,6 +425,302 @@ class IrToTruffle(
     })
   }
 
+  /** Generates truffle nodes for a method definition and passes them to
+    * `register`.
+    *
+    * @param methodDef the method definition to generate code for
+    * @param register the function registering the method for its type
+    */
+  private def processMethodDefinition(
+    methodDef: definition.Method.Explicit,
+    register: (Type, String, RuntimeFunction) => Unit
+  ): Unit = {
+    val scopeInfo = methodDef
+      .unsafeGetMetadata(
+        AliasAnalysis,
+        s"Missing scope information for method " +
+        s"`${methodDef.typeName.map(_.name + ".").getOrElse("")}${methodDef.methodName.name}`."
+      )
+      .unsafeAs[AliasAnalysis.Info.Scope.Root]
+    val dataflowInfo = methodDef.unsafeGetMetadata(
+      DataflowAnalysis,
+      "Method definition missing dataflow information."
+    )
+
+    @tailrec
+    def getContext(tp: Expression): Option[String] = tp match {
+      case fn: Tpe.Function => getContext(fn.result)
+      case ctx: Tpe.Context =>
+        ctx.context match {
+          case lit: Name.Literal => Some(lit.name)
+          case _                 => None
+        }
+      case _ => None
+    }
+
+    val effectContext = methodDef
+      .getMetadata(TypeSignatures)
+      .flatMap(sig => getContext(sig.signature))
+
+    val declaredConsOpt =
+      methodDef.methodReference.typePointer match {
+        case None =>
+          Some(moduleScope.getAssociatedType)
+        case Some(tpePointer) =>
+          tpePointer
+            .getMetadata(MethodDefinitions)
+            .map { res =>
+              res.target match {
+                case BindingsMap.ResolvedType(module, tp) =>
+                  module.unsafeAsModule().getScope.getTypes.get(tp.name)
+                case BindingsMap.ResolvedModule(module) =>
+                  module.unsafeAsModule().getScope.getAssociatedType
+                case BindingsMap.ResolvedConstructor(_, _) =>
+                  throw new CompilerError(
+                    "Impossible, should be caught by MethodDefinitions pass"
+                  )
+                case BindingsMap.ResolvedPolyglotSymbol(_, _) =>
+                  throw new CompilerError(
+                    "Impossible polyglot symbol, should be caught by MethodDefinitions pass."
+                  )
+                case BindingsMap.ResolvedPolyglotField(_, _) =>
+                  throw new CompilerError(
+                    "Impossible polyglot field, should be caught by MethodDefinitions pass."
+                  )
+                case _: BindingsMap.ResolvedMethod =>
+                  throw new CompilerError(
+                    "Impossible here, should be caught by MethodDefinitions pass."
+                  )
+              }
+            }
+      }
+
+    val consOpt = declaredConsOpt.map { c =>
+      if (methodDef.isStatic) {
+        c.getEigentype
+      } else { c }
+    }
+
+    consOpt.foreach { cons =>
+      val fullMethodDefName =
+        cons.getName ++ Constants.SCOPE_SEPARATOR ++ methodDef.methodName.name
+      val expressionProcessor = new ExpressionProcessor(
+        fullMethodDefName,
+        scopeInfo.graph,
+        scopeInfo.graph.rootScope,
+        dataflowInfo
+      )
+
+      val function = methodDef.body match {
+        case fn: Function if isBuiltinMethod(fn.body) =>
+          // For builtin types that own the builtin method we only check that
+          // the method has been registered during the initialization of builtins
+          // and not attempt to register it in the scope (can't redefined methods).
+          // For non-builtin types (or modules) that own the builtin method
+          // we have to look up the function and register it in the scope.
+          // Static wrappers for instance methods have to be registered always.
+          val fullMethodName = methodDef.body
+            .asInstanceOf[Function.Lambda]
+            .body
+            .asInstanceOf[Literal.Text]
+
+          val builtinNameElements = fullMethodName.text.split('.')
+          if (builtinNameElements.length != 2) {
+            throw new CompilerError(
+              s"Unknown builtin method ${fullMethodName.text}, probably should be '$fullMethodDefName?'"
+            )
+          }
+          val methodName      = builtinNameElements(1)
+          val methodOwnerName = builtinNameElements(0)
+
+          val staticWrapper = methodDef.isStaticWrapperForInstanceMethod
+
+          val builtinFunction = context.getBuiltins
+            .getBuiltinFunction(
+              methodOwnerName,
+              methodName,
+              language,
+              staticWrapper
+            )
+          builtinFunction.toScala
+            .map(Some(_))
+            .toRight(
+              new CompilerError(
+                s"Unable to find Truffle Node for method ${cons.getName}.${methodDef.methodName.name}"
+              )
+            )
+            .left
+            .flatMap { l =>
+              // Builtin Types Number and Integer have methods only for documentation purposes
+              val number = context.getBuiltins.number()
+              val ok =
+                staticWrapper && (cons == number.getNumber.getEigentype || cons == number.getInteger.getEigentype) ||
+                !staticWrapper && (cons == number.getNumber             || cons == number.getInteger)
+              if (ok) Right(None)
+              else Left(l)
+            }
+            .map(fOpt =>
+              fOpt.map { m =>
+                if (m.isAutoRegister) {
+                  val irFunctionArgumentsCount = fn.arguments.length
+                  val builtinArgumentsCount =
+                    m.getFunction.getSchema.getArgumentsCount
+                  if (irFunctionArgumentsCount != builtinArgumentsCount) {
+                    val irFunctionArguments =
+                      fn.arguments.map(_.name.name).mkString(",")
+                    val builtinArguments =
+                      m.getFunction.getSchema.getArgumentInfos
+                        .map(_.getName)
+                        .mkString(",")
+                    throw new CompilerError(
+                      s"Wrong number of arguments provided in the definition of builtin function ${cons.getName}.${methodDef.methodName.name}. " +
+                      s"[$irFunctionArguments] vs [$builtinArguments]"
+                    )
+                  }
+                  val bodyBuilder =
+                    new expressionProcessor.BuildFunctionBody(
+                      fn.arguments,
+                      fn.body,
+                      effectContext,
+                      true
+                    )
+                  val builtinRootNode =
+                    m.getFunction.getCallTarget.getRootNode
+                      .asInstanceOf[BuiltinRootNode]
+                  builtinRootNode.setModuleName(moduleScope.getModule.getName)
+                  builtinRootNode.setTypeName(cons.getQualifiedName)
+                  new RuntimeFunction(
+                    m.getFunction.getCallTarget,
+                    null,
+                    new FunctionSchema(
+                      new Array[RuntimeAnnotation](0),
+                      bodyBuilder.args(): _*
+                    )
+                  )
+                } else {
+                  m.getFunction
+                }
+              }
+            )
+        case fn: Function =>
+          val bodyBuilder =
+            new expressionProcessor.BuildFunctionBody(
+              fn.arguments,
+              fn.body,
+              effectContext,
+              true
+            )
+          val rootNode = MethodRootNode.build(
+            language,
+            expressionProcessor.scope,
+            moduleScope,
+            () => bodyBuilder.bodyNode(),
+            makeSection(moduleScope, methodDef.location),
+            cons,
+            methodDef.methodName.name
+          )
+          val callTarget = rootNode.getCallTarget
+          val arguments  = bodyBuilder.args()
+          // build annotations
+          val annotations =
+            methodDef.getMetadata(GenericAnnotations).toVector.flatMap {
+              meta =>
+                meta.annotations
+                  .collect { case annotation: Name.GenericAnnotation =>
+                    val scopeElements = Seq(
+                      cons.getName,
+                      methodDef.methodName.name,
+                      annotation.name
+                    )
+                    val scopeName =
+                      scopeElements.mkString(Constants.SCOPE_SEPARATOR)
+                    val scopeInfo = annotation
+                      .unsafeGetMetadata(
+                        AliasAnalysis,
+                        s"Missing scope information for annotation " +
+                        s"${annotation.name} of method " +
+                        scopeElements.init.mkString(Constants.SCOPE_SEPARATOR)
+                      )
+                      .unsafeAs[AliasAnalysis.Info.Scope.Root]
+                    val dataflowInfo = annotation.unsafeGetMetadata(
+                      DataflowAnalysis,
+                      "Missing dataflow information for annotation " +
+                      s"${annotation.name} of method " +
+                      scopeElements.init.mkString(Constants.SCOPE_SEPARATOR)
+                    )
+                    val expressionProcessor = new ExpressionProcessor(
+                      scopeName,
+                      scopeInfo.graph,
+                      scopeInfo.graph.rootScope,
+                      dataflowInfo
+                    )
+                    val expressionNode =
+                      expressionProcessor.run(annotation.expression, true)
+                    val closureName =
+                      s"<default::${expressionProcessor.scopeName}>"
+                    val closureRootNode = ClosureRootNode.build(
+                      language,
+                      expressionProcessor.scope,
+                      moduleScope,
+                      expressionNode,
+                      makeSection(moduleScope, annotation.location),
+                      closureName,
+                      true,
+                      false
+                    )
+                    new RuntimeAnnotation(annotation.name, closureRootNode)
+                  }
+            }
+
+          Right(
+            Some(
+              new RuntimeFunction(
+                callTarget,
+                null,
+                new FunctionSchema(annotations.toArray, arguments: _*)
+              )
+            )
+          )
+        case _ =>
+          Left(
+            new CompilerError(
+              "Method bodies must be functions at the point of codegen."
+            )
+          )
+      }
+      function match {
+        case Left(failure) =>
+          throw failure
+        case Right(Some(fun)) =>
+          register(cons, methodDef.methodName.name, fun)
+        case _ =>
+        // Don't register dummy function nodes
+      }
+    }
+  }
+
+  /** Replaces a method in the module scope and redirects its previous
+    * version to the new one.
+    *
+    * @param tpe the type the method is defined for
+    * @param name the name of the method
+    * @param function the re-compiled method
+    */
+  private def replaceMethod(
+    tpe: Type,
+    name: String,
+    function: RuntimeFunction
+  ): Unit = {
+    val previous = Option(moduleScope.replaceMethod(tpe, name, function))
+    val oldRoot  = previous.map(_.getCallTarget.getRootNode)
+    val newRoot  = function.getCallTarget.getRootNode
+    (oldRoot, newRoot) match {
+      case (Some(old: MethodRootNode), newVersion: MethodRootNode) =>
+        old.redirectTo(newVersion)
+      case _ =>
+    }
+  }
+
   // ==========================================================================
   // === Utility Functions ====================================================
   // ==========================================================================
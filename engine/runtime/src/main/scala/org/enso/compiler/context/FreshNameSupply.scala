@@ -20,6 +20,8 @@ class FreshNameSupply {
   }
 
   /** Generates a name guaranteed not to exist in this program.
+    *
+    * It is safe to call concurrently, as modules may be compiled in parallel.
     *
     * @param isMethod whether or not the name should represent a method name.
     * @return a new name
@@ -27,8 +29,11 @@ class FreshNameSupply {
   def newName(
     isMethod: Boolean = false
   ): Name.Literal = {
-    val num = counter
-    counter += 1
+    val num = synchronized {
+      val current = counter
+      counter += 1
+      current
+    }
 
     mkName(num, isMethod)
   }
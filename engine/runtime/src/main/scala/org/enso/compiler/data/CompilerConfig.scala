@@ -9,12 +9,15 @@ import java.io.PrintStream
   * @param warningsEnabled whether or not warnings are enabled
   * @param isStrictErrors if true, presence of any Error in IR will result in an exception
   * @param outputRedirect redirection of the output of warnings and errors of compiler
+  * @param parallelCompilation whether or not independent modules are compiled
+  *                            in parallel
   */
 case class CompilerConfig(
   autoParallelismEnabled: Boolean     = false,
   warningsEnabled: Boolean            = true,
   isStrictErrors: Boolean             = false,
-  outputRedirect: Option[PrintStream] = None
+  outputRedirect: Option[PrintStream] = None,
+  parallelCompilation: Boolean        = false
 ) {
   def parallelParsing: Boolean = false
 }
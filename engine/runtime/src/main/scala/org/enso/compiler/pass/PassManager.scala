@@ -14,11 +14,13 @@ import org.enso.compiler.core.CompilerError
   *
   * @param passes the pass groups, must all be unique
   * @param passConfiguration the configuration for each pass in `passes`
+  * @param profiler records the execution of passes on modules, if enabled
   */
 //noinspection DuplicatedCode
 class PassManager(
   passes: List[PassGroup],
-  passConfiguration: PassConfiguration
+  passConfiguration: PassConfiguration,
+  profiler: Option[PassProfiler] = None
 ) {
   val allPasses = verifyPassOrdering(passes.flatMap(_.passes))
 
@@ -98,7 +100,14 @@ class PassManager(
             c.shouldWriteToContext = isLastRunOf(index, pass, passGroup)
           )
 
-        pass.runModule(intermediateIR, newContext)
+        profiler match {
+          case Some(p) =>
+            p.profilePass(moduleContext.getName(), pass) {
+              pass.runModule(intermediateIR, newContext)
+            }
+          case None =>
+            pass.runModule(intermediateIR, newContext)
+        }
       }
     }
   }
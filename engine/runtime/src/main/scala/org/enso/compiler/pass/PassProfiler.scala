@@ -0,0 +1,207 @@
+package org.enso.compiler.pass
+
+import org.enso.compiler.core.IR
+import org.enso.compiler.core.ir.Module
+import org.enso.pkg.QualifiedName
+
+import java.io.{OutputStream, OutputStreamWriter, Writer}
+import java.lang.management.ManagementFactory
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ConcurrentLinkedQueue
+
+import scala.jdk.CollectionConverters._
+
+/** Records the time spent in the compiler passes and other compilation steps,
+  * per module.
+  *
+  * Each recorded step is described by its wall time, the number of bytes
+  * allocated by the compiling thread and, for passes, the number of IR nodes
+  * in the resulting module. The records can be written in the Chrome trace
+  * event format, so that they can be inspected in `chrome://tracing` or
+  * Perfetto, or aggregated by a script.
+  *
+  * This class is safe to use concurrently.
+  */
+final class PassProfiler {
+  import PassProfiler._
+
+  private val startNanos: Long = System.nanoTime()
+  private val events          = new ConcurrentLinkedQueue[Event]()
+
+  /** Runs a compiler pass on a module, recording its execution.
+    *
+    * A pass that fails is recorded as well, without the number of IR nodes.
+    *
+    * @param module the name of the module being compiled
+    * @param pass the pass being run
+    * @param run runs the pass
+    * @return the result of running the pass
+    */
+  def profilePass(module: QualifiedName, pass: IRPass)(
+    run: => Module
+  ): Module = {
+    val start          = System.nanoTime()
+    val startAllocated = allocatedBytes()
+    var result: Module = null
+    try {
+      result = run
+      result
+    } finally {
+      val end       = System.nanoTime()
+      val allocated = allocatedBytes() - startAllocated
+      events.add(
+        Event(
+          pass.toString,
+          "pass",
+          module.toString,
+          start - startNanos,
+          end - start,
+          Thread.currentThread().getId,
+          if (startAllocated >= 0) allocated else -1,
+          if (result != null) countNodes(result) else -1
+        )
+      )
+    }
+  }
+
+  /** Runs a compilation step on a module, recording its execution.
+    *
+    * @param module the name of the module being compiled
+    * @param name the name of the compilation step
+    * @param run runs the step
+    * @return the result of running the step
+    */
+  def profile[T](module: QualifiedName, name: String)(run: => T): T = {
+    val start          = System.nanoTime()
+    val startAllocated = allocatedBytes()
+    try {
+      run
+    } finally {
+      val end       = System.nanoTime()
+      val allocated = allocatedBytes() - startAllocated
+      events.add(
+        Event(
+          name,
+          "step",
+          module.toString,
+          start - startNanos,
+          end - start,
+          Thread.currentThread().getId,
+          if (startAllocated >= 0) allocated else -1,
+          -1
+        )
+      )
+    }
+  }
+
+  /** @return `true` if no compilation step has been recorded yet */
+  def isEmpty: Boolean = events.isEmpty
+
+  /** Writes the recorded events in the Chrome trace event format.
+    *
+    * @param out the stream to write to, left open
+    */
+  def writeChromeTrace(out: OutputStream): Unit = {
+    val writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)
+    writer.write("{\"traceEvents\":[")
+    var first = true
+    events.asScala.foreach { event =>
+      if (!first) writer.write(",")
+      first = false
+      writer.write("\n")
+      writeEvent(writer, event)
+    }
+    writer.write("\n],\"displayTimeUnit\":\"ms\"}\n")
+    writer.flush()
+  }
+
+  private def writeEvent(writer: Writer, event: Event): Unit = {
+    writer.write("{\"name\":")
+    writeString(writer, event.name)
+    writer.write(",\"cat\":")
+    writeString(writer, event.category)
+    writer.write(",\"ph\":\"X\",\"pid\":1,\"tid\":")
+    writer.write(event.threadId.toString)
+    writer.write(",\"ts\":")
+    writer.write(toMicros(event.startNanos))
+    writer.write(",\"dur\":")
+    writer.write(toMicros(event.durationNanos))
+    writer.write(",\"args\":{\"module\":")
+    writeString(writer, event.module)
+    if (event.allocatedBytes >= 0) {
+      writer.write(",\"allocatedBytes\":")
+      writer.write(event.allocatedBytes.toString)
+    }
+    if (event.irNodes >= 0) {
+      writer.write(",\"irNodes\":")
+      writer.write(event.irNodes.toString)
+    }
+    writer.write("}}")
+  }
+}
+
+object PassProfiler {
+
+  /** A single recorded compilation step.
+    *
+    * @param name the name of the pass or step
+    * @param category the category of the event
+    * @param module the name of the compiled module
+    * @param startNanos the start of the step, relative to the profiler start
+    * @param durationNanos the wall time of the step
+    * @param threadId the thread that ran the step
+    * @param allocatedBytes the bytes allocated by the thread, or -1 if unknown
+    * @param irNodes the number of IR nodes after the step, or -1 if unknown
+    */
+  private case class Event(
+    name: String,
+    category: String,
+    module: String,
+    startNanos: Long,
+    durationNanos: Long,
+    threadId: Long,
+    allocatedBytes: Long,
+    irNodes: Int
+  )
+
+  /** The bean used to measure allocations, if the JVM supports it. */
+  private lazy val threadBean: Option[com.sun.management.ThreadMXBean] =
+    ManagementFactory.getThreadMXBean match {
+      case bean: com.sun.management.ThreadMXBean
+          if bean.isThreadAllocatedMemorySupported &&
+          bean.isThreadAllocatedMemoryEnabled =>
+        Some(bean)
+      case _ => None
+    }
+
+  /** @return the bytes allocated by the current thread so far, or -1 if it
+    *         cannot be measured
+    */
+  private def allocatedBytes(): Long =
+    threadBean
+      .map(_.getThreadAllocatedBytes(Thread.currentThread().getId))
+      .getOrElse(-1L)
+
+  /** Counts the nodes of the IR, without collecting them.
+    *
+    * @param ir the IR to count the nodes of
+    * @return the number of nodes in `ir`, including `ir` itself
+    */
+  private def countNodes(ir: IR): Int =
+    ir.children.foldLeft(1)((count, child) => count + countNodes(child))
+
+  private def toMicros(nanos: Long): String =
+    (nanos / 1000).toString + "." + "%03d".format(nanos % 1000)
+
+  private def writeString(writer: Writer, value: String): Unit = {
+    writer.write('"')
+    value.foreach {
+      case '"'  => writer.write("\\\"")
+      case '\\' => writer.write("\\\\")
+      case c if c < ' ' =>
+        writer.write("\\u%04x".format(c.toInt))
+      case c => writer.write(c)
+    }
+    writer.write('"')
+  }
+}
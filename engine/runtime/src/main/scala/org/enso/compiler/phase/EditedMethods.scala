@@ -0,0 +1,131 @@
+package org.enso.compiler.phase
+
+import org.enso.compiler.core.IR
+import org.enso.compiler.core.ir.expression.Comment
+import org.enso.compiler.core.ir.module.scope.Definition
+import org.enso.compiler.core.ir.module.scope.definition.Method
+import org.enso.compiler.core.ir.{Empty, Module, Name, Type}
+import org.enso.compiler.pass.desugar.FunctionBinding
+
+/** Finds the top-level methods of a module that have to be re-compiled after
+  * an edit, when the edit only changes bodies of methods.
+  *
+  * The edit has to keep the imports, the exports and the signatures of all
+  * top-level methods. The first top-level binding that changed or moved and
+  * all the bindings following it are re-compiled, so that the locations of
+  * the re-compiled code match the new source. These bindings may only be
+  * methods together with their documentation, annotations and type
+  * signatures. The bindings preceding it, including the types, keep their
+  * code.
+  */
+object EditedMethods {
+
+  /** The part of the module to re-compile.
+    *
+    * @param firstBinding the index of the first top-level binding to
+    *                     re-compile, the bindings from it to the end of the
+    *                     module are re-compiled
+    * @param oldStart the offset of that binding in the old source
+    * @param newStart the offset of that binding in the new source
+    */
+  case class Recompile(firstBinding: Int, oldStart: Int, newStart: Int)
+
+  /** Compares the parsed IR of the module before and after the edit.
+    *
+    * @param oldIr the IR of the old source, as produced by the parser
+    * @param oldSource the old source
+    * @param newIr the IR of the new source, as produced by the parser
+    * @param newSource the new source
+    * @return the bindings to re-compile, or `None` if the edit is not limited
+    *         to bodies of top-level methods
+    */
+  def find(
+    oldIr: Module,
+    oldSource: CharSequence,
+    newIr: Module,
+    newSource: CharSequence
+  ): Option[Recompile] = {
+    def text(ir: IR, source: CharSequence, end: IR => Option[Int]) =
+      for {
+        location <- ir.location
+        to       <- end(ir)
+      } yield source.subSequence(location.start, to).toString
+    def wholeText(ir: IR, source: CharSequence) =
+      text(ir, source, _.location.map(_.end))
+    def signature(ir: IR, source: CharSequence) =
+      text(ir, source, bodyStart)
+    def unchanged(pair: (IR, IR)): Boolean = {
+      val (oldBinding, newBinding) = pair
+      oldBinding.location.map(_.start) == newBinding.location.map(_.start) &&
+      wholeText(oldBinding, oldSource).isDefined &&
+      wholeText(oldBinding, oldSource) == wholeText(newBinding, newSource) &&
+      oldBinding.preorder.map(_.getExternalId) ==
+        newBinding.preorder.map(_.getExternalId)
+    }
+    def sameSignature(pair: (IR, IR)): Boolean = pair match {
+      case (oldMethod: Method.Binding, newMethod: Method.Binding) =>
+        oldMethod.methodName.name != FunctionBinding.conversionMethodName &&
+        signature(oldMethod, oldSource).isDefined &&
+        signature(oldMethod, oldSource) == signature(newMethod, newSource)
+      case (oldBinding, newBinding) =>
+        isMethodPart(oldBinding) &&
+        wholeText(oldBinding, oldSource).isDefined &&
+        wholeText(oldBinding, oldSource) == wholeText(newBinding, newSource)
+    }
+
+    val sameHeader =
+      oldIr.imports.length == newIr.imports.length &&
+      oldIr.exports.length == newIr.exports.length &&
+      (oldIr.imports.zip(newIr.imports) ++ oldIr.exports.zip(newIr.exports))
+        .forall(unchanged)
+    val bindings = oldIr.bindings.zip(newIr.bindings)
+    val first    = bindings.indexWhere(!unchanged(_))
+    val headerEnd =
+      (oldIr.imports ++ oldIr.exports).flatMap(_.location).map(_.end).maxOption
+    Option
+      .when(
+        sameHeader && first >= 0 &&
+        oldIr.bindings.length == newIr.bindings.length &&
+        bindings.drop(first).forall(sameSignature)
+      )(bindings(first))
+      .flatMap { case (oldBinding, newBinding) =>
+        oldBinding.location.zip(newBinding.location)
+      }
+      .filter { case (oldLocation, _) =>
+        headerEnd.forall(_ <= oldLocation.start)
+      }
+      .map { case (oldLocation, newLocation) =>
+        Recompile(first, oldLocation.start, newLocation.start)
+      }
+  }
+
+  /** Leaves out the bodies of the methods defined by a top-level binding.
+    *
+    * The passes still see the methods and their signatures, but do not spend
+    * any time on their bodies.
+    *
+    * @param binding the top-level binding
+    * @return the binding with empty method bodies
+    */
+  def withoutMethodBodies(binding: Definition): Definition = binding match {
+    case method: Method.Binding => method.copy(body = Empty(None))
+    case tpe: Definition.SugaredType =>
+      tpe.copy(body = tpe.body.map {
+        case method: Method.Binding => method.copy(body = Empty(None))
+        case other                  => other
+      })
+    case other => other
+  }
+
+  private def bodyStart(ir: IR): Option[Int] = ir match {
+    case method: Method.Binding => method.body.location.map(_.start)
+    case _                      => None
+  }
+
+  private def isMethodPart(ir: IR): Boolean = ir match {
+    case _: Comment.Documentation  => true
+    case _: Name.GenericAnnotation => true
+    case _: Type.Ascription        => true
+    case _                         => false
+  }
+}
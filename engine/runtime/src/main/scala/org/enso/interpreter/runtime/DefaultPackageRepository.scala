@@ -557,7 +557,16 @@ private class DefaultPackageRepository(
   ): Option[ImportExportCache.CachedBindings] = {
     ensurePackageIsLoaded(libraryName).toOption.flatMap { _ =>
       if (!loadedLibraryBindings.contains(libraryName)) {
-        loadedPackages.get(libraryName).flatten.foreach(loadDependencies(_))
+        loadedPackages.get(libraryName).flatten.foreach { pkg =>
+          val dependencies = loadDependencies(pkg)
+          if (serializationManager.isPrefetchingEnabled) {
+            prefetchLibraryBindings(
+              dependencies,
+              serializationManager,
+              collection.mutable.Set(libraryName)
+            )
+          }
+        }
         serializationManager
           .deserializeLibraryBindings(libraryName)
           .foreach(cache => loadedLibraryBindings.addOne((libraryName, cache)))
@@ -566,13 +575,44 @@ private class DefaultPackageRepository(
     }
   }
 
-  private def loadDependencies(pkg: Package[TruffleFile]): Unit = {
+  /** Starts loading the bindings caches of the provided libraries and all of
+    * their transitive dependencies in the background.
+    *
+    * @param libraries the libraries to load bindings for
+    * @param serializationManager the serialization manager loading the caches
+    * @param visited the libraries that were already handled
+    */
+  private def prefetchLibraryBindings(
+    libraries: Seq[LibraryName],
+    serializationManager: SerializationManager,
+    visited: collection.mutable.Set[LibraryName]
+  ): Unit =
+    libraries.foreach { library =>
+      if (visited.add(library) && !loadedLibraryBindings.contains(library)) {
+        loadedPackages.get(library).flatten.foreach { pkg =>
+          serializationManager.prefetchLibraryBindings(library)
+          prefetchLibraryBindings(
+            loadDependencies(pkg),
+            serializationManager,
+            visited
+          )
+        }
+      }
+    }
+
+  /** Ensures that the dependencies of the package are loaded.
+    *
+    * @param pkg the package to load the dependencies for
+    * @return the dependencies that were loaded successfully
+    */
+  private def loadDependencies(
+    pkg: Package[TruffleFile]
+  ): Seq[LibraryName] = {
     val manifestFile = fs.getChild(pkg.root, LibraryManifest.filename)
     readManifest(manifestFile)
       .flatMap(LibraryManifest.fromYaml(_))
-      .foreach(
-        _.dependencies.foreach(ensurePackageIsLoaded)
-      )
+      .map(_.dependencies.filter(ensurePackageIsLoaded(_).isRight))
+      .getOrElse(Nil)
   }
 
   private def readManifest(file: TruffleFile): Try[String] = {
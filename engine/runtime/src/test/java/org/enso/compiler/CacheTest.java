@@ -0,0 +1,247 @@
+package org.enso.compiler;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Level;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.polyglot.LanguageInfo;
+import org.enso.polyglot.MethodNames;
+import org.enso.polyglot.RuntimeOptions;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CacheTest {
+  private static final boolean IS_WINDOWS =
+      System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+  private File dir;
+  private Context ctx;
+  private EnsoContext ensoContext;
+
+  @Before
+  public void prepareTest() throws IOException {
+    dir = Files.createTempDirectory("cache-test").toFile();
+    ctx =
+        Context.newBuilder()
+            .allowExperimentalOptions(true)
+            .allowIO(IOAccess.ALL)
+            .allowAllAccess(true)
+            .logHandler(new ByteArrayOutputStream())
+            .option(
+                RuntimeOptions.LANGUAGE_HOME_OVERRIDE,
+                Paths.get("../../distribution/component").toFile().getAbsolutePath())
+            .build();
+    ensoContext =
+        (EnsoContext)
+            ctx.getBindings(LanguageInfo.ID)
+                .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                .asHostObject();
+  }
+
+  @After
+  public void cleanup() {
+    ctx.close();
+    var files = dir.listFiles();
+    if (files != null) {
+      for (var f : files) {
+        f.delete();
+      }
+    }
+    dir.delete();
+  }
+
+  private static String contentsOfSize(long size) {
+    return "x".repeat((int) size);
+  }
+
+  private TruffleFile writeData(String name, byte[] bytes) throws IOException {
+    var file = new File(dir, name);
+    Files.write(file.toPath(), bytes);
+    return ensoContext.getTruffleFile(file);
+  }
+
+  @Test
+  public void largeDataIsMemoryMapped() {
+    assumeFalse("Data is never mapped on Windows", IS_WINDOWS);
+    var cache = new TestCache(dir, ensoContext);
+    var entry = contentsOfSize(Cache.MIN_MAPPED_DATA_SIZE);
+    assertTrue(cache.save(entry, ensoContext, false).isPresent());
+
+    assertEquals(Optional.of(entry), cache.load(ensoContext));
+    assertTrue(
+        "Data of " + entry.length() + " bytes should be mapped",
+        cache.lastData instanceof MappedByteBuffer);
+  }
+
+  @Test
+  public void smallDataIsReadIntoTheHeap() {
+    var cache = new TestCache(dir, ensoContext);
+    var entry = contentsOfSize(Cache.MIN_MAPPED_DATA_SIZE - 1);
+    assertTrue(cache.save(entry, ensoContext, false).isPresent());
+
+    assertEquals(Optional.of(entry), cache.load(ensoContext));
+    assertFalse(cache.lastData.isDirect());
+    assertTrue(cache.lastData.isReadOnly());
+  }
+
+  @Test
+  public void dataIsReadIntoTheHeapWhenMappingIsNotAllowed() throws IOException {
+    var bytes = contentsOfSize(2 * Cache.MIN_MAPPED_DATA_SIZE).getBytes(StandardCharsets.UTF_8);
+    var file = writeData("data.bin", bytes);
+
+    var heap = Cache.readData(file, false);
+    assertFalse(heap.isDirect());
+    assertTrue(heap.isReadOnly());
+    assertEquals(ByteBuffer.wrap(bytes), heap);
+
+    var mapped = Cache.readData(file, true);
+    assertTrue(mapped instanceof MappedByteBuffer);
+    assertEquals(ByteBuffer.wrap(bytes), mapped);
+  }
+
+  @Test
+  public void digestOfMappedBufferMatchesDigestOfBytes() throws IOException {
+    var cache = new TestCache(dir, ensoContext);
+    var bytes = contentsOfSize(2 * Cache.MIN_MAPPED_DATA_SIZE).getBytes(StandardCharsets.UTF_8);
+    bytes[bytes.length - 1] = 'y';
+    var mapped = Cache.readData(writeData("data.bin", bytes), true);
+    assertTrue(mapped instanceof MappedByteBuffer);
+
+    assertEquals(cache.computeDigestFromBytes(bytes), cache.computeDigestFromBytes(mapped));
+    assertEquals("The position of the buffer is kept", 0, mapped.position());
+  }
+
+  @Test
+  public void inputStreamReadsRemainingContentOfBuffer() throws IOException {
+    var bytes = new byte[] {0, 1, 2, (byte) 0xFF, 4, 5, 6, 7};
+    var buffer = ByteBuffer.wrap(bytes);
+    buffer.position(2);
+
+    try (var stream = Cache.inputStreamOf(buffer)) {
+      assertEquals(6, stream.available());
+      assertEquals(2, stream.read());
+      assertEquals("Bytes are read as unsigned", 0xFF, stream.read());
+      assertEquals(1, stream.skip(1));
+      assertEquals(0, stream.read(new byte[4], 0, 0));
+
+      var read = new byte[4];
+      assertEquals(3, stream.read(read, 1, 3));
+      assertArrayEquals(new byte[] {0, 5, 6, 7}, read);
+
+      assertEquals(0, stream.available());
+      assertEquals(0, stream.skip(10));
+      assertEquals(-1, stream.read());
+      assertEquals(-1, stream.read(read, 0, read.length));
+    }
+    assertEquals("The position of the buffer is kept", 2, buffer.position());
+  }
+
+  @Test
+  public void truncatedMappedDataIsNotLoadedNorInvalidated() {
+    assumeFalse("Mapped files cannot be truncated on Windows", IS_WINDOWS);
+    var cache = new TestCache(dir, ensoContext);
+    var entry = contentsOfSize(2 * Cache.MIN_MAPPED_DATA_SIZE);
+    assertTrue(cache.save(entry, ensoContext, false).isPresent());
+
+    cache.beforeRead =
+        () -> {
+          try (var file = new RandomAccessFile(new File(dir, TestCache.DATA_FILE), "rw")) {
+            file.setLength(0);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    assertEquals(Optional.empty(), cache.load(ensoContext));
+    assertTrue(cache.lastData instanceof MappedByteBuffer);
+    assertTrue(new File(dir, TestCache.DATA_FILE).exists());
+    assertTrue(new File(dir, TestCache.METADATA_FILE).exists());
+  }
+
+  /**
+   * A cache of a string, stored in the given directory. The global cache root does not exist, so
+   * only the local one is loaded.
+   */
+  private static final class TestCache extends Cache<String, TestCache.Meta> {
+    private static final String DATA_FILE = "entry.data";
+    private static final String METADATA_FILE = "entry.meta";
+    private static final String SOURCE_DIGEST = "source";
+
+    private final TruffleFile localRoot;
+    private final TruffleFile globalRoot;
+    private ByteBuffer lastData;
+    private Runnable beforeRead = () -> {};
+
+    TestCache(File dir, EnsoContext context) {
+      super(Level.FINEST, "test", true, true);
+      this.localRoot = context.getTruffleFile(dir);
+      this.globalRoot = localRoot.resolve("global");
+      this.entryName = "entry";
+      this.dataSuffix = ".data";
+      this.metadataSuffix = ".meta";
+    }
+
+    record Meta(String sourceHash, String blobHash) implements Cache.Metadata {}
+
+    @Override
+    protected byte[] metadata(String sourceDigest, String blobDigest, String entry) {
+      return (sourceDigest + "\n" + blobDigest).getBytes(metadataCharset);
+    }
+
+    @Override
+    protected String deserialize(
+        EnsoContext context, ByteBuffer data, Meta meta, TruffleLogger logger) throws IOException {
+      lastData = data;
+      beforeRead.run();
+      try (var stream = inputStreamOf(data)) {
+        return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+      }
+    }
+
+    @Override
+    protected Optional<Meta> metadataFromBytes(byte[] bytes, TruffleLogger logger) {
+      var lines = new String(bytes, metadataCharset).split("\n");
+      return lines.length == 2 ? Optional.of(new Meta(lines[0], lines[1])) : Optional.empty();
+    }
+
+    @Override
+    protected Optional<String> computeDigest(
+        EnsoContext context, String entry, TruffleLogger logger) {
+      return Optional.of(SOURCE_DIGEST);
+    }
+
+    @Override
+    protected Optional<String> computeDigestFromSource(EnsoContext context, TruffleLogger logger) {
+      return Optional.of(SOURCE_DIGEST);
+    }
+
+    @Override
+    protected Optional<Roots> getCacheRoots(EnsoContext context) {
+      return Optional.of(new Roots(localRoot, globalRoot));
+    }
+
+    @Override
+    protected byte[] serialize(EnsoContext context, String entry) {
+      return entry.getBytes(StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package org.enso.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import org.enso.compiler.core.ir.Module;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.pkg.PackageManager;
+import org.enso.polyglot.LanguageInfo;
+import org.enso.polyglot.MethodNames;
+import org.enso.polyglot.RuntimeOptions;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.Test;
+
+public class ParallelCompilationTest {
+  private record Compiled(Map<String, Module> irs, long result) {}
+
+  private Context ensoContextForPackage(File pkgFile, boolean parallel) {
+    Context ctx =
+        Context.newBuilder()
+            .allowExperimentalOptions(true)
+            .allowIO(IOAccess.ALL)
+            .option(RuntimeOptions.PROJECT_ROOT, pkgFile.getAbsolutePath())
+            .option(RuntimeOptions.DISABLE_IR_CACHES, "true")
+            .option(RuntimeOptions.ENABLE_PARALLEL_COMPILATION, "" + parallel)
+            .option(
+                RuntimeOptions.LANGUAGE_HOME_OVERRIDE,
+                Paths.get("../../distribution/component").toFile().getAbsolutePath())
+            .logHandler(new ByteArrayOutputStream())
+            .allowAllAccess(true)
+            .build();
+    assertNotNull("Enso language is supported", ctx.getEngine().getLanguages().get("enso"));
+    return ctx;
+  }
+
+  private Compiled compile(String projectName, boolean parallel) {
+    var pkgPath = new File(getClass().getClassLoader().getResource(projectName).getPath());
+    var pkg = PackageManager.Default().fromDirectory(pkgPath).get();
+    try (var ctx = ensoContextForPackage(pkgPath, parallel)) {
+      var ensoContext =
+          (EnsoContext)
+              ctx.getBindings(LanguageInfo.ID)
+                  .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                  .asHostObject();
+      var module = ensoContext.getModuleForFile(pkg.mainFile()).get();
+      var compiler = ensoContext.getCompiler();
+
+      ctx.enter();
+      try {
+        var result = compiler.run(module);
+        var irs = new TreeMap<String, Module>();
+        result
+            .compiledModules()
+            .foreach(
+                m -> {
+                  irs.put(m.getName().toString(), m.getIr());
+                  return null;
+                });
+
+        var main = module.getScope().getAllMethods().get(0);
+        assertEquals("Main.main", main.getName());
+        return new Compiled(irs, ctx.asValue(main).execute().asLong());
+      } finally {
+        ctx.leave();
+      }
+    }
+  }
+
+  @Test
+  public void parallelCompilationOfImportCycleMatchesSequential() throws IOException {
+    var projectName = "Test_Parallel_Compilation";
+    var sequential = compile(projectName, false);
+    var parallel = compile(projectName, true);
+
+    assertEquals(
+        "All modules are compiled",
+        5,
+        sequential.irs().keySet().stream().filter(n -> n.contains(projectName)).count());
+    assertEquals(sequential.irs().keySet(), parallel.irs().keySet());
+    for (var name : sequential.irs().keySet()) {
+      CompilerTest.assertIR(
+          "IR of " + name + " compiled in parallel",
+          sequential.irs().get(name),
+          parallel.irs().get(name));
+    }
+    assertEquals(32L, sequential.result());
+    assertEquals(sequential.result(), parallel.result());
+  }
+}
@@ -0,0 +1,90 @@
+package org.enso.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import org.enso.compiler.core.ir.Module;
+import org.enso.pkg.QualifiedName;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParsedModuleCacheTest extends CompilerTest {
+  private static final QualifiedName MAIN = QualifiedName.fromString("local.Project.Main");
+
+  private int parses;
+  private Module parsed;
+
+  @Before
+  public void resetParses() {
+    parses = 0;
+  }
+
+  private Module getOrParse(ParsedModuleCache cache, QualifiedName module, String code) {
+    return cache.getOrParse(
+        module,
+        code,
+        () -> {
+          parses++;
+          parsed = ensoCompiler.compile(code);
+          return parsed;
+        });
+  }
+
+  @Test
+  public void unchangedModuleSkipsTheParser() throws IOException {
+    var cache = new ParsedModuleCache(16, 1024);
+    var code = "main = 42\n";
+    var first = getOrParse(cache, MAIN, code);
+    assertSame("Parsed IR is not copied", parsed, first);
+    var second = getOrParse(cache, MAIN, code);
+    assertEquals("Parsed only once", 1, parses);
+    assertNotSame("Callers get their own copy", first, second);
+    assertIR("Memoized IR", parse(code), second);
+  }
+
+  @Test
+  public void changedModuleMissesTheCache() throws IOException {
+    var cache = new ParsedModuleCache(16, 1024);
+    getOrParse(cache, MAIN, "main = 42\n");
+    var code = "main = 43\n";
+    var changed = getOrParse(cache, MAIN, code);
+    assertEquals("Parsed again", 2, parses);
+    assertIR("IR of the new sources", parse(code), changed);
+    assertEquals("Replaces the previous entry", 1, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedModulesAreEvicted() {
+    var other = QualifiedName.fromString("local.Project.Other");
+    var third = QualifiedName.fromString("local.Project.Third");
+    var cache = new ParsedModuleCache(2, 1024);
+    getOrParse(cache, MAIN, "main = 42\n");
+    getOrParse(cache, other, "other = 42\n");
+    getOrParse(cache, MAIN, "main = 42\n");
+    getOrParse(cache, third, "third = 42\n");
+    assertEquals(3, parses);
+    assertEquals(2, cache.size());
+
+    getOrParse(cache, MAIN, "main = 42\n");
+    assertEquals("Recently used module is kept", 3, parses);
+    getOrParse(cache, other, "other = 42\n");
+    assertEquals("Least recently used module is evicted", 4, parses);
+
+    var small = new ParsedModuleCache(16, 15);
+    getOrParse(small, MAIN, "main = 42\n");
+    getOrParse(small, other, "other = 42\n");
+    assertEquals("Sources over the length limit are evicted", 1, small.size());
+  }
+
+  @Test
+  public void clearedCacheParsesAgain() {
+    var cache = new ParsedModuleCache(16, 1024);
+    getOrParse(cache, MAIN, "main = 42\n");
+    cache.clear();
+    assertEquals(0, cache.size());
+    getOrParse(cache, MAIN, "main = 42\n");
+    assertEquals(2, parses);
+  }
+}
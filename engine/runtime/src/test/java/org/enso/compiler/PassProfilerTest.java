@@ -0,0 +1,147 @@
+package org.enso.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.enso.compiler.pass.PassProfiler;
+import org.enso.compiler.pass.desugar.FunctionBinding$;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.pkg.PackageManager;
+import org.enso.pkg.QualifiedName;
+import org.enso.polyglot.LanguageInfo;
+import org.enso.polyglot.MethodNames;
+import org.enso.polyglot.RuntimeOptions;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.Test;
+
+public class PassProfilerTest {
+  private static List<JsonNode> traceEvents(byte[] trace) throws IOException {
+    var root = new ObjectMapper().readTree(trace);
+    assertEquals("ms", root.get("displayTimeUnit").asText());
+    var events = new ArrayList<JsonNode>();
+    root.get("traceEvents").forEach(events::add);
+    for (var event : events) {
+      assertEquals("X", event.get("ph").asText());
+      assertTrue(event.get("ts").asDouble() >= 0);
+      assertTrue(event.get("dur").asDouble() >= 0);
+      assertTrue(event.get("tid").isIntegralNumber());
+      assertTrue(event.get("args").get("module").isTextual());
+    }
+    return events;
+  }
+
+  @Test
+  public void stepsAreWrittenAsChromeTraceEvents() throws IOException {
+    var profiler = new PassProfiler();
+    assertTrue(profiler.isEmpty());
+    var module = QualifiedName.fromString("local.Project.Main");
+    var name = "Quoted \"step\"\\\n";
+    assertEquals(Integer.valueOf(42), profiler.profile(module, name, () -> 42));
+    assertFalse(profiler.isEmpty());
+
+    var out = new ByteArrayOutputStream();
+    profiler.writeChromeTrace(out);
+    var events = traceEvents(out.toByteArray());
+    assertEquals(1, events.size());
+    var event = events.get(0);
+    assertEquals(name, event.get("name").asText());
+    assertEquals("step", event.get("cat").asText());
+    assertEquals("local.Project.Main", event.get("args").get("module").asText());
+    assertFalse("Steps do not count IR nodes", event.get("args").has("irNodes"));
+  }
+
+  @Test
+  public void failingPassesAreRecorded() throws IOException {
+    var profiler = new PassProfiler();
+    var module = QualifiedName.fromString("local.Project.Main");
+    var failure = new IllegalStateException("Pass failed");
+    try {
+      profiler.profilePass(
+          module,
+          FunctionBinding$.MODULE$,
+          () -> {
+            throw failure;
+          });
+      fail("The failure is propagated");
+    } catch (IllegalStateException e) {
+      assertSame(failure, e);
+    }
+
+    var out = new ByteArrayOutputStream();
+    profiler.writeChromeTrace(out);
+    var events = traceEvents(out.toByteArray());
+    assertEquals(1, events.size());
+    var event = events.get(0);
+    assertEquals("pass", event.get("cat").asText());
+    assertFalse("Failed passes do not count IR nodes", event.get("args").has("irNodes"));
+  }
+
+  @Test
+  public void compilationWritesTheProfileOnShutdown() throws IOException {
+    var testName = "Fib_Test";
+    var pkgPath = new File(getClass().getClassLoader().getResource(testName).getPath());
+    var pkg = PackageManager.Default().fromDirectory(pkgPath).get();
+    var profile = Files.createTempFile("compilation-profile", ".json");
+    try {
+      try (var ctx =
+          Context.newBuilder()
+              .allowExperimentalOptions(true)
+              .allowIO(IOAccess.ALL)
+              .option(RuntimeOptions.PROJECT_ROOT, pkgPath.getAbsolutePath())
+              .option(RuntimeOptions.DISABLE_IR_CACHES, "true")
+              .option(RuntimeOptions.COMPILATION_PROFILE, profile.toString())
+              .option(
+                  RuntimeOptions.LANGUAGE_HOME_OVERRIDE,
+                  Paths.get("../../distribution/component").toFile().getAbsolutePath())
+              .logHandler(new ByteArrayOutputStream())
+              .allowAllAccess(true)
+              .build()) {
+        var ensoContext =
+            (EnsoContext)
+                ctx.getBindings(LanguageInfo.ID)
+                    .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                    .asHostObject();
+        var module = ensoContext.getModuleForFile(pkg.mainFile()).get();
+        ctx.enter();
+        try {
+          ensoContext.getCompiler().run(module);
+        } finally {
+          ctx.leave();
+        }
+      }
+
+      var events = traceEvents(Files.readAllBytes(profile));
+      var arith =
+          events.stream()
+              .filter(e -> e.get("args").get("module").asText().equals("local.Fib_Test.Arith"))
+              .toList();
+      var passes = arith.stream().filter(e -> e.get("cat").asText().equals("pass")).toList();
+      assertFalse("Passes of Arith are recorded", passes.isEmpty());
+      for (var pass : passes) {
+        assertTrue(pass.get("args").get("irNodes").asInt() > 0);
+      }
+      assertTrue(
+          "Codegen of Arith is recorded",
+          arith.stream()
+              .anyMatch(
+                  e ->
+                      e.get("cat").asText().equals("step")
+                          && e.get("name").asText().equals("Codegen")));
+    } finally {
+      Files.deleteIfExists(profile);
+    }
+  }
+}
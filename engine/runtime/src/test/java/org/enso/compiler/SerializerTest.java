@@ -2,11 +2,17 @@ package org.enso.compiler;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.enso.interpreter.runtime.EnsoContext;
 import org.enso.pkg.PackageManager;
@@ -66,4 +72,55 @@ public class SerializerTest {
     ctx.leave();
     ctx.close();
   }
+
+  @Test
+  public void testRepeatedSerializationRequests() throws Exception {
+    var testName = "Test_Serializer_FQN";
+    var pkgPath = new File(getClass().getClassLoader().getResource(testName).getPath());
+    var pkg = PackageManager.Default().fromDirectory(pkgPath).get();
+
+    var ctx = ensoContextForPackage(testName, pkgPath);
+    var ensoContext =
+        (EnsoContext)
+            ctx.getBindings(LanguageInfo.ID)
+                .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                .asHostObject();
+    var module = ensoContext.getModuleForFile(pkg.mainFile()).get();
+    var compiler = ensoContext.getCompiler();
+
+    ctx.enter();
+    compiler.run(module);
+    // A single thread blocked by the first task keeps every request queued.
+    var pool =
+        new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingDeque<Runnable>());
+    var blocker = new CountDownLatch(1);
+    pool.execute(
+        () -> {
+          try {
+            blocker.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    var serializationManager = new SerializationManager(ensoContext.getCompiler(), pool);
+    // Requests made while a previous one is still queued are coalesced, but every caller is
+    // notified about the result.
+    var futures = new ArrayList<Future<Object>>();
+    for (int i = 0; i < 5; i++) {
+      futures.add(serializationManager.serializeModule(module, true, true));
+    }
+    for (var future : futures) {
+      assertSame("Queued requests share the pending future", futures.get(0), future);
+    }
+    blocker.countDown();
+    for (var future : futures) {
+      assertEquals(true, future.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals("Blocker and a single serialization scheduled", 2, pool.getTaskCount());
+    var deserialized = serializationManager.deserialize(module);
+    assertEquals(deserialized.isDefined() && (Boolean) deserialized.get(), true);
+    serializationManager.shutdown(true);
+    ctx.leave();
+    ctx.close();
+  }
 }
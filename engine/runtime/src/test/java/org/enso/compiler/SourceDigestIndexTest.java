@@ -0,0 +1,141 @@
+package org.enso.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.polyglot.LanguageInfo;
+import org.enso.polyglot.MethodNames;
+import org.enso.polyglot.RuntimeOptions;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SourceDigestIndexTest {
+  private File dir;
+  private Context ctx;
+  private EnsoContext ensoContext;
+  private TruffleLogger logger;
+
+  @Before
+  public void prepareTest() throws IOException {
+    dir = Files.createTempDirectory("source-digests").toFile();
+    ctx =
+        Context.newBuilder()
+            .allowExperimentalOptions(true)
+            .allowIO(IOAccess.ALL)
+            .allowAllAccess(true)
+            .logHandler(new ByteArrayOutputStream())
+            .option(
+                RuntimeOptions.LANGUAGE_HOME_OVERRIDE,
+                Paths.get("../../distribution/component").toFile().getAbsolutePath())
+            .build();
+    ensoContext =
+        (EnsoContext)
+            ctx.getBindings(LanguageInfo.ID)
+                .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                .asHostObject();
+    logger = ensoContext.getLogger(SourceDigestIndex.class);
+  }
+
+  @After
+  public void cleanup() {
+    ctx.close();
+    var files = dir.listFiles();
+    if (files != null) {
+      for (var f : files) {
+        f.delete();
+      }
+    }
+    dir.delete();
+  }
+
+  /** Writes the file and backdates it, so that it is past the modification grace period. */
+  private TruffleFile writeSource(String name, String contents, long lastModified)
+      throws IOException {
+    var file = new File(dir, name);
+    Files.writeString(file.toPath(), contents, StandardCharsets.UTF_8);
+    assertTrue(file.setLastModified(lastModified));
+    return ensoContext.getTruffleFile(file);
+  }
+
+  private TruffleFile indexFile() {
+    return ensoContext.getTruffleFile(new File(dir, "digests.txt"));
+  }
+
+  private static String digestOf(SourceDigestIndex.Algorithm algorithm, String contents) {
+    return algorithm.digest(contents.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void digestsOfUnchangedFilesAreReused() throws IOException {
+    long lastModified = System.currentTimeMillis() - 60_000;
+    var source = writeSource("Main.enso", "main = 42", lastModified);
+
+    var index = SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.SHA1, logger);
+    var digest = index.digestOf(source);
+    assertEquals(digestOf(SourceDigestIndex.Algorithm.SHA1, "main = 42"), digest);
+    index.saveIfChanged(logger);
+    assertTrue(indexFile().exists());
+
+    // Same size and modification time: the recorded digest is used without reading the file.
+    writeSource("Main.enso", "main = 43", lastModified);
+    var reloaded = SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.SHA1, logger);
+    assertEquals(digest, reloaded.digestOf(source));
+  }
+
+  @Test
+  public void changedFilesAreHashedAgain() throws IOException {
+    long lastModified = System.currentTimeMillis() - 60_000;
+    var source = writeSource("Main.enso", "main = 42", lastModified);
+    var index = SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.SHA1, logger);
+    var digest = index.digestOf(source);
+    index.saveIfChanged(logger);
+
+    writeSource("Main.enso", "main = 42 + 1", lastModified);
+    var reloaded = SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.SHA1, logger);
+    var newDigest = reloaded.digestOf(source);
+    assertNotEquals(digest, newDigest);
+    assertEquals(digestOf(SourceDigestIndex.Algorithm.SHA1, "main = 42 + 1"), newDigest);
+
+    writeSource("Main.enso", "main = 42 + 2", lastModified + 1000);
+    assertEquals(
+        digestOf(SourceDigestIndex.Algorithm.SHA1, "main = 42 + 2"), reloaded.digestOf(source));
+  }
+
+  @Test
+  public void recentlyModifiedFilesAreNotRecorded() throws IOException {
+    var source = writeSource("Main.enso", "main = 42", System.currentTimeMillis());
+    var index = SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.SHA1, logger);
+    assertEquals(digestOf(SourceDigestIndex.Algorithm.SHA1, "main = 42"), index.digestOf(source));
+    index.saveIfChanged(logger);
+    assertFalse(indexFile().exists());
+  }
+
+  @Test
+  public void indexOfAnotherAlgorithmIsIgnored() throws IOException {
+    long lastModified = System.currentTimeMillis() - 60_000;
+    var source = writeSource("Main.enso", "main = 42", lastModified);
+    var index = SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.SHA1, logger);
+    index.digestOf(source);
+    index.saveIfChanged(logger);
+
+    writeSource("Main.enso", "main = 43", lastModified);
+    var crcIndex =
+        SourceDigestIndex.load(indexFile(), SourceDigestIndex.Algorithm.CRC32C, logger);
+    assertEquals(
+        digestOf(SourceDigestIndex.Algorithm.CRC32C, "main = 43"), crcIndex.digestOf(source));
+  }
+}
@@ -0,0 +1,61 @@
+package org.enso.interpreter.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.enso.interpreter.runtime.RegexCache.ReplacementKey;
+import org.junit.Test;
+
+public class RegexCacheTest {
+  private static ReplacementKey key(int i) {
+    return new ReplacementKey("(a)", "$1" + i);
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreEvicted() {
+    var replacements = new RegexCache().replacements();
+    for (var i = 0; i < RegexCache.MAX_REPLACEMENTS; i++) {
+      replacements.put(key(i), "value " + i, key(i).length());
+    }
+    assertEquals("Marks the first entry as recently used", "value 0", replacements.get(key(0)));
+
+    replacements.put(key(-1), "value -1", key(-1).length());
+    assertEquals("value 0", replacements.get(key(0)));
+    assertNull("The least recently used entry is evicted", replacements.get(key(1)));
+    assertEquals("value -1", replacements.get(key(-1)));
+
+    var statistics = replacements.statistics();
+    assertEquals(3, statistics.hits());
+    assertEquals(1, statistics.misses());
+    assertEquals(1, statistics.evictions());
+    assertEquals(RegexCache.MAX_REPLACEMENTS, statistics.size());
+    assertEquals(RegexCache.MAX_REPLACEMENTS, statistics.capacity());
+  }
+
+  @Test
+  public void replacementsAreKeyedByPattern() {
+    var replacements = new RegexCache().replacements();
+    var first = new ReplacementKey("(?<a>x)(?<b>y)", "$<b>");
+    var second = new ReplacementKey("(?<b>x)(?<a>y)", "$<b>");
+    replacements.put(first, "group 2", first.length());
+
+    assertNull(replacements.get(second));
+    replacements.put(second, "group 1", second.length());
+    assertEquals("group 2", replacements.get(first));
+    assertEquals("group 1", replacements.get(second));
+  }
+
+  @Test
+  public void longKeysAreEvicted() {
+    var replacements = new RegexCache().replacements();
+    var pattern = "a".repeat(1 << 19);
+    var first = new ReplacementKey(pattern, "first");
+    var second = new ReplacementKey(pattern, "second");
+    replacements.put(first, "first", first.length());
+    replacements.put(second, "second", second.length());
+
+    assertNull("The total length of the keys is bounded", replacements.get(first));
+    assertEquals("second", replacements.get(second));
+    assertEquals(1, replacements.statistics().size());
+  }
+}
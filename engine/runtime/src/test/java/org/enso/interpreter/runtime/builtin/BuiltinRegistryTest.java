@@ -0,0 +1,131 @@
+package org.enso.interpreter.runtime.builtin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.enso.interpreter.dsl.TypeProcessor;
+import org.enso.interpreter.dsl.model.MethodDefinition;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.polyglot.LanguageInfo;
+import org.enso.polyglot.MethodNames;
+import org.enso.polyglot.RuntimeOptions;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that the generated {@link BuiltinTypesGen} and {@link BuiltinMethodsGen} registries
+ * describe the same builtins as the metadata resources written by the annotation processors.
+ */
+public class BuiltinRegistryTest {
+  private static Context ctx;
+  private static EnsoContext ensoContext;
+
+  @BeforeClass
+  public static void prepareCtx() {
+    ctx =
+        Context.newBuilder()
+            .allowExperimentalOptions(true)
+            .allowIO(IOAccess.ALL)
+            .allowAllAccess(true)
+            .logHandler(new ByteArrayOutputStream())
+            .option(
+                RuntimeOptions.LANGUAGE_HOME_OVERRIDE,
+                Paths.get("../../distribution/component").toFile().getAbsolutePath())
+            .build();
+    ensoContext =
+        (EnsoContext)
+            ctx.getBindings(LanguageInfo.ID)
+                .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                .asHostObject();
+  }
+
+  @AfterClass
+  public static void disposeCtx() {
+    ctx.close();
+  }
+
+  private static List<String> readMetadata(String path) throws IOException {
+    var resource = BuiltinRegistryTest.class.getClassLoader().getResourceAsStream(path);
+    assertNotNull("Metadata resource " + path + " exists", resource);
+    try (var reader =
+        new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+      return reader.lines().filter(line -> !line.isBlank()).collect(Collectors.toList());
+    }
+  }
+
+  private record MethodEntry(String className, boolean isStatic, boolean isAutoRegister) {}
+
+  @Test
+  public void typesRegistryMatchesMetadata() throws IOException {
+    Set<String> expected =
+        readMetadata(TypeProcessor.META_PATH).stream()
+            .map(line -> line.split(":")[1])
+            .collect(Collectors.toSet());
+
+    var created = BuiltinTypesGen.createAll();
+    Set<String> actual = new HashSet<>();
+    for (var builtin : created) {
+      actual.add(builtin.getClass().getName());
+    }
+
+    assertEquals("Every builtin type is created once", created.size(), actual.size());
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void methodsRegistryMatchesMetadata() throws IOException {
+    Map<String, MethodEntry> expected = new HashMap<>();
+    for (var line : readMetadata(MethodDefinition.META_PATH)) {
+      var meta = line.split(":");
+      assertEquals("Valid metadata line: " + line, 4, meta.length);
+      expected.put(
+          meta[0],
+          new MethodEntry(meta[1], Boolean.parseBoolean(meta[2]), Boolean.parseBoolean(meta[3])));
+    }
+
+    Map<String, Integer> indices = new HashMap<>();
+    Map<String, MethodEntry> registered = new HashMap<>();
+    BuiltinMethodsGen.registerAll(
+        (fullName, index, isStatic, isAutoRegister) -> {
+          var previous = indices.put(fullName, index);
+          assertTrue("Method " + fullName + " registered once", previous == null);
+          var meta = expected.get(fullName);
+          var className = meta == null ? null : meta.className();
+          registered.put(fullName, new MethodEntry(className, isStatic, isAutoRegister));
+        });
+    assertEquals(expected, registered);
+    assertEquals(
+        "Indices are distinct", indices.size(), new HashSet<>(indices.values()).size());
+
+    ctx.enter();
+    try {
+      var language = ensoContext.getLanguage();
+      for (var entry : indices.entrySet()) {
+        var function = BuiltinMethodsGen.makeFunction(entry.getValue(), language, false);
+        assertNotNull("Function of " + entry.getKey(), function);
+        assertEquals(
+            "Root node of " + entry.getKey(),
+            expected.get(entry.getKey()).className(),
+            function.getCallTarget().getRootNode().getClass().getName());
+      }
+    } finally {
+      ctx.leave();
+    }
+  }
+}
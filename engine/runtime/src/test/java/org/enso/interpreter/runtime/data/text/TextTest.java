@@ -0,0 +1,106 @@
+package org.enso.interpreter.runtime.data.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class TextTest {
+
+  @Test
+  public void flattenDeepLeftLeaningRope() {
+    var text = Text.create("");
+    var expected = new StringBuilder();
+    for (int i = 0; i < 200_000; i++) {
+      text = text.add("x" + (i % 10));
+      expected.append("x").append(i % 10);
+    }
+    assertEquals(expected.toString(), text.toString());
+  }
+
+  @Test
+  public void flattenDeepRightLeaningRope() {
+    var text = Text.create("");
+    var expected = new StringBuilder();
+    for (int i = 0; i < 200_000; i++) {
+      text = Text.create(Integer.toString(i % 10), text);
+      expected.append(i % 10);
+    }
+    assertEquals(expected.reverse().toString(), text.toString());
+  }
+
+  @Test
+  public void flattenMixedRope() {
+    var left = Text.create("Hello", ", ");
+    var right = Text.create(Text.create("wor"), "ld");
+    var text = Text.create(left, right).add("!");
+    assertEquals("Hello, world!", text.toString());
+    assertEquals("Hello, ", left.toString());
+    assertEquals("world", right.toString());
+  }
+
+  @Test
+  public void appendingKeepsRopeBalanced() {
+    Object contents = "";
+    for (int i = 0; i < 1_000_000; i++) {
+      contents = ConcatRope.concat(contents, "x");
+    }
+    var rope = (ConcatRope) contents;
+    assertTrue("Height " + rope.height() + " is logarithmic", rope.height() <= 30);
+    assertEquals(1_000_000, rope.length());
+  }
+
+  @Test
+  public void lengthOfAsciiRopeCountsCrLfAcrossOperands() {
+    var text = Text.create("line\r", "\nnext").add("\r").add(Text.create("\n"));
+    assertEquals(10, text.length());
+    assertTrue(text.is_normalized());
+    assertEquals("line\r\nnext\r\n", text.toString());
+  }
+
+  @Test
+  public void lengthOfNonAsciiRope() {
+    assertEquals(1, Text.create("e", "\u0301").length());
+    var text = Text.create("\u00e9", "\ud83d\ude00").add(" ok");
+    assertEquals(5, text.length());
+    assertFalse(text.is_normalized());
+  }
+
+  @Test
+  public void concatenatingEmptyTexts() {
+    var empty = Text.create("", "");
+    assertEquals(0, empty.length());
+    assertEquals("", empty.toString());
+    assertEquals("abc", Text.create(empty, Text.create("abc")).toString());
+  }
+
+  @Test
+  public void concurrentFlatteningPublishesOneString() throws Exception {
+    var text = Text.create("a");
+    for (int i = 0; i < 10_000; i++) {
+      text = text.add("b");
+    }
+    var shared = text;
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var futures = new ArrayList<Future<String>>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit((Callable<String>) shared::toString));
+      }
+      var first = futures.get(0).get();
+      assertEquals(10_001, first.length());
+      for (var future : futures) {
+        assertSame("All threads share the published string", first, future.get());
+      }
+      assertSame("Later calls return the published string", first, shared.toString());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
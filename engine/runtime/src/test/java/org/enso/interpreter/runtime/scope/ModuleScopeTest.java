@@ -0,0 +1,82 @@
+package org.enso.interpreter.runtime.scope;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Paths;
+import org.enso.interpreter.runtime.EnsoContext;
+import org.enso.pkg.QualifiedName;
+import org.enso.polyglot.LanguageInfo;
+import org.enso.polyglot.MethodNames;
+import org.enso.polyglot.RuntimeOptions;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModuleScopeTest {
+  private Context ctx;
+  private EnsoContext ensoContext;
+
+  @Before
+  public void prepareCtx() {
+    ctx =
+        Context.newBuilder()
+            .allowExperimentalOptions(true)
+            .allowIO(IOAccess.ALL)
+            .allowAllAccess(true)
+            .logHandler(new ByteArrayOutputStream())
+            .option(
+                RuntimeOptions.LANGUAGE_HOME_OVERRIDE,
+                Paths.get("../../distribution/component").toFile().getAbsolutePath())
+            .build();
+    ensoContext =
+        (EnsoContext)
+            ctx.getBindings(LanguageInfo.ID)
+                .invokeMember(MethodNames.TopScope.LEAK_CONTEXT)
+                .asHostObject();
+    ctx.enter();
+  }
+
+  @After
+  public void disposeCtx() {
+    ctx.leave();
+    ctx.close();
+  }
+
+  private ModuleScope compileModule(String name, String code) {
+    var module =
+        ensoContext.getTopScope().createModule(QualifiedName.fromString(name), null, code);
+    return module.compileScope(ensoContext);
+  }
+
+  @Test
+  public void registeredMethodIsFoundAfterCachedMiss() {
+    var scope = compileModule("local.Scope_Test.Main", "foo = 42\n");
+    var type = scope.getAssociatedType();
+    var foo = scope.lookupMethodDefinition(type, "foo");
+    assertNotNull(foo);
+    assertNull(scope.lookupMethodDefinition(type, "bar"));
+
+    scope.registerMethod(type, "bar", foo);
+    assertSame(foo, scope.lookupMethodDefinition(type, "bar"));
+  }
+
+  @Test
+  public void registrationInImportedScopeInvalidatesImportingScope() {
+    var definitions = compileModule("local.Scope_Test.Definitions", "foo = 42\n");
+    var extensions = compileModule("local.Scope_Test.Extensions", "");
+    var user = compileModule("local.Scope_Test.User", "");
+    user.addImport(extensions);
+
+    var type = definitions.getAssociatedType();
+    var foo = definitions.lookupMethodDefinition(type, "foo");
+    assertNull(user.lookupMethodDefinition(type, "extension"));
+
+    extensions.registerMethod(type, "extension", foo);
+    assertSame(foo, user.lookupMethodDefinition(type, "extension"));
+  }
+}
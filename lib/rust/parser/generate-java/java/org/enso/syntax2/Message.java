@@ -62,6 +62,10 @@ final class Message {
   }
 
   java.util.UUID getUuid(long nodeOffset, long nodeLength) {
+    if (metadata == 0) {
+      // No UUIDs were attached to the input, so the two native calls for every node are skipped.
+      return null;
+    }
     long high = Parser.getUuidHigh(metadata, nodeOffset, nodeLength);
     long low = Parser.getUuidLow(metadata, nodeOffset, nodeLength);
     if (high == 0 && low == 0) {
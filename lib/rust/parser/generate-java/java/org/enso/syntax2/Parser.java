@@ -4,6 +4,9 @@ import java.io.File;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 
 public final class Parser implements AutoCloseable {
@@ -52,6 +55,12 @@ public final class Parser implements AutoCloseable {
     return false;
   }
 
+  /**
+   * Buffers used to pass the input to the native parser. They are reused across calls on the same
+   * thread, rather than allocating a new direct buffer for every parsed source.
+   */
+  private static final ThreadLocal<InputBuffer> INPUT = ThreadLocal.withInitial(InputBuffer::new);
+
   private long state;
 
   private Parser(long stateIn) {
@@ -78,9 +87,7 @@ public final class Parser implements AutoCloseable {
   }
 
   public Tree parse(CharSequence input) {
-    byte[] inputBytes = input.toString().getBytes(StandardCharsets.UTF_8);
-    ByteBuffer inputBuf = ByteBuffer.allocateDirect(inputBytes.length);
-    inputBuf.put(inputBytes);
+    var inputBuf = INPUT.get().encode(input);
     var serializedTree = parseInput(state, inputBuf);
     var base = getLastInputBase(state);
     var metadata = getMetadata(state);
@@ -89,6 +96,50 @@ public final class Parser implements AutoCloseable {
     return Tree.deserialize(message);
   }
 
+  /** A direct buffer holding the UTF-8 encoded input of the native parser. */
+  static final class InputBuffer {
+    /** Buffers larger than this are not kept for reuse, to bound the retained memory. */
+    static final int MAX_RETAINED_CAPACITY = 4 * 1024 * 1024;
+
+    static final int MIN_CAPACITY = 4096;
+
+    private final CharsetEncoder encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer buffer;
+
+    /**
+     * Encodes the input into the buffer.
+     *
+     * @param input the source to encode
+     * @return a direct buffer containing exactly the encoded input, valid until the next call
+     */
+    ByteBuffer encode(CharSequence input) {
+      int capacity = (int) Math.min(Integer.MAX_VALUE, 3L * input.length());
+      var target = buffer;
+      if (target == null || target.capacity() < capacity) {
+        target = ByteBuffer.allocateDirect(Math.max(capacity, MIN_CAPACITY));
+        buffer = capacity <= MAX_RETAINED_CAPACITY ? target : null;
+      }
+      target.clear();
+      encoder.reset();
+      var result = encoder.encode(CharBuffer.wrap(input), target, true);
+      if (!result.isUnderflow()) {
+        throw new IllegalStateException("Cannot encode the parser input: " + result);
+      }
+      encoder.flush(target);
+      // The native parser reads the whole capacity of the buffer, so only the encoded part is passed.
+      return target.slice(0, target.position());
+    }
+
+    /** @return the capacity of the buffer kept for reuse, or 0 if there is none */
+    int retainedCapacity() {
+      return buffer == null ? 0 : buffer.capacity();
+    }
+  }
+
   @Override
   public void close() {
     freeState(state);
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.BenchmarkList;
 import org.openjdk.jmh.runner.BenchmarkListEntry;
@@ -62,7 +63,7 @@ public class BenchRunner {
 
       for (RunResult result : results) {
         try {
-          reportResult(result.getParams().getBenchmark(), result);
+          reportResult(reportLabel(result.getParams()), result);
         } catch (JAXBException e) {
           throw new IllegalStateException("Benchmark result report writing failed", e);
         }
@@ -71,6 +72,25 @@ public class BenchRunner {
     }
   }
 
+  /**
+   * Creates the label under which the result of a benchmark is reported.
+   *
+   * <p>Benchmarks with {@code @Param} fields are run once for each combination of the parameter
+   * values, so the values are appended to the benchmark name, e.g. {@code
+   * org.enso.Bench.sort[cardinality=100,rowCount=1000]}. Otherwise, the results of the different
+   * combinations would be reported under the same label and overwrite each other.
+   */
+  static String reportLabel(BenchmarkParams params) {
+    var keys = params.getParamsKeys();
+    if (keys.isEmpty()) {
+      return params.getBenchmark();
+    }
+
+    return keys.stream()
+        .map(key -> key + "=" + params.getParam(key))
+        .collect(Collectors.joining(",", params.getBenchmark() + "[", "]"));
+  }
+
   private static Collection<RunResult> runCompileOnly(List<String> includes) throws RunnerException {
     System.out.println("Running benchmarks " + includes + " in compileOnly mode");
     var optsBuilder = new OptionsBuilder()
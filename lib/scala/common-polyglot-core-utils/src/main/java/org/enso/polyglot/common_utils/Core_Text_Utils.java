@@ -8,8 +8,52 @@ public class Core_Text_Utils {
   private Core_Text_Utils() {
   }
 
+  /** Marks the result of an ASCII fast path that does not apply to the input. */
+  public static final int NOT_ASCII = -1;
+
+  /**
+   * Checks whether the string consists of 7-bit ASCII characters only.
+   *
+   * <p>Every ASCII character is a grapheme cluster on its own, except for the CR LF pair, and has
+   * no decomposition, so most text operations on such strings need not go through ICU.
+   */
+  public static boolean isAscii(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the number of grapheme clusters of an ASCII string.
+   *
+   * @return the number of grapheme clusters, or {@link #NOT_ASCII} if the string contains other
+   *     characters
+   */
+  public static int asciiGraphemeLength(String text) {
+    int crlfPairs = 0;
+    char previous = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= 0x80) {
+        return NOT_ASCII;
+      }
+      if (c == '\n' && previous == '\r') {
+        crlfPairs++;
+      }
+      previous = c;
+    }
+    return text.length() - crlfPairs;
+  }
+
   /** Computes the length of the string as the number of grapheme clusters it contains. */
   public static int computeGraphemeLength(String text) {
+    int asciiLength = asciiGraphemeLength(text);
+    if (asciiLength != NOT_ASCII) {
+      return asciiLength;
+    }
     BreakIterator iter = BreakIterator.getCharacterInstance();
     iter.setText(text);
     int len = 0;
@@ -46,11 +90,20 @@ public class Core_Text_Utils {
    *     positive value if {@code a} is after {@code b}
    */
   public static int compare_normalized(String a, String b) {
+    if (isAscii(a) && isAscii(b)) {
+      return Integer.signum(a.compareTo(b));
+    }
     return Normalizer.compare(a, b, Normalizer.FOLD_CASE_DEFAULT);
   }
 
   /** Returns a prefix of the string not exceeding the provided grapheme length. */
   public static String take_prefix(String str, long grapheme_length) {
+    if (grapheme_length >= 0) {
+      String asciiPrefix = takeAsciiPrefix(str, grapheme_length);
+      if (asciiPrefix != null) {
+        return asciiPrefix;
+      }
+    }
     BreakIterator iter = BreakIterator.getCharacterInstance();
     iter.setText(str);
     if (iter.next(Math.toIntExact(grapheme_length)) == BreakIterator.DONE) {
@@ -60,6 +113,30 @@ public class Core_Text_Utils {
     }
   }
 
+  /**
+   * Takes a prefix of the string, as long as all the characters up to the end of the prefix, and
+   * the one following it, are ASCII.
+   *
+   * @return the prefix, or {@code null} if a non-ASCII character was encountered
+   */
+  private static String takeAsciiPrefix(String str, long grapheme_length) {
+    long graphemes = 0;
+    for (int i = 0; i < str.length(); i++) {
+      char c = str.charAt(i);
+      if (c >= 0x80) {
+        return null;
+      }
+      boolean continuesCrLf = c == '\n' && i > 0 && str.charAt(i - 1) == '\r';
+      if (!continuesCrLf) {
+        if (graphemes == grapheme_length) {
+          return str.substring(0, i);
+        }
+        graphemes++;
+      }
+    }
+    return str;
+  }
+
   /** Pretty prints the string, escaping special characters. */
   public static String prettyPrint(String str) {
     int len = str.length();
@@ -39,6 +39,7 @@ import org.openide.util.lookup.ServiceProvider;
 public class MethodProcessor extends BuiltinsMetadataProcessor<MethodProcessor.MethodMetadataEntry> {
 
   private final Map<Filer, Map<String, String[]>> builtinMethods = new HashMap<>();
+  private JavaFileObject registryJfo = null;
 
   /**
    * Processes annotated elements, generating code for each of them. The method also records
@@ -51,6 +52,16 @@ public class MethodProcessor extends BuiltinsMetadataProcessor<MethodProcessor.M
    */
   @Override
   public boolean handleProcess(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (registryJfo == null) {
+      // Create the registry source file once, so that it can be written at the last round of
+      // processing. See TypeProcessor.
+      try {
+        registryJfo = processingEnv.getFiler().createSourceFile(RegistryGenFullClassname);
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+        return false;
+      }
+    }
     for (TypeElement annotation : annotations) {
       Set<? extends Element> annotatedElements = roundEnv.getElementsAnnotatedWith(annotation);
       for (Element elt : annotatedElements) {
@@ -573,14 +584,108 @@ public class MethodProcessor extends BuiltinsMetadataProcessor<MethodProcessor.M
    * @throws IOException
    */
   protected void storeMetadata(Writer writer, Map<String, MethodMetadataEntry> pastEntries) throws IOException {
+    var entries = new ArrayList<MethodMetadataEntry>();
     for (Filer f : builtinMethods.keySet()) {
       for (Map.Entry<String, String[]> entry : builtinMethods.get(f).entrySet()) {
         writer.append(entry.getKey() + ":" + String.join(":", Arrays.asList(entry.getValue())) + "\n");
         if (pastEntries.containsKey(entry.getKey())) {
           pastEntries.remove(entry.getKey());
         }
+        String[] value = entry.getValue();
+        entries.add(
+            new MethodMetadataEntry(
+                entry.getKey(),
+                value[0],
+                Boolean.parseBoolean(value[1]),
+                Boolean.parseBoolean(value[2])));
       }
     }
+    entries.addAll(pastEntries.values());
+    generateRegistry(entries);
+  }
+
+  /**
+   * Generates a class registering all the builtin methods and creating their functions with direct
+   * calls, so that the runtime does not have to look up the root node classes by name and invoke
+   * their {@code makeFunction} methods reflectively.
+   *
+   * <p>Methods are identified by their position in the registry and the functions are created
+   * through a single {@code switch}, to avoid bootstrapping a method reference per builtin.
+   *
+   * @param entries all the builtin methods
+   * @throws IOException - if an I/O error occurred
+   */
+  private void generateRegistry(List<MethodMetadataEntry> entries) throws IOException {
+    try (PrintWriter out = new PrintWriter(registryJfo.openWriter())) {
+      out.println("package " + RegistryGenPkg + ";");
+      out.println();
+      out.println("import org.enso.interpreter.EnsoLanguage;");
+      out.println("import org.enso.interpreter.runtime.callable.function.Function;");
+      out.println();
+      out.println("/** Generated registry of all the builtin methods. */");
+      out.println("public final class " + RegistryGenClass + " {");
+      out.println("  private " + RegistryGenClass + "() {}");
+      out.println();
+      out.println("  /** A consumer of the registered builtin methods. */");
+      out.println("  @FunctionalInterface");
+      out.println("  public interface Registrar {");
+      out.println("    /**");
+      out.println("     * Registers a single builtin method.");
+      out.println("     *");
+      out.println("     * @param fullName the name of the method, qualified by its owner type");
+      out.println("     * @param index the index of the method, to be passed to {@link #makeFunction}");
+      out.println("     * @param isStatic whether the method is static");
+      out.println("     * @param isAutoRegister whether the method is available without imports");
+      out.println("     */");
+      out.println(
+          "    void register(String fullName, int index, boolean isStatic, boolean isAutoRegister);");
+      out.println("  }");
+      out.println();
+      out.println("  /**");
+      out.println("   * Passes all the builtin methods to the registrar.");
+      out.println("   *");
+      out.println("   * @param registrar the consumer of the builtin methods");
+      out.println("   */");
+      out.println("  public static void registerAll(Registrar registrar) {");
+      for (int i = 0; i < entries.size(); i++) {
+        var entry = entries.get(i);
+        out.println(
+            "    registrar.register(\""
+                + entry.fullEnsoName()
+                + "\", "
+                + i
+                + ", "
+                + entry.isStatic()
+                + ", "
+                + entry.isAutoRegister()
+                + ");");
+      }
+      out.println("  }");
+      out.println();
+      out.println("  /**");
+      out.println("   * Creates the function of a builtin method.");
+      out.println("   *");
+      out.println("   * @param index the index of the method, as passed to the registrar");
+      out.println("   * @param language the language the function is associated with");
+      out.println("   * @param staticOfInstanceMethod whether to create a static variant of an instance method");
+      out.println("   * @return the function, or {@code null} if the method has no function");
+      out.println("   */");
+      out.println(
+          "  public static Function makeFunction(int index, EnsoLanguage language, boolean staticOfInstanceMethod) {");
+      out.println("    return switch (index) {");
+      for (int i = 0; i < entries.size(); i++) {
+        out.println(
+            "      case "
+                + i
+                + " -> "
+                + entries.get(i).clazzName()
+                + ".makeFunction(language, staticOfInstanceMethod);");
+      }
+      out.println("      default -> throw new IndexOutOfBoundsException(index);");
+      out.println("    };");
+      out.println("  }");
+      out.println("}");
+    }
   }
 
   protected void registerBuiltinMethod(Filer f, String name, String clazzName, boolean isStatic, boolean isAutoRegister) {
@@ -642,6 +747,10 @@ public class MethodProcessor extends BuiltinsMetadataProcessor<MethodProcessor.M
     return new MethodMetadataEntry(elements[0], elements[1], Boolean.parseBoolean(elements[2]), Boolean.parseBoolean(elements[3]));
   }
 
+  private static final String RegistryGenPkg = "org.enso.interpreter.runtime.builtin";
+  private static final String RegistryGenClass = "BuiltinMethodsGen";
+  private static final String RegistryGenFullClassname = RegistryGenPkg + "." + RegistryGenClass;
+
   private static final String DATAFLOW_ERROR_PROFILE = "IsDataflowErrorConditionProfile";
   private static final String PANIC_SENTINEL_PROFILE = "PanicSentinelBranchProfile";
   private static final String WARNING_PROFILE = "WarningProfile";
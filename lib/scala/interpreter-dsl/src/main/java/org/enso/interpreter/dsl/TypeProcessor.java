@@ -19,6 +19,7 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
 
   private final Map<Filer, Map<String, BuiltinTypeConstr>> builtinTypes = new HashMap<>();
   private JavaFileObject jfo = null;
+  private JavaFileObject registryJfo = null;
 
   private class BuiltinTypeConstr {
     private final String tpeName;
@@ -57,6 +58,7 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
       // used in further processing. That's fine, we know it won't.
       try {
         jfo = processingEnv.getFiler().createSourceFile(ConstantsGenFullClassname);
+        registryJfo = processingEnv.getFiler().createSourceFile(RegistryGenFullClassname);
       } catch (IOException e) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
         return false;
@@ -157,6 +159,50 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
 
       out.println("}");
     }
+
+    var classNames = new ArrayList<String>();
+    for (Filer f : builtinTypes.keySet()) {
+      for (BuiltinTypeConstr constr : builtinTypes.get(f).values()) {
+        classNames.add(constr.getTpeName());
+      }
+    }
+    pastEntries.values().forEach(v -> classNames.add(v.clazzName()));
+    generateRegistry(classNames);
+  }
+
+  /**
+   * Generates a class instantiating all the builtin types directly, so that the runtime does not
+   * have to look up their classes by name and instantiate them reflectively.
+   *
+   * @param classNames fully qualified names of the classes representing builtin types
+   * @throws IOException - if an I/O error occurred
+   */
+  private void generateRegistry(List<String> classNames) throws IOException {
+    try (PrintWriter out = new PrintWriter(registryJfo.openWriter())) {
+      out.println("package " + RegistryGenPkg + ";");
+      out.println();
+      out.println("import java.util.ArrayList;");
+      out.println("import java.util.List;");
+      out.println("import " + NODE_PKG + ".Builtin;");
+      out.println();
+      out.println("/** Generated registry of all the builtin types. */");
+      out.println("public final class " + RegistryGenClass + " {");
+      out.println("  private " + RegistryGenClass + "() {}");
+      out.println();
+      out.println("  /**");
+      out.println("   * Creates new, uninitialized instances of all the builtin types.");
+      out.println("   *");
+      out.println("   * @return a list of the builtin types");
+      out.println("   */");
+      out.println("  public static List<Builtin> createAll() {");
+      out.println("    List<Builtin> builtins = new ArrayList<>(" + classNames.size() + ");");
+      for (String className : classNames) {
+        out.println("    builtins.add(new " + className + "());");
+      }
+      out.println("    return builtins;");
+      out.println("  }");
+      out.println("}");
+    }
   }
 
   public void generateEntry(String name, String value, PrintWriter out) {
@@ -202,6 +248,10 @@ public class TypeProcessor extends BuiltinsMetadataProcessor<TypeProcessor.TypeM
   private static final String ConstantsGenClass = "ConstantsGen";
   private static final String ConstantsGenFullClassname = ConstantsGenPkg + "." + ConstantsGenClass;
 
+  private static final String RegistryGenPkg = "org.enso.interpreter.runtime.builtin";
+  private static final String RegistryGenClass = "BuiltinTypesGen";
+  private static final String RegistryGenFullClassname = RegistryGenPkg + "." + RegistryGenClass;
+
   @Override
   public SourceVersion getSupportedSourceVersion() {
     return SourceVersion.latest();
@@ -7,6 +7,7 @@ import com.ibm.icu.text.Normalizer;
 import com.ibm.icu.text.Normalizer2;
 import com.ibm.icu.text.Normalizer2.Mode;
 import com.ibm.icu.text.StringSearch;
+import com.ibm.icu.util.ULocale;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -184,6 +185,9 @@ public class Text_Utils {
    *     positive value if {@code a} is after {@code b}
    */
   public static int compare(String a, String b, boolean isNormalized) {
+    if (Core_Text_Utils.isAscii(a) && Core_Text_Utils.isAscii(b)) {
+      return Integer.signum(a.compareTo(b));
+    }
     int options = isNormalized ? Normalizer.FOLD_CASE_DEFAULT | Normalizer.INPUT_IS_FCD : Normalizer.FOLD_CASE_DEFAULT;
     return Normalizer.compare(a, b, options);
   }
@@ -199,6 +203,9 @@ public class Text_Utils {
    *     positive value if {@code a} is after {@code b}
    */
   public static int compare_normalized_ignoring_case(String a, String b, Locale locale) {
+    if (hasAsciiCaseFolding(locale) && Core_Text_Utils.isAscii(a) && Core_Text_Utils.isAscii(b)) {
+      return compareAsciiIgnoringCase(a, b);
+    }
     Fold fold = CaseFoldedString.caseFoldAlgorithmForLocale(locale);
     return Normalizer.compare(fold.apply(a), fold.apply(b), Normalizer.FOLD_CASE_DEFAULT);
   }
@@ -215,6 +222,9 @@ public class Text_Utils {
     // cases.
     if (substring.isEmpty()) return true;
     if (string.isEmpty()) return false;
+    if (isAsciiSearchable(string, substring)) {
+      return string.contains(substring);
+    }
     StringSearch searcher = new StringSearch(substring, string);
     return searcher.first() != StringSearch.DONE;
   }
@@ -247,6 +257,9 @@ public class Text_Utils {
     // cases.
     if (substring.isEmpty()) return true;
     if (string.isEmpty()) return false;
+    if (hasAsciiCaseFolding(locale) && isAsciiSearchable(string, substring)) {
+      return foldAscii(string).contains(foldAscii(substring));
+    }
 
     Fold fold = CaseFoldedString.caseFoldAlgorithmForLocale(locale);
     StringSearch searcher = new StringSearch(fold.apply(substring), fold.apply(string));
@@ -292,6 +305,12 @@ public class Text_Utils {
 
   /** Returns a suffix of the string not exceeding the provided grapheme length. */
   public static String take_suffix(String str, long grapheme_length) {
+    if (grapheme_length >= 0) {
+      String asciiSuffix = takeAsciiSuffix(str, grapheme_length);
+      if (asciiSuffix != null) {
+        return asciiSuffix;
+      }
+    }
     BreakIterator iter = BreakIterator.getCharacterInstance();
     iter.setText(str);
     iter.last();
@@ -312,6 +331,10 @@ public class Text_Utils {
   public static Utf16Span span_of(String haystack, String needle) {
     if (needle.isEmpty()) return new Utf16Span(0, 0);
     if (haystack.isEmpty()) return null;
+    if (isAsciiSearchable(haystack, needle)) {
+      int pos = haystack.indexOf(needle);
+      return pos == -1 ? null : new Utf16Span(pos, pos + needle.length());
+    }
 
     StringSearch search = new StringSearch(needle, haystack);
     int pos = search.first();
@@ -332,6 +355,10 @@ public class Text_Utils {
       return new Utf16Span(afterLast, afterLast);
     }
     if (haystack.isEmpty()) return null;
+    if (isAsciiSearchable(haystack, needle)) {
+      int pos = haystack.lastIndexOf(needle);
+      return pos == -1 ? null : new Utf16Span(pos, pos + needle.length());
+    }
 
     StringSearch search = new StringSearch(needle, haystack);
     int pos = search.last();
@@ -352,10 +379,20 @@ public class Text_Utils {
               "The operation `span_of_all` does not support searching for an empty term.");
     if (haystack.isEmpty()) return List.of();
 
-    StringSearch search = new StringSearch(needle, haystack);
     ArrayList<Utf16Span> occurrences = new ArrayList<>();
     int ix;
     Context context = Context.getCurrent();
+    if (isAsciiSearchable(haystack, needle)) {
+      ix = haystack.indexOf(needle);
+      while (ix != -1) {
+        occurrences.add(new Utf16Span(ix, ix + needle.length()));
+        ix = haystack.indexOf(needle, ix + needle.length());
+        context.safepoint();
+      }
+      return occurrences;
+    }
+
+    StringSearch search = new StringSearch(needle, haystack);
     while ((ix = search.next()) != StringSearch.DONE) {
       occurrences.add(new Utf16Span(ix, ix + search.getMatchLength()));
       context.safepoint();
@@ -419,12 +456,16 @@ public class Text_Utils {
    * @return an index of an extended grapheme cluster that contains the code unit from the input
    */
   public static long utf16_index_to_grapheme_index(String text, long codeunit_index) {
-    BreakIterator breakIterator = BreakIterator.getCharacterInstance();
-    breakIterator.setText(text);
     if (codeunit_index < 0 || codeunit_index > text.length()) {
       throw new IndexOutOfBoundsException(
           "Index " + codeunit_index + " is outside of the provided text.");
     }
+    long asciiIndex = asciiGraphemeIndex(text, (int) codeunit_index);
+    if (asciiIndex != Core_Text_Utils.NOT_ASCII) {
+      return asciiIndex;
+    }
+    BreakIterator breakIterator = BreakIterator.getCharacterInstance();
+    breakIterator.setText(text);
 
     int grapheme_end = breakIterator.next();
     long grapheme_index = 0;
@@ -453,6 +494,21 @@ public class Text_Utils {
    * @return an array of grapheme indices corresponding to the UTF-16 units from the input
    */
   public static long[] utf16_indices_to_grapheme_indices(String text, List<Long> codeunit_indices) {
+    if (Core_Text_Utils.isAscii(text)) {
+      long[] result = new long[codeunit_indices.size()];
+      int crlfPairs = 0;
+      int scanned = 1;
+      for (int i = 0; i < result.length; i++) {
+        int codeunit_index = Math.toIntExact(codeunit_indices.get(i));
+        for (int limit = Math.min(codeunit_index, text.length() - 1); scanned <= limit; scanned++) {
+          if (text.charAt(scanned) == '\n' && text.charAt(scanned - 1) == '\r') {
+            crlfPairs++;
+          }
+        }
+        result[i] = codeunit_index - crlfPairs;
+      }
+      return result;
+    }
     BreakIterator breakIterator = BreakIterator.getCharacterInstance();
     breakIterator.setText(text);
 
@@ -667,4 +723,112 @@ public class Text_Utils {
   public static String pretty_print(String str) {
     return Core_Text_Utils.prettyPrint(str);
   }
+
+  /**
+   * Checks whether a search can use plain {@link String#indexOf}, giving the same results as {@link
+   * StringSearch}.
+   *
+   * <p>{@link StringSearch} collates using the default locale. The root and English collations
+   * compare ASCII characters one by one, but other locales tailor them: in Czech "ch" is a single
+   * letter, so "c" is not found in "chata". Searches in such locales are left to ICU.
+   */
+  private static boolean isAsciiSearchable(String haystack, String needle) {
+    String language = ULocale.getDefault().getLanguage();
+    return (language.isEmpty() || language.equals("en"))
+        && isAsciiSearchable(haystack)
+        && isAsciiSearchable(needle);
+  }
+
+  /**
+   * Checks whether a string consists of characters that collate as themselves.
+   *
+   * <p>Printable ASCII characters, tabs and line feeds are never ignorable in collation and are
+   * each a grapheme cluster on their own. Other control characters (notably CR, which forms a single
+   * grapheme cluster with a following LF) are left to ICU.
+   */
+  private static boolean isAsciiSearchable(String string) {
+    for (int i = 0; i < string.length(); i++) {
+      char c = string.charAt(i);
+      if (!((c >= 0x20 && c < 0x7F) || c == '\t' || c == '\n')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Checks whether case folding ASCII in the given locale only maps 'A'-'Z' to 'a'-'z'. */
+  private static boolean hasAsciiCaseFolding(Locale locale) {
+    return !CaseFoldedString.isTurkic(locale);
+  }
+
+  private static char foldAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  private static String foldAscii(String string) {
+    char[] chars = string.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = foldAscii(chars[i]);
+    }
+    return new String(chars);
+  }
+
+  private static int compareAsciiIgnoringCase(String a, String b) {
+    int length = Math.min(a.length(), b.length());
+    for (int i = 0; i < length; i++) {
+      char ca = foldAscii(a.charAt(i));
+      char cb = foldAscii(b.charAt(i));
+      if (ca != cb) {
+        return ca < cb ? -1 : 1;
+      }
+    }
+    return Integer.signum(a.length() - b.length());
+  }
+
+  /**
+   * Takes a suffix of the string, as long as all the characters of the suffix, and the one
+   * preceding it, are ASCII.
+   *
+   * @return the suffix, or {@code null} if a non-ASCII character was encountered
+   */
+  private static String takeAsciiSuffix(String str, long grapheme_length) {
+    long graphemes = 0;
+    int start = str.length();
+    while (start > 0) {
+      char c = str.charAt(start - 1);
+      if (c >= 0x80) {
+        return null;
+      }
+      if (graphemes == grapheme_length) {
+        return str.substring(start);
+      }
+      start--;
+      if (c == '\n' && start > 0 && str.charAt(start - 1) == '\r') {
+        start--;
+      }
+      graphemes++;
+    }
+    return str;
+  }
+
+  /**
+   * Converts a UTF-16 index to a grapheme index, as long as all the characters up to the index are
+   * ASCII.
+   *
+   * @return the grapheme index, or {@link Core_Text_Utils#NOT_ASCII}
+   */
+  private static long asciiGraphemeIndex(String text, int codeunit_index) {
+    int limit = Math.min(codeunit_index, text.length() - 1);
+    int crlfPairs = 0;
+    for (int i = 0; i <= limit; i++) {
+      char c = text.charAt(i);
+      if (c >= 0x80) {
+        return Core_Text_Utils.NOT_ASCII;
+      }
+      if (c == '\n' && i > 0 && text.charAt(i - 1) == '\r') {
+        crlfPairs++;
+      }
+    }
+    return codeunit_index - crlfPairs;
+  }
 }
@@ -0,0 +1,127 @@
+package org.enso.base.json;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * An immutable JSON object, as produced by {@link JsonParser}.
+ *
+ * <p>The members are kept in two arrays in the order of their first occurrence in the document; a
+ * later occurrence of a name replaces the value but keeps the position, as in JavaScript. Small
+ * objects are looked up by a linear scan, larger ones keep the hash index built while parsing.
+ */
+public final class JsonObject {
+  private static final int LINEAR_SCAN_LIMIT = 8;
+
+  private final String[] names;
+  private final Object[] values;
+  private final HashMap<String, Integer> index;
+
+  private JsonObject(String[] names, Object[] values, HashMap<String, Integer> index) {
+    this.names = names;
+    this.values = values;
+    this.index = index;
+  }
+
+  /** @return the number of members of this object */
+  public int size() {
+    return names.length;
+  }
+
+  /** @return the names of the members of this object, in order */
+  public String[] names() {
+    return names.clone();
+  }
+
+  /** @return whether this object has a member with the given name */
+  public boolean has(String name) {
+    return indexOf(name) >= 0;
+  }
+
+  /**
+   * @return the value of the member with the given name, or {@code null} if there is no such member
+   */
+  public Object get(String name) {
+    int i = indexOf(name);
+    return i >= 0 ? values[i] : null;
+  }
+
+  private int indexOf(String name) {
+    if (index != null) {
+      return index.getOrDefault(name, -1);
+    }
+    for (int i = 0; i < names.length; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    var builder = new StringBuilder("{");
+    for (int i = 0; i < names.length; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(names[i]).append(": ").append(values[i]);
+    }
+    return builder.append("}").toString();
+  }
+
+  /** Collects the members of an object in the order they are read. */
+  static final class Builder {
+    private String[] names = new String[4];
+    private Object[] values = new Object[4];
+    private int size = 0;
+    private String pendingName;
+    /** Indexes the names once there are too many to scan; handed over to the built object. */
+    private HashMap<String, Integer> seen;
+
+    void name(String name) {
+      pendingName = name;
+    }
+
+    void value(Object value) {
+      int existing = indexOf(pendingName);
+      if (existing >= 0) {
+        values[existing] = value;
+        return;
+      }
+      if (size == names.length) {
+        names = Arrays.copyOf(names, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      if (seen != null) {
+        seen.put(pendingName, size);
+      }
+      names[size] = pendingName;
+      values[size] = value;
+      size++;
+    }
+
+    private int indexOf(String name) {
+      if (seen == null) {
+        for (int i = 0; i < size; i++) {
+          if (names[i].equals(name)) {
+            return i;
+          }
+        }
+        if (size < LINEAR_SCAN_LIMIT) {
+          return -1;
+        }
+        seen = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+          seen.put(names[i], i);
+        }
+        return -1;
+      }
+      return seen.getOrDefault(name, -1);
+    }
+
+    JsonObject build() {
+      return new JsonObject(Arrays.copyOf(names, size), Arrays.copyOf(values, size), seen);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package org.enso.base.json;
+
+/** Indicates that the input of a {@link JsonReader} is not a valid JSON document. */
+public class JsonParseException extends RuntimeException {
+  private final long position;
+
+  public JsonParseException(String message, long position) {
+    super(message);
+    this.position = position;
+  }
+
+  /** @return the index of the character at which the error was detected, or -1 at the end. */
+  public long getPosition() {
+    return position;
+  }
+}
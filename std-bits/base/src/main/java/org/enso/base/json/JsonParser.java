@@ -0,0 +1,99 @@
+package org.enso.base.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+
+/**
+ * Parses JSON documents into values that can be used directly from Enso.
+ *
+ * <p>Strings, numbers, booleans and nulls become {@link String}s, {@link Long}s or {@link Double}s,
+ * {@link Boolean}s and {@code null}s. Arrays become {@code Object[]} arrays and objects become
+ * {@link JsonObject}s. Nested values are built iteratively, so the depth of the document is not
+ * limited by the stack.
+ */
+public class JsonParser {
+  private JsonParser() {}
+
+  /**
+   * Parses a JSON document.
+   *
+   * @throws JsonParseException if the text is not a valid JSON document
+   */
+  public static Object parse(String json) {
+    try (var reader = new JsonReader(json)) {
+      return parseDocument(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Parses a JSON document from a character stream, reading it in chunks rather than all at once.
+   * The stream is not closed.
+   *
+   * @throws JsonParseException if the stream does not contain a valid JSON document
+   */
+  public static Object parse(Reader input) throws IOException {
+    return parseDocument(new JsonReader(input));
+  }
+
+  private static Object parseDocument(JsonReader reader) throws IOException {
+    Object result = readValue(reader, reader.next());
+    reader.next();
+    return result;
+  }
+
+  /**
+   * Reads a value from the reader.
+   *
+   * @param reader the reader
+   * @param first the token starting the value, already consumed
+   * @return the value
+   */
+  public static Object readValue(JsonReader reader, JsonToken first) throws IOException {
+    Deque<Object> containers = new ArrayDeque<>();
+    JsonToken token = first;
+    while (true) {
+      Object value;
+      switch (token) {
+        case START_ARRAY -> {
+          containers.push(new ArrayList<>());
+          token = reader.next();
+          continue;
+        }
+        case START_OBJECT -> {
+          containers.push(new JsonObject.Builder());
+          token = reader.next();
+          continue;
+        }
+        case NAME -> {
+          ((JsonObject.Builder) containers.peek()).name(reader.stringValue());
+          token = reader.next();
+          continue;
+        }
+        case END_ARRAY -> value = ((ArrayList<?>) containers.pop()).toArray();
+        case END_OBJECT -> value = ((JsonObject.Builder) containers.pop()).build();
+        case STRING -> value = reader.stringValue();
+        case NUMBER -> value = reader.numberValue();
+        case BOOLEAN -> value = reader.booleanValue();
+        case NULL -> value = null;
+        default -> throw new IllegalStateException("Unexpected token: " + token);
+      }
+      Object container = containers.peek();
+      if (container == null) {
+        return value;
+      } else if (container instanceof JsonObject.Builder builder) {
+        builder.value(value);
+      } else {
+        @SuppressWarnings("unchecked")
+        var list = (ArrayList<Object>) container;
+        list.add(value);
+      }
+      token = reader.next();
+    }
+  }
+}
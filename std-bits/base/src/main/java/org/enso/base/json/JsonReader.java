@@ -0,0 +1,461 @@
+package org.enso.base.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+/**
+ * A streaming reader of a JSON document, reporting it as a sequence of {@link JsonToken}s.
+ *
+ * <p>The input is consumed in fixed-size chunks, so documents of any size can be processed without
+ * keeping them in memory. The structure of the document is validated as it is read; errors are
+ * reported as {@link JsonParseException}s whose messages include the position of the offending
+ * character, counted in UTF-16 code units from the start of the input.
+ *
+ * <p>Numbers without a fraction or an exponent are reported as {@link Long}s if they fit, and all
+ * the other numbers as {@link Double}s.
+ *
+ * <p>A reader can also accept a sequence of whitespace-separated top-level values, such as a JSON
+ * Lines file, reporting {@link JsonToken#END_DOCUMENT} only after the last one.
+ */
+public class JsonReader implements Closeable {
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final byte DOCUMENT_EMPTY = 0;
+  private static final byte DOCUMENT_NONEMPTY = 1;
+  private static final byte ARRAY_EMPTY = 2;
+  private static final byte ARRAY_NONEMPTY = 3;
+  private static final byte OBJECT_EMPTY = 4;
+  private static final byte OBJECT_NAME = 5;
+  private static final byte OBJECT_NONEMPTY = 6;
+
+  private final Reader reader;
+  private final boolean valueSequence;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int pos = 0;
+  private int limit = 0;
+
+  /** The position of the first character of the buffer in the whole input. */
+  private long bufferOffset = 0;
+
+  private byte[] stack = new byte[32];
+  private int depth = 1;
+
+  private final StringBuilder scratch = new StringBuilder();
+  private String stringValue;
+  private Object numberValue;
+  private boolean booleanValue;
+
+  /**
+   * Creates a reader.
+   *
+   * @param reader the input
+   * @param valueSequence whether the input may contain more than one top-level value
+   */
+  public JsonReader(Reader reader, boolean valueSequence) {
+    this.reader = reader;
+    this.valueSequence = valueSequence;
+    stack[0] = DOCUMENT_EMPTY;
+  }
+
+  public JsonReader(Reader reader) {
+    this(reader, false);
+  }
+
+  public JsonReader(String json) {
+    this(new StringReader(json));
+  }
+
+  /**
+   * Reads the next token of the document.
+   *
+   * @return the token; once the top-level value has been read, {@link JsonToken#END_DOCUMENT}
+   * @throws JsonParseException if the input is not a valid JSON document
+   */
+  public JsonToken next() throws IOException {
+    int c = nextNonWhitespace();
+    switch (stack[depth - 1]) {
+      case DOCUMENT_EMPTY -> {
+        stack[depth - 1] = DOCUMENT_NONEMPTY;
+        return readValue(c);
+      }
+      case DOCUMENT_NONEMPTY -> {
+        if (c < 0) {
+          return JsonToken.END_DOCUMENT;
+        } else if (valueSequence) {
+          return readValue(c);
+        }
+        throw new JsonParseException(
+            "JSON cannot be fully parsed at position " + position(), position());
+      }
+      case ARRAY_EMPTY -> {
+        if (c == ']') {
+          depth--;
+          return JsonToken.END_ARRAY;
+        }
+        stack[depth - 1] = ARRAY_NONEMPTY;
+        return readValue(c);
+      }
+      case ARRAY_NONEMPTY -> {
+        if (c == ']') {
+          depth--;
+          return JsonToken.END_ARRAY;
+        } else if (c == ',') {
+          return readValue(nextNonWhitespace());
+        }
+        throw unexpected(c, "closing quote ]");
+      }
+      case OBJECT_EMPTY -> {
+        if (c == '}') {
+          depth--;
+          return JsonToken.END_OBJECT;
+        }
+        return readName(c);
+      }
+      case OBJECT_NAME -> {
+        if (c != ':') {
+          throw unexpected(c, ":");
+        }
+        stack[depth - 1] = OBJECT_NONEMPTY;
+        return readValue(nextNonWhitespace());
+      }
+      case OBJECT_NONEMPTY -> {
+        if (c == '}') {
+          depth--;
+          return JsonToken.END_OBJECT;
+        } else if (c == ',') {
+          return readName(nextNonWhitespace());
+        }
+        throw unexpected(c, "closing quote }");
+      }
+      default -> throw new IllegalStateException("Unknown reader state.");
+    }
+  }
+
+  /**
+   * Skips the next value, including all the values nested in it. If the reader is positioned before
+   * the name of an object member, the member is skipped.
+   */
+  public void skipValue() throws IOException {
+    int nesting = 0;
+    JsonToken token;
+    do {
+      token = next();
+      switch (token) {
+        case START_ARRAY, START_OBJECT -> nesting++;
+        case END_ARRAY, END_OBJECT -> nesting--;
+        case END_DOCUMENT -> throw new IllegalStateException("There is no value to skip.");
+        default -> {}
+      }
+    } while (nesting > 0 || token == JsonToken.NAME);
+  }
+
+  /** @return the value of the last {@link JsonToken#STRING} or {@link JsonToken#NAME} token */
+  public String stringValue() {
+    return stringValue;
+  }
+
+  /**
+   * @return the value of the last {@link JsonToken#NUMBER} token, a {@link Long} or a {@link
+   *     Double}
+   */
+  public Object numberValue() {
+    return numberValue;
+  }
+
+  /** @return the value of the last {@link JsonToken#BOOLEAN} token */
+  public boolean booleanValue() {
+    return booleanValue;
+  }
+
+  /** @return the position of the last character consumed by the reader */
+  public long position() {
+    return bufferOffset + pos - 1;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private JsonToken readName(int c) throws IOException {
+    if (c != '"') {
+      throw unexpected(c);
+    }
+    stringValue = readString();
+    stack[depth - 1] = OBJECT_NAME;
+    return JsonToken.NAME;
+  }
+
+  private JsonToken readValue(int c) throws IOException {
+    switch (c) {
+      case '{' -> {
+        push(OBJECT_EMPTY);
+        return JsonToken.START_OBJECT;
+      }
+      case '[' -> {
+        push(ARRAY_EMPTY);
+        return JsonToken.START_ARRAY;
+      }
+      case '"' -> {
+        stringValue = readString();
+        return JsonToken.STRING;
+      }
+      case 't' -> {
+        readLiteral("true");
+        booleanValue = true;
+        return JsonToken.BOOLEAN;
+      }
+      case 'f' -> {
+        readLiteral("false");
+        booleanValue = false;
+        return JsonToken.BOOLEAN;
+      }
+      case 'n' -> {
+        readLiteral("null");
+        return JsonToken.NULL;
+      }
+      default -> {
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          numberValue = readNumber((char) c);
+          return JsonToken.NUMBER;
+        }
+        throw unexpected(c);
+      }
+    }
+  }
+
+  private void push(byte state) {
+    if (depth == stack.length) {
+      stack = Arrays.copyOf(stack, depth * 2);
+    }
+    stack[depth++] = state;
+  }
+
+  /** Reads the rest of a literal whose first character has just been consumed. */
+  private void readLiteral(String literal) throws IOException {
+    long start = position();
+    for (int i = 1; i < literal.length(); i++) {
+      if (read() != literal.charAt(i)) {
+        throw new JsonParseException(
+            "Unexpected token " + literal.charAt(0) + " in JSON at position " + start, start);
+      }
+    }
+  }
+
+  /** Reads a string whose opening quote has just been consumed. */
+  private String readString() throws IOException {
+    boolean copied = false;
+    while (true) {
+      int start = pos;
+      while (pos < limit) {
+        char c = buffer[pos];
+        if (c == '"') {
+          String result;
+          if (copied) {
+            result = scratch.append(buffer, start, pos - start).toString();
+          } else {
+            result = new String(buffer, start, pos - start);
+          }
+          pos++;
+          return result;
+        } else if (c == '\\') {
+          if (!copied) {
+            scratch.setLength(0);
+            copied = true;
+          }
+          scratch.append(buffer, start, pos - start);
+          pos++;
+          scratch.append(readEscape());
+          start = pos;
+        } else if (c < 0x20) {
+          long position = bufferOffset + pos;
+          throw new JsonParseException(
+              "Bad control character in string literal in JSON at position " + position, position);
+        } else {
+          pos++;
+        }
+      }
+      if (!copied) {
+        scratch.setLength(0);
+        copied = true;
+      }
+      scratch.append(buffer, start, pos - start);
+      if (!fill()) {
+        throw new JsonParseException("Unterminated string in JSON at position " + position(), -1);
+      }
+    }
+  }
+
+  private char readEscape() throws IOException {
+    int c = read();
+    switch (c) {
+      case '"', '\\', '/' -> {
+        return (char) c;
+      }
+      case 'b' -> {
+        return '\b';
+      }
+      case 'f' -> {
+        return '\f';
+      }
+      case 'n' -> {
+        return '\n';
+      }
+      case 'r' -> {
+        return '\r';
+      }
+      case 't' -> {
+        return '\t';
+      }
+      case 'u' -> {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+          int digit = Character.digit(read(), 16);
+          if (digit < 0) {
+            throw new JsonParseException(
+                "Bad Unicode escape in JSON at position " + position(), position());
+          }
+          code = code * 16 + digit;
+        }
+        return (char) code;
+      }
+      case -1 -> throw new JsonParseException(
+          "Unterminated string in JSON at position " + position(), -1);
+      default -> throw new JsonParseException(
+          "Bad escaped character in JSON at position " + position(), position());
+    }
+  }
+
+  /** Reads a number whose first character has just been consumed. */
+  private Object readNumber(char first) throws IOException {
+    long start = position();
+    scratch.setLength(0);
+    scratch.append(first);
+    boolean integral = true;
+    while (pos < limit || fill()) {
+      char c = buffer[pos];
+      if (c == '.' || c == 'e' || c == 'E') {
+        integral = false;
+      } else if (c != '+' && c != '-' && (c < '0' || c > '9')) {
+        break;
+      }
+      scratch.append(c);
+      pos++;
+    }
+    if (!isValidNumber(scratch)) {
+      throw new JsonParseException("Invalid number in JSON at position " + start, start);
+    }
+    String digits = scratch.toString();
+    if (integral) {
+      try {
+        return Long.parseLong(digits);
+      } catch (NumberFormatException e) {
+        // Integers too large for a long lose precision, as they do in JavaScript.
+      }
+    }
+    return Double.parseDouble(digits);
+  }
+
+  private static boolean isValidNumber(CharSequence number) {
+    int length = number.length();
+    int i = number.charAt(0) == '-' ? 1 : 0;
+    if (i < length && number.charAt(i) == '0') {
+      i++;
+    } else {
+      int end = skipDigits(number, i);
+      if (end == i) {
+        return false;
+      }
+      i = end;
+    }
+    if (i < length && number.charAt(i) == '.') {
+      int end = skipDigits(number, i + 1);
+      if (end == i + 1) {
+        return false;
+      }
+      i = end;
+    }
+    if (i < length && (number.charAt(i) == 'e' || number.charAt(i) == 'E')) {
+      i++;
+      if (i < length && (number.charAt(i) == '+' || number.charAt(i) == '-')) {
+        i++;
+      }
+      int end = skipDigits(number, i);
+      if (end == i) {
+        return false;
+      }
+      i = end;
+    }
+    return i == length;
+  }
+
+  private static int skipDigits(CharSequence number, int from) {
+    int i = from;
+    while (i < number.length() && number.charAt(i) >= '0' && number.charAt(i) <= '9') {
+      i++;
+    }
+    return i;
+  }
+
+  private int nextNonWhitespace() throws IOException {
+    while (pos < limit || fill()) {
+      char c = buffer[pos++];
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return c;
+      }
+    }
+    return -1;
+  }
+
+  private int read() throws IOException {
+    if (pos == limit && !fill()) {
+      return -1;
+    }
+    return buffer[pos++];
+  }
+
+  /**
+   * Replaces the contents of the buffer with the next chunk of the input.
+   *
+   * @return whether any characters were read
+   */
+  private boolean fill() throws IOException {
+    bufferOffset += limit;
+    pos = 0;
+    limit = 0;
+    int read;
+    do {
+      read = reader.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    if (read < 0) {
+      return false;
+    }
+    limit = read;
+    return true;
+  }
+
+  private JsonParseException unexpected(int c) {
+    if (c < 0) {
+      return new JsonParseException("Unexpected end of JSON input", -1);
+    }
+    return new JsonParseException(
+        "Unexpected token " + (char) c + " in JSON at position " + position(), position());
+  }
+
+  private JsonParseException unexpected(int c, String expected) {
+    if (c < 0) {
+      return new JsonParseException("Unexpected end of JSON input, " + expected + " expected", -1);
+    }
+    return new JsonParseException(
+        "Unexpected token "
+            + (char) c
+            + " in JSON, "
+            + expected
+            + " expected at position "
+            + position(),
+        position());
+  }
+}
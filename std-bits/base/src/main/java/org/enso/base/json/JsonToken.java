@@ -0,0 +1,17 @@
+package org.enso.base.json;
+
+/** The tokens reported by a {@link JsonReader}. */
+public enum JsonToken {
+  START_OBJECT,
+  END_OBJECT,
+  START_ARRAY,
+  END_ARRAY,
+  /** The name of an object member. */
+  NAME,
+  STRING,
+  NUMBER,
+  BOOLEAN,
+  NULL,
+  /** The end of the input, reported after the top-level value. */
+  END_DOCUMENT
+}
@@ -181,6 +181,11 @@ public class CaseFoldedString {
   private static final Locale AZ_LOCALE = Locale.forLanguageTag("az");
   private static final Locale TR_LOCALE = Locale.forLanguageTag("tr");
 
+  /** Checks whether the locale uses the Turkic casing of the letter `i`. */
+  public static boolean isTurkic(Locale locale) {
+    return locale.equals(AZ_LOCALE) || locale.equals(TR_LOCALE);
+  }
+
   /**
    * Returns a case folding algorithm appropriate for the given locale.
    *
@@ -188,7 +193,7 @@ public class CaseFoldedString {
    * the letter `i` in a different way than other locales.
    */
   public static Fold caseFoldAlgorithmForLocale(Locale locale) {
-    if (locale.equals(AZ_LOCALE) || locale.equals(TR_LOCALE)) {
+    if (isTurkic(locale)) {
       return CaseMap.fold().turkic();
     }
     return CaseMap.fold();
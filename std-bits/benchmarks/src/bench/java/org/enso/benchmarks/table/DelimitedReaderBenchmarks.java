@@ -0,0 +1,82 @@
+package org.enso.benchmarks.table;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.table.Table;
+import org.enso.table.parsing.DatatypeParser;
+import org.enso.table.parsing.IdentityParser;
+import org.enso.table.parsing.IncrementalDatatypeParser;
+import org.enso.table.parsing.NumberParser;
+import org.enso.table.parsing.TypeInferringParser;
+import org.enso.table.problems.WithAggregatedProblems;
+import org.enso.table.read.DelimitedReader;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures reading a synthetic CSV file held in memory, both keeping all values as text and
+ * inferring numeric column types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class DelimitedReaderBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  @Param({"100"})
+  public int cardinality;
+
+  private Context context;
+  private String contents;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    contents = TableBenchmarkData.delimitedFile(rowCount, cardinality, TableBenchmarkData.SEED);
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  private WithAggregatedProblems<Table> read(
+      DatatypeParser valueParser, TypeInferringParser cellTypeGuesser) {
+    DelimitedReader reader =
+        new DelimitedReader(
+            ",",
+            "\"",
+            "\"",
+            DelimitedReader.HeaderBehavior.USE_FIRST_ROW_AS_HEADERS,
+            0,
+            -1,
+            4096,
+            valueParser,
+            cellTypeGuesser,
+            true,
+            null,
+            null,
+            false);
+    return reader.read(new StringReader(contents));
+  }
+
+  @Benchmark
+  public WithAggregatedProblems<Table> readAsText() {
+    return read(new IdentityParser(), null);
+  }
+
+  @Benchmark
+  public WithAggregatedProblems<Table> readInferringNumbers() {
+    IncrementalDatatypeParser[] parsers = {
+      NumberParser.createIntegerParser(IntegerType.INT_64, false, true, false, null),
+      NumberParser.createAutoDecimalParser(false, true, false, false)
+    };
+    TypeInferringParser valueParser = new TypeInferringParser(parsers, new IdentityParser());
+    return read(valueParser, null);
+  }
+}
@@ -0,0 +1,67 @@
+package org.enso.benchmarks.table;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.enso.table.data.table.Column;
+import org.enso.table.data.table.Table;
+import org.enso.table.data.table.join.Equals;
+import org.enso.table.data.table.join.IndexJoin;
+import org.enso.table.data.table.join.JoinResult;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures hash joins of a large table with a ten times smaller one, on integer and text keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class IndexJoinBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  @Param({"1000", "100000"})
+  public int cardinality;
+
+  private Context context;
+  private Table left;
+  private Table right;
+  private Table leftText;
+  private Table rightText;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    int rightRowCount = Math.max(1, rowCount / 10);
+    long seed = TableBenchmarkData.SEED;
+    left = TableBenchmarkData.longColumn("key", rowCount, cardinality, seed).toTable();
+    right = TableBenchmarkData.longColumn("key", rightRowCount, cardinality, seed + 1).toTable();
+    leftText = TableBenchmarkData.textColumn("key", rowCount, cardinality, seed).toTable();
+    rightText =
+        TableBenchmarkData.textColumn("key", rightRowCount, cardinality, seed + 1).toTable();
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  private static JoinResult join(Table left, Table right) {
+    Column leftKey = left.getColumns()[0];
+    Column rightKey = right.getColumns()[0];
+    return new IndexJoin().join(left, right, List.of(new Equals(leftKey, rightKey)));
+  }
+
+  @Benchmark
+  public JoinResult joinOnLongKey() {
+    return join(left, right);
+  }
+
+  @Benchmark
+  public JoinResult joinOnTextKey() {
+    return join(leftText, rightText);
+  }
+}
@@ -0,0 +1,62 @@
+package org.enso.benchmarks.table;
+
+import java.util.concurrent.TimeUnit;
+import org.enso.table.data.column.operation.map.MapOperationProblemBuilder;
+import org.enso.table.data.column.storage.Storage;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the vectorized text matching operations. */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class LikeOpBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  @Param({"100", "100000"})
+  public int cardinality;
+
+  private Context context;
+  private Storage<?> text;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    text =
+        TableBenchmarkData.textColumn("text", rowCount, cardinality, TableBenchmarkData.SEED)
+            .getStorage();
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  private Storage<?> run(String operation, Object argument) {
+    return text.runVectorizedBinaryMap(operation, argument, new MapOperationProblemBuilder("text"));
+  }
+
+  @Benchmark
+  public Storage<?> likeWithWildcards() {
+    return run(Storage.Maps.LIKE, "key-%1_-%");
+  }
+
+  @Benchmark
+  public Storage<?> likeLiteralPrefix() {
+    return run(Storage.Maps.LIKE, "key-1%");
+  }
+
+  @Benchmark
+  public Storage<?> startsWith() {
+    return run(Storage.Maps.STARTS_WITH, "key-1");
+  }
+
+  @Benchmark
+  public Storage<?> contains() {
+    return run(Storage.Maps.CONTAINS, "-1");
+  }
+}
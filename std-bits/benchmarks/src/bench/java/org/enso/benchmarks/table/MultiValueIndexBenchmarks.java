@@ -0,0 +1,61 @@
+package org.enso.benchmarks.table;
+
+import java.util.concurrent.TimeUnit;
+import org.enso.base.text.TextFoldingStrategy;
+import org.enso.table.data.index.MultiValueIndex;
+import org.enso.table.data.index.UnorderedMultiValueKey;
+import org.enso.table.data.table.Column;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures grouping rows by key columns, as done by aggregations and joins. */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MultiValueIndexBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  @Param({"100", "100000"})
+  public int cardinality;
+
+  private Context context;
+  private Column longKey;
+  private Column textKey;
+  private Column secondLongKey;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    long seed = TableBenchmarkData.SEED;
+    longKey = TableBenchmarkData.longColumn("long_key", rowCount, cardinality, seed);
+    secondLongKey = TableBenchmarkData.longColumn("second_key", rowCount, 10, seed + 1);
+    textKey = TableBenchmarkData.textColumn("text_key", rowCount, cardinality, seed);
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  @Benchmark
+  public MultiValueIndex<UnorderedMultiValueKey> groupByLongColumn() {
+    return MultiValueIndex.makeUnorderedIndex(
+        new Column[] {longKey}, rowCount, TextFoldingStrategy.unicodeNormalizedFold);
+  }
+
+  @Benchmark
+  public MultiValueIndex<UnorderedMultiValueKey> groupByTextColumn() {
+    return MultiValueIndex.makeUnorderedIndex(
+        new Column[] {textKey}, rowCount, TextFoldingStrategy.unicodeNormalizedFold);
+  }
+
+  @Benchmark
+  public MultiValueIndex<UnorderedMultiValueKey> groupByTwoColumns() {
+    return MultiValueIndex.makeUnorderedIndex(
+        new Column[] {longKey, secondLongKey}, rowCount, TextFoldingStrategy.unicodeNormalizedFold);
+  }
+}
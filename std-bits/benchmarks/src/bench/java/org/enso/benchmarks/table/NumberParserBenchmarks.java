@@ -0,0 +1,48 @@
+package org.enso.benchmarks.table;
+
+import java.util.concurrent.TimeUnit;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.StringStorage;
+import org.enso.table.parsing.NumberParser;
+import org.enso.table.problems.WithAggregatedProblems;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures parsing a text column of decimal numbers with thousand separators. */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class NumberParserBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  private Context context;
+  private StringStorage numbers;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    numbers = TableBenchmarkData.numbersAsText(rowCount, TableBenchmarkData.SEED);
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  @Benchmark
+  public WithAggregatedProblems<Storage<?>> parseFixedFormat() {
+    NumberParser parser =
+        NumberParser.createFixedDecimalParser(false, true, false, false, ",", ".");
+    return parser.parseColumn("numbers", numbers);
+  }
+
+  @Benchmark
+  public WithAggregatedProblems<Storage<?>> parseAutoDetectedFormat() {
+    NumberParser parser = NumberParser.createAutoDecimalParser(false, true, false, false);
+    return parser.parseColumn("numbers", numbers);
+  }
+}
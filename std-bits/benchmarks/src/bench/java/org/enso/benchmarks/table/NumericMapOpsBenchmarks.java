@@ -0,0 +1,77 @@
+package org.enso.benchmarks.table;
+
+import java.util.concurrent.TimeUnit;
+import org.enso.table.data.column.operation.map.MapOperationProblemBuilder;
+import org.enso.table.data.column.storage.Storage;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the vectorized arithmetic and comparison operations on numeric columns. */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class NumericMapOpsBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  private Context context;
+  private Storage<?> longs;
+  private Storage<?> otherLongs;
+  private Storage<?> doubles;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    long seed = TableBenchmarkData.SEED;
+    longs = TableBenchmarkData.longColumn("longs", rowCount, 1000000, seed).getStorage();
+    otherLongs = TableBenchmarkData.longColumn("other", rowCount, 1000, seed + 1).getStorage();
+    doubles = TableBenchmarkData.doubleColumn("doubles", rowCount, seed).getStorage();
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  private static MapOperationProblemBuilder problemBuilder() {
+    return new MapOperationProblemBuilder("bench");
+  }
+
+  @Benchmark
+  public Storage<?> addLongScalar() {
+    return longs.runVectorizedBinaryMap(Storage.Maps.ADD, 7L, problemBuilder());
+  }
+
+  @Benchmark
+  public Storage<?> multiplyLongColumns() {
+    return longs.runVectorizedZip(Storage.Maps.MUL, otherLongs, problemBuilder());
+  }
+
+  @Benchmark
+  public Storage<?> divideLongColumns() {
+    return longs.runVectorizedZip(Storage.Maps.DIV, otherLongs, problemBuilder());
+  }
+
+  @Benchmark
+  public Storage<?> compareLongScalar() {
+    return longs.runVectorizedBinaryMap(Storage.Maps.LT, 500000L, problemBuilder());
+  }
+
+  @Benchmark
+  public Storage<?> addDoubleScalar() {
+    return doubles.runVectorizedBinaryMap(Storage.Maps.ADD, 1.5, problemBuilder());
+  }
+
+  @Benchmark
+  public Storage<?> addDoubleAndLongColumns() {
+    return doubles.runVectorizedZip(Storage.Maps.ADD, longs, problemBuilder());
+  }
+
+  @Benchmark
+  public Storage<?> roundDoubles() {
+    return doubles.runVectorizedTernaryMap(Storage.Maps.ROUND, 2L, false, problemBuilder());
+  }
+}
@@ -0,0 +1,60 @@
+package org.enso.benchmarks.table;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.table.Column;
+import org.enso.table.operations.OrderBuilder;
+import org.enso.table.operations.OrderBuilder.OrderRule;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures computing the sort order of a table by one or two columns. */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class OrderBuilderBenchmarks {
+  @Param({"100000", "1000000"})
+  public int rowCount;
+
+  @Param({"100", "100000"})
+  public int cardinality;
+
+  private Context context;
+  private Column longColumn;
+  private Column doubleColumn;
+  private Column textColumn;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = TableBenchmarkData.enterContext();
+    long seed = TableBenchmarkData.SEED;
+    longColumn = TableBenchmarkData.longColumn("long", rowCount, cardinality, seed);
+    doubleColumn = TableBenchmarkData.doubleColumn("double", rowCount, seed);
+    textColumn = TableBenchmarkData.textColumn("text", rowCount, cardinality, seed);
+  }
+
+  @TearDown
+  public void tearDown() {
+    TableBenchmarkData.leaveContext(context);
+  }
+
+  @Benchmark
+  public OrderMask sortByLongColumn() {
+    return OrderBuilder.buildOrderMask(List.of(new OrderRule(longColumn, true, true)));
+  }
+
+  @Benchmark
+  public OrderMask sortByTextColumn() {
+    return OrderBuilder.buildOrderMask(List.of(new OrderRule(textColumn, true, true)));
+  }
+
+  @Benchmark
+  public OrderMask sortByTwoColumns() {
+    return OrderBuilder.buildOrderMask(
+        List.of(new OrderRule(longColumn, true, true), new OrderRule(doubleColumn, false, true)));
+  }
+}
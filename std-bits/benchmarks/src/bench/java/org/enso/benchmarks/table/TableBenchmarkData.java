@@ -0,0 +1,117 @@
+package org.enso.benchmarks.table;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Random;
+import org.enso.table.data.column.storage.StringStorage;
+import org.enso.table.data.column.storage.numeric.DoubleStorage;
+import org.enso.table.data.column.storage.numeric.LongStorage;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.data.table.Column;
+import org.graalvm.polyglot.Context;
+
+/**
+ * Helpers generating synthetic data for the Table library benchmarks.
+ *
+ * <p>The Table library calls {@code Context.getCurrent()} to handle safepoints, so each benchmark
+ * has to run with an entered polyglot context - see {@link #enterContext()}. No Enso code is
+ * evaluated in that context, so the measurements only include the Java kernels.
+ */
+final class TableBenchmarkData {
+  private TableBenchmarkData() {}
+
+  /** The seed used for all generated data, so that the runs are comparable. */
+  static final long SEED = 42;
+
+  /** Creates and enters a polyglot context for the current thread. */
+  static Context enterContext() {
+    Context context = Context.newBuilder().allowAllAccess(true).build();
+    context.enter();
+    return context;
+  }
+
+  /** Leaves and closes a context created by {@link #enterContext()}. */
+  static void leaveContext(Context context) {
+    context.leave();
+    context.close();
+  }
+
+  /**
+   * Generates an integer column with values drawn uniformly from {@code [0, cardinality)}.
+   *
+   * @param name the column name
+   * @param rowCount the number of rows
+   * @param cardinality the number of distinct values
+   * @param seed the seed for the random generator
+   */
+  static Column longColumn(String name, int rowCount, int cardinality, long seed) {
+    Random random = new Random(seed);
+    long[] data = new long[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      data[i] = random.nextInt(cardinality);
+    }
+    return new Column(name, new LongStorage(data, IntegerType.INT_64));
+  }
+
+  /** Generates a floating point column with values uniformly distributed in {@code [0, 1000)}. */
+  static Column doubleColumn(String name, int rowCount, long seed) {
+    Random random = new Random(seed);
+    long[] data = new long[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      data[i] = Double.doubleToRawLongBits(random.nextDouble() * 1000.0);
+    }
+    return new Column(name, new DoubleStorage(data, rowCount, new BitSet()));
+  }
+
+  /**
+   * Generates a text column with values drawn uniformly from {@code cardinality} distinct strings.
+   */
+  static Column textColumn(String name, int rowCount, int cardinality, long seed) {
+    Random random = new Random(seed);
+    String[] dictionary = new String[cardinality];
+    for (int i = 0; i < cardinality; i++) {
+      dictionary[i] = "key-" + Integer.toHexString(i * 7919) + "-" + i;
+    }
+
+    String[] data = new String[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      data[i] = dictionary[random.nextInt(cardinality)];
+    }
+    return new Column(name, new StringStorage(data, rowCount, TextType.VARIABLE_LENGTH));
+  }
+
+  /**
+   * Generates the contents of a CSV file with a header and the given number of rows.
+   *
+   * <p>Each row contains an integer, a decimal number, a short text and a date.
+   */
+  static String delimitedFile(int rowCount, int cardinality, long seed) {
+    Random random = new Random(seed);
+    StringBuilder builder = new StringBuilder(rowCount * 40);
+    builder.append("id,amount,category,date\n");
+    for (int i = 0; i < rowCount; i++) {
+      builder.append(i).append(',');
+      builder.append(random.nextInt(100000)).append('.').append(random.nextInt(100)).append(',');
+      builder.append("\"category ").append(random.nextInt(cardinality)).append("\",");
+      builder.append(2000 + random.nextInt(24)).append('-');
+      int month = 1 + random.nextInt(12);
+      int day = 1 + random.nextInt(28);
+      builder.append(String.format(Locale.ROOT, "%02d-%02d", month, day));
+      builder.append('\n');
+    }
+    return builder.toString();
+  }
+
+  /** Generates a text column containing decimal numbers with thousand separators. */
+  static StringStorage numbersAsText(int rowCount, long seed) {
+    Random random = new Random(seed);
+    String[] data = new String[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      int whole = random.nextInt(10_000_000);
+      int fraction = random.nextInt(100);
+      data[i] = String.format(Locale.ROOT, "%,d.%02d", whole, fraction);
+    }
+    return new StringStorage(data, rowCount, TextType.VARIABLE_LENGTH);
+  }
+}
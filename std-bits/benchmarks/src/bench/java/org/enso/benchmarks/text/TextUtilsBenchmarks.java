@@ -0,0 +1,179 @@
+package org.enso.benchmarks.text;
+
+import com.ibm.icu.text.BreakIterator;
+import com.ibm.icu.text.CaseMap;
+import com.ibm.icu.text.Normalizer;
+import com.ibm.icu.text.StringSearch;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.enso.base.Text_Utils;
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link Text_Utils} operations having ASCII fast paths with the plain ICU
+ * implementations they fall back to.
+ *
+ * <p>The corpora consist of short words. In the {@code mixed} corpus, one in twenty words contains
+ * accented letters, which is the share of non-ASCII values observed in typical tables; in the
+ * {@code unicode} corpus, every word does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class TextUtilsBenchmarks {
+  private static final long SEED = 42;
+  private static final int WORD_COUNT = 100_000;
+  private static final String NEEDLE = "ke";
+
+  @Param({"ascii", "mixed", "unicode"})
+  public String corpus;
+
+  private Context context;
+  private String[] words;
+  private String document;
+
+  @Setup
+  public void initializeBenchmark() {
+    context = Context.newBuilder().allowAllAccess(true).build();
+    context.enter();
+    int nonAsciiEvery =
+        switch (corpus) {
+          case "ascii" -> Integer.MAX_VALUE;
+          case "mixed" -> 20;
+          case "unicode" -> 1;
+          default -> throw new IllegalArgumentException("Unknown corpus: " + corpus);
+        };
+    Random random = new Random(SEED);
+    words = new String[WORD_COUNT];
+    for (int i = 0; i < WORD_COUNT; i++) {
+      words[i] = generateWord(random, i % nonAsciiEvery == nonAsciiEvery - 1);
+    }
+    document = String.join(" ", words).substring(0, 1_000_000);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.leave();
+    context.close();
+  }
+
+  private static String generateWord(Random random, boolean nonAscii) {
+    StringBuilder word = new StringBuilder("key-");
+    int length = 4 + random.nextInt(8);
+    for (int i = 0; i < length; i++) {
+      if (nonAscii && i == 1) {
+        word.append("\u00e9\u015b");
+      }
+      word.append((char) ('a' + random.nextInt(26)));
+    }
+    return word.toString();
+  }
+
+  @Benchmark
+  public void graphemeLength(Blackhole blackhole) {
+    for (String word : words) {
+      blackhole.consume(Text_Utils.grapheme_length(word));
+    }
+  }
+
+  @Benchmark
+  public void graphemeLengthIcu(Blackhole blackhole) {
+    for (String word : words) {
+      BreakIterator iter = BreakIterator.getCharacterInstance();
+      iter.setText(word);
+      int length = 0;
+      while (iter.next() != BreakIterator.DONE) {
+        length++;
+      }
+      blackhole.consume(length);
+    }
+  }
+
+  @Benchmark
+  public void takePrefix(Blackhole blackhole) {
+    for (String word : words) {
+      blackhole.consume(Text_Utils.take_prefix(word, 3));
+    }
+  }
+
+  @Benchmark
+  public void takePrefixIcu(Blackhole blackhole) {
+    for (String word : words) {
+      BreakIterator iter = BreakIterator.getCharacterInstance();
+      iter.setText(word);
+      blackhole.consume(
+          iter.next(3) == BreakIterator.DONE ? word : word.substring(0, iter.current()));
+    }
+  }
+
+  @Benchmark
+  public void compareNormalized(Blackhole blackhole) {
+    for (int i = 1; i < words.length; i++) {
+      blackhole.consume(Text_Utils.compare_normalized(words[i - 1], words[i]));
+    }
+  }
+
+  @Benchmark
+  public void compareNormalizedIcu(Blackhole blackhole) {
+    for (int i = 1; i < words.length; i++) {
+      blackhole.consume(Normalizer.compare(words[i - 1], words[i], Normalizer.FOLD_CASE_DEFAULT));
+    }
+  }
+
+  @Benchmark
+  public void equalsIgnoreCase(Blackhole blackhole) {
+    for (int i = 1; i < words.length; i++) {
+      blackhole.consume(Text_Utils.equals_ignore_case(words[i - 1], words[i], Locale.ROOT));
+    }
+  }
+
+  @Benchmark
+  public void equalsIgnoreCaseIcu(Blackhole blackhole) {
+    CaseMap.Fold fold = CaseMap.fold();
+    for (int i = 1; i < words.length; i++) {
+      String a = fold.apply(words[i - 1]);
+      String b = fold.apply(words[i]);
+      blackhole.consume(Normalizer.compare(a, b, Normalizer.FOLD_CASE_DEFAULT) == 0);
+    }
+  }
+
+  @Benchmark
+  public Object spanOfAll() {
+    return Text_Utils.span_of_all(document, NEEDLE);
+  }
+
+  @Benchmark
+  public int spanOfAllIcu() {
+    StringSearch search = new StringSearch(NEEDLE, document);
+    int count = 0;
+    while (search.next() != StringSearch.DONE) {
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public long utf16IndexToGraphemeIndex() {
+    return Text_Utils.utf16_index_to_grapheme_index(document, document.length() / 2);
+  }
+
+  @Benchmark
+  public long utf16IndexToGraphemeIndexIcu() {
+    BreakIterator iter = BreakIterator.getCharacterInstance();
+    iter.setText(document);
+    int index = document.length() / 2;
+    long graphemes = 0;
+    int end = iter.next();
+    while (end <= index && end != BreakIterator.DONE) {
+      graphemes++;
+      end = iter.next();
+    }
+    return graphemes;
+  }
+}
@@ -1,6 +1,7 @@
 package org.enso.table.data.column.builder;
 
 import org.enso.table.data.column.storage.BoolStorage;
+import org.enso.table.data.column.storage.ChunkedStorage;
 import org.enso.table.data.column.storage.Storage;
 import org.enso.table.data.column.storage.type.BooleanType;
 import org.enso.table.data.column.storage.type.StorageType;
@@ -71,6 +72,13 @@ public class BoolBuilder extends TypedBuilder {
 
   @Override
   public void appendBulkStorage(Storage<?> storage) {
+    if (storage instanceof ChunkedStorage<?> chunked) {
+      for (Storage<?> chunk : chunked.getChunks()) {
+        appendBulkStorage(chunk);
+      }
+      return;
+    }
+
     if (storage.getType().equals(getType())) {
       if (storage instanceof BoolStorage boolStorage) {
         BitSets.copy(boolStorage.getValues(), vals, size, boolStorage.size());
@@ -3,6 +3,7 @@ package org.enso.table.data.column.builder;
 import org.enso.base.polyglot.NumericConverter;
 import org.enso.table.data.column.operation.cast.ToFloatStorageConverter;
 import org.enso.table.data.column.storage.BoolStorage;
+import org.enso.table.data.column.storage.ChunkedStorage;
 import org.enso.table.data.column.storage.Storage;
 import org.enso.table.data.column.storage.numeric.AbstractLongStorage;
 import org.enso.table.data.column.storage.numeric.DoubleStorage;
@@ -101,6 +102,13 @@ public class DoubleBuilder extends NumericBuilder {
 
   @Override
   public void appendBulkStorage(Storage<?> storage) {
+    if (storage instanceof ChunkedStorage<?> chunked) {
+      for (Storage<?> chunk : chunked.getChunks()) {
+        appendBulkStorage(chunk);
+      }
+      return;
+    }
+
     if (Objects.equals(storage.getType(), FloatType.FLOAT_64)) {
       if (storage instanceof DoubleStorage doubleStorage) {
         int n = doubleStorage.size();
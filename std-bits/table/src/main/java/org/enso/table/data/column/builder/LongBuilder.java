@@ -5,6 +5,7 @@ import org.enso.table.data.column.operation.cast.ToIntegerStorageConverter;
 import org.enso.table.data.column.storage.BoolStorage;
 import org.enso.table.data.column.storage.numeric.AbstractLongStorage;
 import org.enso.table.data.column.storage.numeric.LongStorage;
+import org.enso.table.data.column.storage.ChunkedStorage;
 import org.enso.table.data.column.storage.Storage;
 import org.enso.table.data.column.storage.type.BooleanType;
 import org.enso.table.data.column.storage.type.FloatType;
@@ -68,6 +69,13 @@ public abstract class LongBuilder extends NumericBuilder {
 
   @Override
   public void appendBulkStorage(Storage<?> storage) {
+    if (storage instanceof ChunkedStorage<?> chunked) {
+      for (Storage<?> chunk : chunked.getChunks()) {
+        appendBulkStorage(chunk);
+      }
+      return;
+    }
+
     if (Objects.equals(storage.getType(), getType()) && storage instanceof LongStorage longStorage) {
       // A fast path for the same type - no conversions/checks needed.
       int n = longStorage.size();
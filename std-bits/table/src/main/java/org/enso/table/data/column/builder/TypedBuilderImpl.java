@@ -3,6 +3,7 @@ package org.enso.table.data.column.builder;
 import java.util.Arrays;
 import java.util.Objects;
 import org.enso.table.data.column.storage.SpecializedStorage;
+import org.enso.table.data.column.storage.ChunkedStorage;
 import org.enso.table.data.column.storage.Storage;
 import org.enso.table.data.column.storage.type.AnyObjectType;
 import org.enso.table.data.column.storage.type.StorageType;
@@ -56,6 +57,13 @@ public abstract class TypedBuilderImpl<T> extends TypedBuilder {
 
   @Override
   public void appendBulkStorage(Storage<?> storage) {
+    if (storage instanceof ChunkedStorage<?> chunked) {
+      for (Storage<?> chunk : chunked.getChunks()) {
+        appendBulkStorage(chunk);
+      }
+      return;
+    }
+
     if (storage.getType().equals(getType())) {
       if (storage instanceof SpecializedStorage<?>) {
         // This cast is safe, because storage.getType() == this.getType() iff storage.T == this.T
@@ -0,0 +1,552 @@
+package org.enso.table.data.column.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.builder.InferredBuilder;
+import org.enso.table.data.column.operation.cast.CastProblemBuilder;
+import org.enso.table.data.column.operation.map.MapOperationProblemBuilder;
+import org.enso.table.data.column.storage.type.AnyObjectType;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.data.index.Index;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.mask.SliceRange;
+import org.graalvm.polyglot.Context;
+
+/**
+ * A storage consisting of a sequence of underlying storages (chunks) of the same type.
+ *
+ * <p>It allows to concatenate and append to storages without copying their contents. Elements are
+ * located using a prefix-sum index over the chunk sizes, and most operations are dispatched to
+ * each chunk separately.
+ *
+ * <p>Once the number of chunks exceeds {@link #MAX_CHUNK_COUNT}, the chunks are compacted into a
+ * single storage. That keeps element lookup cheap while making repeated appends cost amortized
+ * O(appended rows) instead of O(total rows).
+ *
+ * <p>Code relying on specialized storage implementations should use {@link
+ * #tryGettingMoreSpecializedStorage()} to get a compacted storage.
+ */
+public final class ChunkedStorage<T> extends Storage<T> {
+  /** The number of chunks above which concatenating storages compacts them into one. */
+  public static final int MAX_CHUNK_COUNT = 64;
+
+  private final List<Storage<T>> chunks;
+
+  /**
+   * Stores the starting offset of each chunk. It has one more element than {@code chunks}, the
+   * last element being the total size.
+   */
+  private final int[] offsets;
+
+  private final StorageType type;
+
+  private Storage<T> compacted = null;
+
+  private ChunkedStorage(List<Storage<T>> chunks, StorageType type) {
+    this.chunks = chunks;
+    this.type = type;
+    this.offsets = new int[chunks.size() + 1];
+    for (int i = 0; i < chunks.size(); i++) {
+      offsets[i + 1] = offsets[i] + chunks.get(i).size();
+    }
+  }
+
+  /**
+   * Concatenates the given storages, without copying their data if possible.
+   *
+   * <p>All storages must have the same type. Nested chunked storages are flattened. If the
+   * resulting number of chunks exceeds {@link #MAX_CHUNK_COUNT}, the result is compacted.
+   *
+   * @param storages the (non-empty) list of storages to concatenate
+   * @return a storage containing all elements of the given storages, in order
+   */
+  public static <T> Storage<T> concat(List<? extends Storage<T>> storages) {
+    if (storages.isEmpty()) {
+      throw new IllegalArgumentException("At least one storage is required for concatenation.");
+    }
+
+    StorageType type = storages.get(0).getType();
+    List<Storage<T>> flattened = new ArrayList<>(storages.size());
+    for (Storage<T> storage : storages) {
+      if (!Objects.equals(storage.getType(), type)) {
+        throw new IllegalArgumentException(
+            "Cannot concatenate storages of different types: "
+                + type
+                + " and "
+                + storage.getType()
+                + ". This is a bug in the Table library.");
+      }
+
+      if (storage instanceof ChunkedStorage<T> chunked) {
+        flattened.addAll(chunked.chunks);
+      } else if (storage.size() > 0) {
+        flattened.add(storage);
+      }
+    }
+
+    if (flattened.isEmpty()) {
+      return storages.get(0);
+    } else if (flattened.size() == 1) {
+      return flattened.get(0);
+    }
+
+    ChunkedStorage<T> result = new ChunkedStorage<>(Collections.unmodifiableList(flattened), type);
+    if (flattened.size() > MAX_CHUNK_COUNT) {
+      return result.compact();
+    }
+    return result;
+  }
+
+  /**
+   * Concatenates results of per-chunk operations.
+   *
+   * <p>The results should normally share a type, but if they do not, they are merged using an
+   * {@link InferredBuilder} to find a common type.
+   */
+  private static Storage<?> concatResults(List<Storage<?>> results) {
+    StorageType commonType = results.get(0).getType();
+    boolean sameType = results.stream().allMatch(s -> Objects.equals(s.getType(), commonType));
+    if (sameType) {
+      @SuppressWarnings("unchecked")
+      List<Storage<Object>> typedResults = (List<Storage<Object>>) (List<?>) results;
+      return concat(typedResults);
+    }
+
+    int totalSize = results.stream().mapToInt(Storage::size).sum();
+    Builder builder = new InferredBuilder(totalSize);
+    for (Storage<?> result : results) {
+      builder.appendBulkStorage(result);
+    }
+    return builder.seal();
+  }
+
+  /** @return the underlying chunks of this storage */
+  public List<Storage<T>> getChunks() {
+    return chunks;
+  }
+
+  /**
+   * Copies all chunks into a single storage.
+   *
+   * <p>The result is cached, so repeated calls are cheap.
+   */
+  public Storage<T> compact() {
+    if (compacted == null) {
+      Builder builder = createDefaultBuilderOfSameType(size());
+      for (Storage<T> chunk : chunks) {
+        builder.appendBulkStorage(chunk);
+      }
+
+      // The builder of the same type produces storages of the same element type.
+      @SuppressWarnings("unchecked")
+      Storage<T> sealed = (Storage<T>) builder.seal();
+      compacted = sealed;
+    }
+
+    return compacted;
+  }
+
+  /** Finds the index of the chunk containing the element at the given position. */
+  private int chunkIndexOf(long idx) {
+    if (idx < 0 || idx >= size()) {
+      throw new IndexOutOfBoundsException(
+          "Index " + idx + " is out of bounds for storage of length " + size() + ".");
+    }
+
+    // Chunks are never empty, so the offsets are strictly increasing.
+    int found = Arrays.binarySearch(offsets, (int) idx);
+    return found >= 0 ? found : -found - 2;
+  }
+
+  @Override
+  public int size() {
+    return offsets[offsets.length - 1];
+  }
+
+  @Override
+  public int countMissing() {
+    int count = 0;
+    for (Storage<T> chunk : chunks) {
+      count += chunk.countMissing();
+    }
+    return count;
+  }
+
+  @Override
+  public StorageType getType() {
+    return type;
+  }
+
+  /**
+   * Combines the precise types of the chunks, in the same way as {@link MixedStorage} combines the
+   * types of its elements.
+   */
+  @Override
+  public StorageType inferPreciseType() {
+    Context context = Context.getCurrent();
+    StorageType currentType = null;
+    for (Storage<T> chunk : chunks) {
+      if (chunk.countMissing() == chunk.size()) {
+        continue;
+      }
+
+      StorageType chunkType = chunk.inferPreciseType();
+      if (currentType == null) {
+        currentType = chunkType;
+      } else if (!currentType.equals(chunkType)) {
+        // Allow mixed integer and float types in a column, returning a float.
+        if ((chunkType instanceof IntegerType && currentType instanceof FloatType)
+            || (chunkType instanceof FloatType && currentType instanceof IntegerType)) {
+          currentType = FloatType.FLOAT_64;
+        } else {
+          currentType = AnyObjectType.INSTANCE;
+        }
+      }
+
+      if (currentType instanceof AnyObjectType) {
+        break;
+      }
+
+      context.safepoint();
+    }
+
+    return currentType == null ? AnyObjectType.INSTANCE : currentType;
+  }
+
+  @Override
+  public boolean isNa(long idx) {
+    int chunkIx = chunkIndexOf(idx);
+    return chunks.get(chunkIx).isNa(idx - offsets[chunkIx]);
+  }
+
+  @Override
+  public T getItemBoxed(int idx) {
+    int chunkIx = chunkIndexOf(idx);
+    return chunks.get(chunkIx).getItemBoxed(idx - offsets[chunkIx]);
+  }
+
+  @Override
+  public Storage<?> tryGettingMoreSpecializedStorage() {
+    return compact().tryGettingMoreSpecializedStorage();
+  }
+
+  @Override
+  public boolean isUnaryOpVectorized(String name) {
+    return chunks.stream().allMatch(chunk -> chunk.isUnaryOpVectorized(name));
+  }
+
+  @Override
+  public Storage<?> runVectorizedUnaryMap(String name, MapOperationProblemBuilder problemBuilder) {
+    return mapChunks(
+        (chunkIx) ->
+            chunks
+                .get(chunkIx)
+                .runVectorizedUnaryMap(name, offsetProblemBuilder(problemBuilder, chunkIx)));
+  }
+
+  @Override
+  public boolean isBinaryOpVectorized(String name) {
+    return chunks.stream().allMatch(chunk -> chunk.isBinaryOpVectorized(name));
+  }
+
+  @Override
+  public Storage<?> runVectorizedBinaryMap(
+      String name, Object argument, MapOperationProblemBuilder problemBuilder) {
+    return mapChunks(
+        (chunkIx) ->
+            chunks
+                .get(chunkIx)
+                .runVectorizedBinaryMap(
+                    name, argument, offsetProblemBuilder(problemBuilder, chunkIx)));
+  }
+
+  @Override
+  public boolean isTernaryOpVectorized(String name) {
+    return chunks.stream().allMatch(chunk -> chunk.isTernaryOpVectorized(name));
+  }
+
+  @Override
+  public Storage<?> runVectorizedTernaryMap(
+      String name, Object argument0, Object argument1, MapOperationProblemBuilder problemBuilder) {
+    return mapChunks(
+        (chunkIx) ->
+            chunks
+                .get(chunkIx)
+                .runVectorizedTernaryMap(
+                    name, argument0, argument1, offsetProblemBuilder(problemBuilder, chunkIx)));
+  }
+
+  @Override
+  public Storage<?> runVectorizedZip(
+      String name, Storage<?> argument, MapOperationProblemBuilder problemBuilder) {
+    return mapChunks(
+        (chunkIx) -> {
+          int start = offsets[chunkIx];
+          int length = offsets[chunkIx + 1] - start;
+          Storage<?> argumentSlice;
+          if (start >= argument.size()) {
+            argumentSlice = argument.slice(0, 0);
+          } else {
+            argumentSlice = argument.slice(start, length);
+          }
+          return chunks
+              .get(chunkIx)
+              .runVectorizedZip(name, argumentSlice, offsetProblemBuilder(problemBuilder, chunkIx));
+        });
+  }
+
+  @Override
+  public Storage<?> cast(StorageType targetType, CastProblemBuilder castProblemBuilder) {
+    return mapChunks((chunkIx) -> chunks.get(chunkIx).cast(targetType, castProblemBuilder));
+  }
+
+  private Storage<?> mapChunks(Function<Integer, Storage<?>> operation) {
+    Context context = Context.getCurrent();
+    List<Storage<?>> results = new ArrayList<>(chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      results.add(operation.apply(i));
+      context.safepoint();
+    }
+    return concatResults(results);
+  }
+
+  private MapOperationProblemBuilder offsetProblemBuilder(
+      MapOperationProblemBuilder parent, int chunkIx) {
+    int offset = offsets[chunkIx];
+    return offset == 0 ? parent : new OffsetProblemBuilder(parent, offset);
+  }
+
+  @Override
+  public Storage<T> mask(BitSet mask, int cardinality) {
+    Context context = Context.getCurrent();
+    List<Storage<T>> newChunks = new ArrayList<>(chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      BitSet chunkMask = mask.get(offsets[i], offsets[i + 1]);
+      int chunkCardinality = chunkMask.cardinality();
+      if (chunkCardinality > 0) {
+        newChunks.add(chunks.get(i).mask(chunkMask, chunkCardinality));
+      }
+
+      context.safepoint();
+    }
+
+    if (newChunks.isEmpty()) {
+      return chunks.get(0).slice(0, 0);
+    }
+    return concat(newChunks);
+  }
+
+  @Override
+  public Storage<T> applyMask(OrderMask mask) {
+    Context context = Context.getCurrent();
+    int[] positions = mask.getPositions();
+
+    // Splits the positions into runs taken from a single chunk. Missing rows join the surrounding
+    // run, as every chunk fills them with nulls. A run of missing rows only is taken from the
+    // first chunk. If the rows are scattered across too many runs, the compacted storage is
+    // reordered instead.
+    int[] runStarts = new int[MAX_CHUNK_COUNT];
+    int[] runChunks = new int[MAX_CHUNK_COUNT];
+    int runCount = 0;
+    for (int i = 0; i < positions.length; i++) {
+      int chunkIx = positions[i] == Index.NOT_FOUND ? -1 : chunkIndexOf(positions[i]);
+      if (runCount > 0) {
+        int runChunk = runChunks[runCount - 1];
+        if (chunkIx == -1 || chunkIx == runChunk) {
+          continue;
+        } else if (runChunk == -1) {
+          runChunks[runCount - 1] = chunkIx;
+          continue;
+        } else if (runCount == MAX_CHUNK_COUNT) {
+          return compact().applyMask(mask);
+        }
+      }
+
+      runStarts[runCount] = i;
+      runChunks[runCount] = chunkIx;
+      runCount++;
+      context.safepoint();
+    }
+
+    List<Storage<T>> newChunks = new ArrayList<>(runCount);
+    for (int run = 0; run < runCount; run++) {
+      int chunkIx = Math.max(runChunks[run], 0);
+      int start = runStarts[run];
+      int end = run + 1 < runCount ? runStarts[run + 1] : positions.length;
+      int[] chunkPositions = new int[end - start];
+      for (int i = start; i < end; i++) {
+        int position = positions[i];
+        chunkPositions[i - start] =
+            position == Index.NOT_FOUND ? Index.NOT_FOUND : position - offsets[chunkIx];
+      }
+
+      newChunks.add(chunks.get(chunkIx).applyMask(new OrderMask(chunkPositions)));
+      context.safepoint();
+    }
+
+    if (newChunks.isEmpty()) {
+      return chunks.get(0).slice(0, 0);
+    }
+    return concat(newChunks);
+  }
+
+  @Override
+  public Storage<T> countMask(int[] counts, int total) {
+    Context context = Context.getCurrent();
+    List<Storage<T>> newChunks = new ArrayList<>(chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      int[] chunkCounts = Arrays.copyOfRange(counts, offsets[i], offsets[i + 1]);
+      int chunkTotal = 0;
+      for (int count : chunkCounts) {
+        chunkTotal += count;
+      }
+
+      if (chunkTotal > 0) {
+        newChunks.add(chunks.get(i).countMask(chunkCounts, chunkTotal));
+      }
+
+      context.safepoint();
+    }
+
+    if (newChunks.isEmpty()) {
+      return chunks.get(0).slice(0, 0);
+    }
+    return concat(newChunks);
+  }
+
+  @Override
+  public Storage<T> slice(int offset, int limit) {
+    int end = Math.min(size(), offset + limit);
+    List<Storage<T>> newChunks = new ArrayList<>();
+    for (int i = 0; i < chunks.size(); i++) {
+      int chunkStart = offsets[i];
+      int chunkEnd = offsets[i + 1];
+      if (chunkEnd <= offset || chunkEnd == chunkStart) {
+        continue;
+      }
+      if (chunkStart >= end) {
+        break;
+      }
+
+      int localStart = Math.max(offset, chunkStart) - chunkStart;
+      int localEnd = Math.min(end, chunkEnd) - chunkStart;
+      Storage<T> chunk = chunks.get(i);
+      if (localStart == 0 && localEnd == chunk.size()) {
+        newChunks.add(chunk);
+      } else {
+        newChunks.add(chunk.slice(localStart, localEnd - localStart));
+      }
+    }
+
+    if (newChunks.isEmpty()) {
+      return chunks.get(0).slice(0, 0);
+    }
+    return concat(newChunks);
+  }
+
+  @Override
+  public Storage<T> slice(List<SliceRange> ranges) {
+    Context context = Context.getCurrent();
+    List<Storage<T>> newChunks = new ArrayList<>();
+    List<SliceRange> pendingRanges = new ArrayList<>();
+    int pendingChunkIx = -1;
+    for (SliceRange range : ranges) {
+      int position = range.start();
+      while (position < range.end()) {
+        int chunkIx = chunkIndexOf(position);
+        int chunkStart = offsets[chunkIx];
+        int pieceEnd = Math.min(range.end(), offsets[chunkIx + 1]);
+        if (chunkIx != pendingChunkIx) {
+          if (!pendingRanges.isEmpty()) {
+            newChunks.add(chunks.get(pendingChunkIx).slice(pendingRanges));
+          }
+          pendingRanges = new ArrayList<>();
+          pendingChunkIx = chunkIx;
+        }
+
+        pendingRanges.add(new ChunkRange(position - chunkStart, pieceEnd - chunkStart));
+        position = pieceEnd;
+      }
+
+      context.safepoint();
+    }
+
+    if (!pendingRanges.isEmpty()) {
+      newChunks.add(chunks.get(pendingChunkIx).slice(pendingRanges));
+    }
+
+    if (newChunks.isEmpty()) {
+      return chunks.get(0).slice(0, 0);
+    }
+    return concat(newChunks);
+  }
+
+  @Override
+  public Storage<?> appendNulls(int count) {
+    if (count == 0) {
+      return this;
+    }
+
+    Builder nullsBuilder = createDefaultBuilderOfSameType(count);
+    nullsBuilder.appendNulls(count);
+    @SuppressWarnings("unchecked")
+    Storage<T> nulls = (Storage<T>) nullsBuilder.seal();
+    return concat(List.of(this, nulls));
+  }
+
+  @Override
+  public Builder createDefaultBuilderOfSameType(int capacity) {
+    return chunks.get(0).createDefaultBuilderOfSameType(capacity);
+  }
+
+  /** A range of positions local to a single chunk. */
+  private record ChunkRange(int start, int end) implements SliceRange {}
+
+  /**
+   * A problem builder which reports problems to a parent builder, shifting the reported row
+   * numbers by the offset of a chunk.
+   */
+  private static class OffsetProblemBuilder extends MapOperationProblemBuilder {
+    private final MapOperationProblemBuilder parent;
+    private final int offset;
+
+    OffsetProblemBuilder(MapOperationProblemBuilder parent, int offset) {
+      super(null);
+      this.parent = parent;
+      this.offset = offset;
+    }
+
+    @Override
+    public void reportFloatingPointEquality(int row) {
+      parent.reportFloatingPointEquality(row + offset);
+    }
+
+    @Override
+    public void reportArithmeticError(String message, Integer row) {
+      parent.reportArithmeticError(message, row == null ? null : row + offset);
+    }
+
+    @Override
+    public void reportIllegalArgumentError(String message, Integer row) {
+      parent.reportIllegalArgumentError(message, row == null ? null : row + offset);
+    }
+
+    @Override
+    public void reportOverflow(StorageType targetType, long x, String op, long y) {
+      parent.reportOverflow(targetType, x, op, y);
+    }
+
+    @Override
+    public void reportDivisionByZero(Integer row) {
+      parent.reportDivisionByZero(row == null ? null : row + offset);
+    }
+  }
+}
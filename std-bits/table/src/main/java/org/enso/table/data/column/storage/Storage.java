@@ -500,7 +500,7 @@ public abstract class Storage<T> {
     return new LongStorage(data, IntegerType.INT_64);
   }
 
-  public final Storage<?> cast(StorageType targetType, CastProblemBuilder castProblemBuilder) {
+  public Storage<?> cast(StorageType targetType, CastProblemBuilder castProblemBuilder) {
     StorageConverter<?> converter = StorageConverter.fromStorageType(targetType);
     return converter.cast(this, castProblemBuilder);
   }
@@ -0,0 +1,377 @@
+package org.enso.table.data.column.storage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.operation.cast.CastProblemBuilder;
+import org.enso.table.data.column.operation.map.MapOperationProblemBuilder;
+import org.enso.table.data.column.storage.type.StorageType;
+import org.enso.table.data.index.Index;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.mask.SliceRange;
+import org.graalvm.polyglot.Context;
+
+/**
+ * A storage presenting a selection of rows of a parent storage, without copying its data.
+ *
+ * <p>The view is described by a window ({@code offset}, {@code length}) over either the parent
+ * itself or an index vector into the parent. Index vector entries equal to {@link Index#NOT_FOUND}
+ * denote missing values. Masking, slicing and reordering a view composes the selections, so chains
+ * of such operations never copy the underlying data.
+ *
+ * <p>A view keeps its whole parent alive, so it is only worth creating if it selects a large enough
+ * fraction of the parent. This is decided by {@link #shouldCreateView(int, int)}; otherwise the
+ * operation copies the selected data right away.
+ *
+ * <p>Views are only meant to be held by a {@link org.enso.table.data.table.Column}, which
+ * replaces them with a regular storage once the storage is requested by other code. That way
+ * operations relying on specific storage implementations are never given a view.
+ */
+public final class StorageView<T> extends Storage<T> {
+  /**
+   * The minimum fraction of the parent storage rows that has to be selected for a view to be
+   * created. Smaller selections are copied, so that they do not retain the whole parent.
+   */
+  public static final double MIN_VIEW_SELECTIVITY = 0.25;
+
+  /** Storages smaller than this are always copied, as views would not save anything there. */
+  public static final int MIN_VIEW_PARENT_SIZE = 1024;
+
+  private final Storage<T> parent;
+  private final int[] indices;
+  private final int offset;
+  private final int length;
+  private volatile Storage<T> materialized = null;
+
+  /**
+   * @param parent the storage being viewed, must not be a view itself
+   * @param indices the index vector into the parent, or {@code null} if the window is over the
+   *     parent directly
+   * @param offset the start of the window
+   * @param length the length of the window
+   */
+  private StorageView(Storage<T> parent, int[] indices, int offset, int length) {
+    assert !(parent instanceof StorageView<?>);
+    this.parent = parent;
+    this.indices = indices;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Decides if a selection of {@code selectedCount} rows out of a storage of {@code parentSize}
+   * rows should be represented as a view, or copied.
+   */
+  public static boolean shouldCreateView(int selectedCount, int parentSize) {
+    return parentSize >= MIN_VIEW_PARENT_SIZE
+        && selectedCount >= parentSize * MIN_VIEW_SELECTIVITY;
+  }
+
+  /** @return the indices of the set bits of the given mask, in ascending order */
+  public static int[] selectedIndices(BitSet mask, int cardinality) {
+    Context context = Context.getCurrent();
+    int[] result = new int[cardinality];
+    int resIx = 0;
+    for (int i = mask.nextSetBit(0); i >= 0 && resIx < cardinality; i = mask.nextSetBit(i + 1)) {
+      result[resIx++] = i;
+      context.safepoint();
+    }
+    return result;
+  }
+
+  /**
+   * Masks the given storage, creating a view if the selection policy allows it.
+   *
+   * @see Storage#mask(BitSet, int)
+   */
+  public static <T> Storage<T> mask(Storage<T> storage, BitSet mask, int cardinality) {
+    if (storage instanceof StorageView<T>) {
+      return storage.mask(mask, cardinality);
+    } else if (shouldCreateView(cardinality, storage.size())) {
+      return new StorageView<>(storage, selectedIndices(mask, cardinality), 0, cardinality);
+    } else {
+      return storage.mask(mask, cardinality);
+    }
+  }
+
+  /**
+   * Reorders the given storage, creating a view if the selection policy allows it.
+   *
+   * <p>The positions array of the mask is referenced by the view, so it must not be modified
+   * afterwards.
+   *
+   * @see Storage#applyMask(OrderMask)
+   */
+  public static <T> Storage<T> applyMask(Storage<T> storage, OrderMask mask) {
+    int[] positions = mask.getPositions();
+    if (storage instanceof StorageView<T>) {
+      return storage.applyMask(mask);
+    } else if (shouldCreateView(positions.length, storage.size())) {
+      return new StorageView<>(storage, positions, 0, positions.length);
+    } else {
+      return storage.applyMask(mask);
+    }
+  }
+
+  /**
+   * Slices the given storage, creating a view if the selection policy allows it.
+   *
+   * @see Storage#slice(int, int)
+   */
+  public static <T> Storage<T> slice(Storage<T> storage, int offset, int limit) {
+    int newLength = Math.max(0, Math.min(storage.size() - offset, limit));
+    if (storage instanceof StorageView<T>) {
+      return storage.slice(offset, limit);
+    } else if (shouldCreateView(newLength, storage.size())) {
+      return new StorageView<>(storage, null, offset, newLength);
+    } else {
+      return storage.slice(offset, limit);
+    }
+  }
+
+  /**
+   * Slices the given storage, creating a view if the selection policy allows it.
+   *
+   * @see Storage#slice(List)
+   */
+  public static <T> Storage<T> slice(Storage<T> storage, List<SliceRange> ranges) {
+    int newLength = SliceRange.totalLength(ranges);
+    if (storage instanceof StorageView<T>) {
+      return storage.slice(ranges);
+    } else if (shouldCreateView(newLength, storage.size())) {
+      return new StorageView<>(storage, rangeIndices(ranges, newLength), 0, newLength);
+    } else {
+      return storage.slice(ranges);
+    }
+  }
+
+  private static int[] rangeIndices(List<SliceRange> ranges, int totalLength) {
+    Context context = Context.getCurrent();
+    int[] result = new int[totalLength];
+    int resIx = 0;
+    for (SliceRange range : ranges) {
+      for (int i = range.start(); i < range.end(); i++) {
+        result[resIx++] = i;
+      }
+
+      context.safepoint();
+    }
+    return result;
+  }
+
+  /**
+   * Copies the rows selected by this view into a regular storage.
+   *
+   * <p>The result is cached, so repeated calls are cheap. The cache is safely published, so the
+   * view may be shared between threads; concurrent first calls may each make a copy, but they are
+   * equivalent.
+   */
+  public Storage<T> materialize() {
+    Storage<T> result = materialized;
+    if (result == null) {
+      if (indices == null) {
+        result = parent.slice(offset, length);
+      } else {
+        int[] positions =
+            (offset == 0 && length == indices.length)
+                ? indices
+                : Arrays.copyOfRange(indices, offset, offset + length);
+        result = parent.applyMask(new OrderMask(positions));
+      }
+      materialized = result;
+    }
+    return result;
+  }
+
+  /** Translates a position in this view into a position in the parent storage. */
+  private int parentIndex(int idx) {
+    if (idx < 0 || idx >= length) {
+      throw new IndexOutOfBoundsException(
+          "Index " + idx + " is out of bounds for storage of length " + length + ".");
+    }
+
+    int base = offset + idx;
+    return indices == null ? base : indices[base];
+  }
+
+  /**
+   * Creates a view of the parent with the given index vector, or copies the selected rows if the
+   * selection is too small to justify retaining the parent.
+   */
+  private Storage<T> withIndices(int[] newIndices) {
+    if (shouldCreateView(newIndices.length, parent.size())) {
+      return new StorageView<>(parent, newIndices, 0, newIndices.length);
+    } else {
+      return parent.applyMask(new OrderMask(newIndices));
+    }
+  }
+
+  @Override
+  public int size() {
+    return length;
+  }
+
+  @Override
+  public int countMissing() {
+    Context context = Context.getCurrent();
+    int count = 0;
+    for (int i = 0; i < length; i++) {
+      if (isNa(i)) {
+        count++;
+      }
+
+      context.safepoint();
+    }
+    return count;
+  }
+
+  @Override
+  public StorageType getType() {
+    return parent.getType();
+  }
+
+  @Override
+  public StorageType inferPreciseType() {
+    return materialize().inferPreciseType();
+  }
+
+  @Override
+  public Storage<?> tryGettingMoreSpecializedStorage() {
+    return materialize().tryGettingMoreSpecializedStorage();
+  }
+
+  @Override
+  public boolean isNa(long idx) {
+    int parentIx = parentIndex((int) idx);
+    return parentIx == Index.NOT_FOUND || parent.isNa(parentIx);
+  }
+
+  @Override
+  public T getItemBoxed(int idx) {
+    int parentIx = parentIndex(idx);
+    return parentIx == Index.NOT_FOUND ? null : parent.getItemBoxed(parentIx);
+  }
+
+  @Override
+  public boolean isUnaryOpVectorized(String name) {
+    return parent.isUnaryOpVectorized(name);
+  }
+
+  @Override
+  public Storage<?> runVectorizedUnaryMap(String name, MapOperationProblemBuilder problemBuilder) {
+    return materialize().runVectorizedUnaryMap(name, problemBuilder);
+  }
+
+  @Override
+  public boolean isBinaryOpVectorized(String name) {
+    return parent.isBinaryOpVectorized(name);
+  }
+
+  @Override
+  public Storage<?> runVectorizedBinaryMap(
+      String name, Object argument, MapOperationProblemBuilder problemBuilder) {
+    return materialize().runVectorizedBinaryMap(name, argument, problemBuilder);
+  }
+
+  @Override
+  public boolean isTernaryOpVectorized(String name) {
+    return parent.isTernaryOpVectorized(name);
+  }
+
+  @Override
+  public Storage<?> runVectorizedTernaryMap(
+      String name, Object argument0, Object argument1, MapOperationProblemBuilder problemBuilder) {
+    return materialize().runVectorizedTernaryMap(name, argument0, argument1, problemBuilder);
+  }
+
+  @Override
+  public Storage<?> runVectorizedZip(
+      String name, Storage<?> argument, MapOperationProblemBuilder problemBuilder) {
+    return materialize().runVectorizedZip(name, argument, problemBuilder);
+  }
+
+  @Override
+  public Storage<?> cast(StorageType targetType, CastProblemBuilder castProblemBuilder) {
+    return materialize().cast(targetType, castProblemBuilder);
+  }
+
+  @Override
+  public Storage<T> mask(BitSet mask, int cardinality) {
+    Context context = Context.getCurrent();
+    int[] newIndices = new int[cardinality];
+    int resIx = 0;
+    for (int i = mask.nextSetBit(0); i >= 0 && i < length; i = mask.nextSetBit(i + 1)) {
+      newIndices[resIx++] = parentIndex(i);
+      context.safepoint();
+    }
+    return withIndices(newIndices);
+  }
+
+  @Override
+  public Storage<T> applyMask(OrderMask mask) {
+    Context context = Context.getCurrent();
+    int[] positions = mask.getPositions();
+    int[] newIndices = new int[positions.length];
+    for (int i = 0; i < positions.length; i++) {
+      newIndices[i] = positions[i] == Index.NOT_FOUND ? Index.NOT_FOUND : parentIndex(positions[i]);
+      context.safepoint();
+    }
+    return withIndices(newIndices);
+  }
+
+  @Override
+  public Storage<T> countMask(int[] counts, int total) {
+    Context context = Context.getCurrent();
+    int[] newIndices = new int[total];
+    int pos = 0;
+    for (int i = 0; i < counts.length; i++) {
+      int parentIx = parentIndex(i);
+      for (int j = 0; j < counts[i]; j++) {
+        newIndices[pos++] = parentIx;
+      }
+
+      context.safepoint();
+    }
+    return withIndices(newIndices);
+  }
+
+  @Override
+  public Storage<T> slice(int offset, int limit) {
+    int newLength = Math.max(0, Math.min(length - offset, limit));
+    int newOffset = this.offset + offset;
+    if (shouldCreateView(newLength, parent.size())) {
+      return new StorageView<>(parent, indices, newOffset, newLength);
+    } else if (indices == null) {
+      return parent.slice(newOffset, newLength);
+    } else {
+      return parent.applyMask(
+          new OrderMask(Arrays.copyOfRange(indices, newOffset, newOffset + newLength)));
+    }
+  }
+
+  @Override
+  public Storage<T> slice(List<SliceRange> ranges) {
+    Context context = Context.getCurrent();
+    int[] newIndices = new int[SliceRange.totalLength(ranges)];
+    int resIx = 0;
+    for (SliceRange range : ranges) {
+      for (int i = range.start(); i < range.end(); i++) {
+        newIndices[resIx++] = parentIndex(i);
+      }
+
+      context.safepoint();
+    }
+    return withIndices(newIndices);
+  }
+
+  @Override
+  public Storage<?> appendNulls(int count) {
+    return materialize().appendNulls(count);
+  }
+
+  @Override
+  public Builder createDefaultBuilderOfSameType(int capacity) {
+    return parent.createDefaultBuilderOfSameType(capacity);
+  }
+}
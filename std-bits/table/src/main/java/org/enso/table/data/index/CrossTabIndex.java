@@ -2,105 +2,199 @@ package org.enso.table.data.index;
 
 import java.util.*;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.enso.base.text.TextFoldingStrategy;
 import org.enso.table.aggregations.Aggregator;
 import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.storage.Storage;
 import org.enso.table.data.table.Column;
 import org.enso.table.data.table.Table;
+import org.enso.table.data.table.problems.FloatingPointGrouping;
 import org.enso.table.error.TooManyColumnsException;
 import org.enso.table.problems.AggregatedProblems;
+import org.enso.table.util.ConstantList;
 import org.enso.table.util.NameDeduplicator;
 import org.graalvm.polyglot.Context;
 
+/**
+ * An index grouping rows of a table by two sets of key columns, used to build cross-tab tables.
+ *
+ * <p>The distinct x and y keys are numbered in order of their first appearance, in a single pass
+ * over the rows. Only the non-empty cells of the grid are stored: the rows are grouped by cell in
+ * a single array, with the cells ordered by their packed {@code (yId, xId)} coordinates. Memory
+ * usage is thus proportional to the number of rows and non-empty cells, regardless of how sparse
+ * the grid is.
+ */
 public class CrossTabIndex {
   private static final int MAXIMUM_CROSS_TAB_COLUMN_COUNT = 10000;
 
-  private Column[] xColumns;
+  private final Column[] xColumns;
 
-  private Column[] yColumns;
+  private final Column[] yColumns;
 
-  private MultiValueIndex<UnorderedMultiValueKey> combinedIndex;
+  /** The distinct x keys, indexed by their ids. */
+  private final List<UnorderedMultiValueKey> xKeys = new ArrayList<>();
 
-  private ObjectNumberer<UnorderedMultiValueKey> xKeyNumberer;
+  /** The distinct y keys, indexed by their ids. */
+  private final List<UnorderedMultiValueKey> yKeys = new ArrayList<>();
 
-  private ObjectNumberer<UnorderedMultiValueKey> yKeyNumberer;
+  /** The packed coordinates of the non-empty cells, in ascending order. */
+  private long[] cellCoordinates;
 
-  private UnorderedMultiValueKey[][] grid;
+  /**
+   * The start offsets of the rows of each cell in {@code cellRows}, with an additional entry at the
+   * end, so that the rows of cell {@code i} are between {@code cellStarts[i]} and {@code
+   * cellStarts[i + 1]}.
+   */
+  private int[] cellStarts;
+
+  /** Row indices grouped by cell. Within a cell, the rows are in ascending order. */
+  private int[] cellRows;
+
+  private final AggregatedProblems problems = new AggregatedProblems();
 
   public CrossTabIndex(Column[] xColumns, Column[] yColumns, int tableSize) {
     this.xColumns = xColumns;
     this.yColumns = yColumns;
 
-    // Create combined index
-    Column combinedColumns[] =
-        Stream.concat(Arrays.stream(xColumns), Arrays.stream(yColumns)).toArray(Column[]::new);
-    combinedIndex =
-        MultiValueIndex.makeUnorderedIndex(
-            combinedColumns, tableSize, TextFoldingStrategy.unicodeNormalizedFold);
-
-    // Generate lists of combined keys and subkeys
-    List<UnorderedMultiValueKey> combinedKeys = new ArrayList<>(combinedIndex.keys());
-    List<UnorderedMultiValueKey> xSubKeys = new ArrayList<>(combinedKeys.size());
-    List<UnorderedMultiValueKey> ySubKeys = new ArrayList<>(combinedKeys.size());
-    int[] xColumnIndices = IntStream.range(0, xColumns.length).toArray();
-    int[] yColumnIndices =
-        IntStream.range(xColumns.length, xColumns.length + yColumns.length).toArray();
-    for (var key : combinedKeys) {
-      xSubKeys.add(key.subKey(xColumnIndices));
-      ySubKeys.add(key.subKey(yColumnIndices));
-    }
-
-    // Fill numberings
-    xKeyNumberer = new ObjectNumberer<>(xSubKeys);
-    yKeyNumberer = new ObjectNumberer<>(ySubKeys);
+    int size = xColumns.length > 0 ? xColumns[0].getSize() : tableSize;
+    int[] rowXIds = new int[size];
+    int[] rowYIds = new int[size];
+    numberKeys(xColumns, size, xKeys, rowXIds);
+    numberKeys(yColumns, size, yKeys, rowYIds);
+    groupRowsByCell(rowXIds, rowYIds);
+  }
 
-    // Create grid of cells, mapping x and y key indices to combined keys.
-    grid = new UnorderedMultiValueKey[xKeysCount()][yKeysCount()];
+  /** Packs the cell coordinates, so that ordering the packed values orders by y first. */
+  private static long packCoordinates(int xId, int yId) {
+    return ((long) yId << 32) | (xId & 0xFFFFFFFFL);
+  }
 
-    // For each combined key, use the two subkeys to determine row+col
-    // coordinates, and put the key at those coordinates.
-    for (int i = 0; i < combinedIndex.size(); ++i) {
-      UnorderedMultiValueKey combinedKey = combinedKeys.get(i);
-      int xCoordinate = getXCoordinate(xSubKeys.get(i));
-      int yCoordinate = getYCoordinate(ySubKeys.get(i));
+  /**
+   * Assigns ids to the distinct keys of the given columns, in order of their first appearance.
+   *
+   * <p>Only the first key of each group is retained.
+   *
+   * @param keyColumns the key columns
+   * @param size the number of rows
+   * @param distinctKeys the list to which the distinct keys are appended, so that each key is
+   *     placed at the position of its id
+   * @param rowIds the array to fill with the key id of each row
+   */
+  private void numberKeys(
+      Column[] keyColumns, int size, List<UnorderedMultiValueKey> distinctKeys, int[] rowIds) {
+    Context context = Context.getCurrent();
+    Storage<?>[] storages =
+        Arrays.stream(keyColumns).map(Column::getStorage).toArray(Storage[]::new);
+    List<TextFoldingStrategy> strategies =
+        ConstantList.make(TextFoldingStrategy.unicodeNormalizedFold, storages.length);
+    Map<UnorderedMultiValueKey, Integer> numbering = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      UnorderedMultiValueKey key = new UnorderedMultiValueKey(storages, i, strategies);
+
+      if (key.hasFloatValues()) {
+        final int row = i;
+        key.floatColumnPositions()
+            .forEach(
+                columnIx ->
+                    problems.add(new FloatingPointGrouping(keyColumns[columnIx].getName(), row)));
+      }
 
-      // The pair (xCoordinate, yCoordinate) must be unique so this
-      // check is not really necessary.
-      if (grid[xCoordinate][yCoordinate] != null) {
-        throw new IllegalStateException("Internal error: makeCrossTabTable coordinate conflict");
+      Integer id = numbering.putIfAbsent(key, distinctKeys.size());
+      if (id == null) {
+        rowIds[i] = distinctKeys.size();
+        distinctKeys.add(key);
+      } else {
+        rowIds[i] = id;
       }
 
-      grid[xCoordinate][yCoordinate] = combinedKey;
+      context.safepoint();
     }
   }
 
-  public List<Integer> get(UnorderedMultiValueKey xKey, UnorderedMultiValueKey yKey) {
-    return combinedIndex.get(grid[getXCoordinate(xKey)][getYCoordinate(yKey)]);
-  }
+  /**
+   * Groups the rows by their cells, using a counting sort by the y ids followed by bucketing each
+   * y group by the x ids. Only the x ids actually occurring in a y group are visited, so the
+   * grouping takes time proportional to the number of rows and non-empty cells.
+   */
+  private void groupRowsByCell(int[] rowXIds, int[] rowYIds) {
+    Context context = Context.getCurrent();
+    int size = rowXIds.length;
 
-  public Set<UnorderedMultiValueKey> getXKeys() {
-    return xKeyNumberer.getObjects();
-  }
+    int[] yStarts = new int[yKeysCount() + 1];
+    for (int i = 0; i < size; i++) {
+      yStarts[rowYIds[i] + 1]++;
+    }
+    for (int y = 0; y < yKeysCount(); y++) {
+      yStarts[y + 1] += yStarts[y];
+    }
 
-  public Set<UnorderedMultiValueKey> getYKeys() {
-    return yKeyNumberer.getObjects();
-  }
+    int[] rowsByY = new int[size];
+    int[] yPositions = Arrays.copyOf(yStarts, yKeysCount());
+    for (int i = 0; i < size; i++) {
+      rowsByY[yPositions[rowYIds[i]]++] = i;
+      context.safepoint();
+    }
 
-  public int getXCoordinate(UnorderedMultiValueKey key) {
-    return xKeyNumberer.getNumber(key);
-  }
+    cellRows = new int[size];
+    long[] coordinates = new long[Math.min(size, 16)];
+    int[] starts = new int[Math.min(size, 16) + 1];
+    int cellCount = 0;
+
+    // Per x id counts and positions, reset after each y group for the x ids that were used.
+    int[] xCounts = new int[xKeysCount()];
+    int[] usedXIds = new int[xKeysCount()];
+    for (int y = 0; y < yKeysCount(); y++) {
+      int usedCount = 0;
+      for (int j = yStarts[y]; j < yStarts[y + 1]; j++) {
+        int xId = rowXIds[rowsByY[j]];
+        if (xCounts[xId]++ == 0) {
+          usedXIds[usedCount++] = xId;
+        }
+      }
+
+      Arrays.sort(usedXIds, 0, usedCount);
+      if (cellCount + usedCount >= coordinates.length) {
+        int newLength = Math.max(coordinates.length * 2, cellCount + usedCount + 1);
+        coordinates = Arrays.copyOf(coordinates, newLength);
+        starts = Arrays.copyOf(starts, newLength + 1);
+      }
 
-  public int getYCoordinate(UnorderedMultiValueKey key) {
-    return yKeyNumberer.getNumber(key);
+      int position = yStarts[y];
+      for (int k = 0; k < usedCount; k++) {
+        int xId = usedXIds[k];
+        coordinates[cellCount] = packCoordinates(xId, y);
+        starts[cellCount] = position;
+        cellCount++;
+
+        int count = xCounts[xId];
+        // Reuse the counts array to hold the next free position of the cell.
+        xCounts[xId] = position;
+        position += count;
+      }
+
+      for (int j = yStarts[y]; j < yStarts[y + 1]; j++) {
+        int row = rowsByY[j];
+        cellRows[xCounts[rowXIds[row]]++] = row;
+      }
+
+      for (int k = 0; k < usedCount; k++) {
+        xCounts[usedXIds[k]] = 0;
+      }
+
+      context.safepoint();
+    }
+
+    starts[cellCount] = size;
+    cellCoordinates = Arrays.copyOf(coordinates, cellCount);
+    cellStarts = Arrays.copyOf(starts, cellCount + 1);
   }
 
   public int xKeysCount() {
-    return xKeyNumberer.size();
+    return xKeys.size();
   }
 
   public int yKeysCount() {
-    return yKeyNumberer.size();
+    return yKeys.size();
   }
 
   public Table makeCrossTabTable(Aggregator[] aggregates, String[] aggregateNames) {
@@ -134,8 +228,13 @@ public class CrossTabIndex {
       }
     }
 
-    // Fill the columns.
-    for (UnorderedMultiValueKey ySubKey : getYKeys()) {
+    // The aggregates of empty cells are computed once and reused.
+    Object[] emptyCellValues = null;
+
+    // Fill the columns. The cells are ordered by y and then x, so a single cursor walks them.
+    int cell = 0;
+    for (int y = 0; y < yKeysCount(); y++) {
+      UnorderedMultiValueKey ySubKey = yKeys.get(y);
 
       // Fill the y key columns.
       IntStream.range(0, yColumns.length).forEach(i -> storage[i].appendNoGrow(ySubKey.get(i)));
@@ -143,14 +242,24 @@ public class CrossTabIndex {
       int offset = yColumns.length;
 
       // Fill the aggregate columns.
-      for (UnorderedMultiValueKey xSubKey : getXKeys()) {
-        List<Integer> rowIds = get(xSubKey, ySubKey);
-        if (rowIds == null) {
-          rowIds = List.of();
-        }
-
-        for (int i = 0; i < aggregates.length; i++) {
-          storage[offset + i].appendNoGrow(aggregates[i].aggregate(rowIds));
+      for (int x = 0; x < xKeysCount(); x++) {
+        if (cell < cellCoordinates.length && cellCoordinates[cell] == packCoordinates(x, y)) {
+          List<Integer> rowIds = new RowSlice(cellRows, cellStarts[cell], cellStarts[cell + 1]);
+          for (int i = 0; i < aggregates.length; i++) {
+            storage[offset + i].appendNoGrow(aggregates[i].aggregate(rowIds));
+          }
+          cell++;
+        } else {
+          if (emptyCellValues == null) {
+            emptyCellValues = new Object[aggregates.length];
+            for (int i = 0; i < aggregates.length; i++) {
+              emptyCellValues[i] = aggregates[i].aggregate(List.of());
+            }
+          }
+
+          for (int i = 0; i < aggregates.length; i++) {
+            storage[offset + i].appendNoGrow(emptyCellValues[i]);
+          }
         }
 
         offset += aggregates.length;
@@ -167,7 +276,7 @@ public class CrossTabIndex {
     }
 
     int offset = yColumns.length;
-    for (UnorderedMultiValueKey xSubKey : getXKeys()) {
+    for (UnorderedMultiValueKey xSubKey : xKeys) {
       // Use the nameColumn value as the new column name
       Object boxed = xSubKey.get(0);
       String name = boxed == null ? null : boxed.toString();
@@ -200,7 +309,7 @@ public class CrossTabIndex {
 
     // Merge Problems
     AggregatedProblems[] problems = new AggregatedProblems[aggregates.length + 2];
-    problems[0] = combinedIndex.getProblems();
+    problems[0] = this.problems;
     problems[1] = AggregatedProblems.of(outputTableNameDeduplicator.getProblems());
     for (int i = 0; i < aggregates.length; i++) {
       problems[i + 2] = aggregates[i].getProblems();
@@ -210,4 +319,33 @@ public class CrossTabIndex {
 
     return new Table(output, merged);
   }
+
+  /**
+   * A read-only view of a range of the row array, passed to the aggregators without copying the
+   * row indices into a list of boxed values.
+   */
+  private static final class RowSlice extends AbstractList<Integer> implements RandomAccess {
+    private final int[] rows;
+    private final int start;
+    private final int end;
+
+    RowSlice(int[] rows, int start, int end) {
+      this.rows = rows;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Integer get(int index) {
+      if (index < 0 || index >= end - start) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return rows[start + index];
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+  }
 }
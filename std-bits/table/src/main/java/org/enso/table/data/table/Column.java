@@ -6,6 +6,7 @@ import org.enso.table.data.column.builder.Builder;
 import org.enso.table.data.column.builder.InferredBuilder;
 import org.enso.table.data.column.storage.BoolStorage;
 import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.StorageView;
 import org.enso.table.data.column.storage.type.StorageType;
 import org.enso.table.data.index.DefaultIndex;
 import org.enso.table.data.index.Index;
@@ -24,7 +25,11 @@ import java.util.List;
 /** A representation of a column. Consists of a column name and the underlying storage. */
 public class Column {
   private final String name;
-  private final Storage<?> storage;
+  /**
+   * The storage of this column. A {@link StorageView} is replaced with its materialized copy once
+   * the storage is requested, so that the column does not keep both the view parent and the copy.
+   */
+  private volatile Storage<?> storage;
 
   /**
    * Creates a new column.
@@ -69,14 +74,28 @@ public class Column {
     return name;
   }
 
-  /** @return the underlying storage */
+  /**
+   * Returns the underlying storage.
+   *
+   * <p>If the column holds a {@link StorageView}, its materialized copy is returned instead, so that
+   * the returned storage can be safely used by operations relying on specific storage
+   * implementations. The column then holds the copy in place of the view, releasing the parent of
+   * the view; further operations on the column work on the copy.
+   *
+   * @return the underlying storage
+   */
   public Storage<?> getStorage() {
-    return storage;
+    Storage<?> current = storage;
+    if (current instanceof StorageView<?> view) {
+      current = view.materialize();
+      storage = current;
+    }
+    return current;
   }
 
   /** @return the number of items in this column. */
   public int getSize() {
-    return getStorage().size();
+    return storage.size();
   }
 
   /**
@@ -87,7 +106,7 @@ public class Column {
    * @return a new column, masked with the given mask
    */
   public Column mask(BitSet mask, int cardinality) {
-    return new Column(name, storage.mask(mask, cardinality));
+    return new Column(name, StorageView.mask(storage, mask, cardinality));
   }
 
   /**
@@ -98,13 +117,13 @@ public class Column {
    * @return the result of masking this column with the provided column
    */
   public Column mask(Column maskCol) {
-    if (!(maskCol.getStorage() instanceof BoolStorage boolStorage)) {
+    if (!(maskCol.getStorage().tryGettingMoreSpecializedStorage() instanceof BoolStorage boolStorage)) {
       throw new UnexpectedColumnTypeException("Boolean");
     }
 
     var mask = BoolStorage.toMask(boolStorage);
     var localStorageMask = new BitSet();
-    localStorageMask.set(0, getStorage().size());
+    localStorageMask.set(0, getSize());
     mask.and(localStorageMask);
     int cardinality = mask.cardinality();
     return mask(mask, cardinality);
@@ -212,18 +231,18 @@ public class Column {
    * @return a new column, resulting from reordering this column according to {@code mask}.
    */
   public Column applyMask(OrderMask mask) {
-    Storage<?> newStorage = storage.applyMask(mask);
+    Storage<?> newStorage = StorageView.applyMask(storage, mask);
     return new Column(name, newStorage);
   }
 
   /** @return a copy of the Column containing a slice of the original data */
   public Column slice(int offset, int limit) {
-    return new Column(name, storage.slice(offset, limit));
+    return new Column(name, StorageView.slice(storage, offset, limit));
   }
 
   /** @return a copy of the Column consisting of slices of the original data */
   public Column slice(List<SliceRange> ranges) {
-    return new Column(name, storage.slice(ranges));
+    return new Column(name, StorageView.slice(storage, ranges));
   }
 
   /** @return a column counting value repetitions in this column. */
@@ -7,7 +7,9 @@ import org.enso.table.data.column.builder.Builder;
 import org.enso.table.data.column.builder.InferredBuilder;
 import org.enso.table.data.column.builder.StringBuilder;
 import org.enso.table.data.column.storage.BoolStorage;
+import org.enso.table.data.column.storage.ChunkedStorage;
 import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.StorageView;
 import org.enso.table.data.column.storage.type.TextType;
 import org.enso.table.data.index.DefaultIndex;
 import org.enso.table.data.index.Index;
@@ -114,7 +116,7 @@ public class Table {
    * @return the result of masking this table with the provided column
    */
   public Table mask(Column maskCol) {
-    if (!(maskCol.getStorage() instanceof BoolStorage storage)) {
+    if (!(maskCol.getStorage().tryGettingMoreSpecializedStorage() instanceof BoolStorage storage)) {
       throw new UnexpectedColumnTypeException("Boolean");
     }
 
@@ -124,8 +126,16 @@ public class Table {
     mask.and(localStorageMask);
     int cardinality = mask.cardinality();
     Column[] newColumns = new Column[columns.length];
-    for (int i = 0; i < columns.length; i++) {
-      newColumns[i] = columns[i].mask(mask, cardinality);
+    if (StorageView.shouldCreateView(cardinality, rowCount())) {
+      // The selected rows are computed once, and shared by the views of all columns.
+      OrderMask selection = new OrderMask(StorageView.selectedIndices(mask, cardinality));
+      for (int i = 0; i < columns.length; i++) {
+        newColumns[i] = columns[i].applyMask(selection);
+      }
+    } else {
+      for (int i = 0; i < columns.length; i++) {
+        newColumns[i] = columns[i].mask(mask, cardinality);
+      }
     }
     return new Table(newColumns, null);
   }
@@ -401,26 +411,10 @@ public class Table {
    */
   public Table applyMask(OrderMask orderMask) {
     Column[] newColumns =
-        Arrays.stream(columns)
-            .map(
-                column -> {
-                  Storage<?> newStorage = column.getStorage().applyMask(orderMask);
-                  return new Column(column.getName(), newStorage);
-                })
-            .toArray(Column[]::new);
+        Arrays.stream(columns).map(column -> column.applyMask(orderMask)).toArray(Column[]::new);
     return new Table(newColumns, null);
   }
 
-  private static class NamedBuilder {
-    private final String name;
-    private final InferredBuilder builder;
-
-    private NamedBuilder(String name, int size) {
-      this.name = name;
-      this.builder = new InferredBuilder(size);
-    }
-  }
-
 
   /**
    * Transpose tables.
@@ -488,48 +482,80 @@ public class Table {
    */
   public static Table concat(List<Table> tables) {
     Context context = Context.getCurrent();
-    int resultSize = tables.stream().mapToInt(Table::rowCount).sum();
-
-    List<NamedBuilder> builders = new ArrayList<>();
-    int completedRows = 0;
+    List<String> names = new ArrayList<>();
     for (var table : tables) {
       for (var column : table.getColumns()) {
-        var matchingBuilder =
-            builders.stream().filter(bldr -> Text_Utils.equals(bldr.name, column.getName())).findFirst();
-        NamedBuilder builder;
-        if (matchingBuilder.isPresent()) {
-          builder = matchingBuilder.get();
-        } else {
-          builder = new NamedBuilder(column.getName(), resultSize);
-          builders.add(builder);
-          builder.builder.appendNulls(completedRows);
-        }
-        var storage = column.getStorage();
-        for (int i = 0; i < storage.size(); i++) {
-          builder.builder.appendNoGrow(storage.getItemBoxed(i));
-          context.safepoint();
+        if (names.stream().noneMatch(name -> Text_Utils.equals(name, column.getName()))) {
+          names.add(column.getName());
         }
+      }
+    }
 
+    Column[] newColumns = new Column[names.size()];
+    for (int i = 0; i < names.size(); i++) {
+      String name = names.get(i);
+      List<Storage<?>> parts = new ArrayList<>(tables.size());
+      for (var table : tables) {
+        var column = Arrays.stream(table.getColumns()).filter(col -> Text_Utils.equals(col.getName(), name)).findFirst();
+        parts.add(column.map(Column::getStorage).orElse(null));
         context.safepoint();
       }
-      for (var builder : builders) {
-        var columnExists =
-            Arrays.stream(table.getColumns()).anyMatch(col -> Text_Utils.equals(col.getName(), builder.name));
-        if (!columnExists) {
-          builder.builder.appendNulls(table.rowCount());
+
+      newColumns[i] = new Column(name, concatStorages(tables, parts));
+    }
+
+    return new Table(newColumns, null);
+  }
+
+  /**
+   * Concatenates storages of a single column coming from multiple tables.
+   *
+   * <p>If all storages have the same type, the result is a {@link ChunkedStorage} referencing them
+   * without copying. Otherwise, the values are copied into an {@link InferredBuilder}, which finds
+   * a common type.
+   *
+   * @param tables the tables being concatenated
+   * @param parts the storages of the column in each of the tables, {@code null} if a table does not
+   *     contain that column
+   */
+  private static Storage<?> concatStorages(List<Table> tables, List<Storage<?>> parts) {
+    Storage<?> first = parts.stream().filter(Objects::nonNull).findFirst().orElseThrow();
+    boolean sameType = parts.stream().allMatch(part -> part == null || Objects.equals(part.getType(), first.getType()));
+    if (sameType) {
+      List<Storage<Object>> chunks = new ArrayList<>(parts.size());
+      for (int i = 0; i < parts.size(); i++) {
+        Storage<?> part = parts.get(i);
+        if (part == null) {
+          Builder nullsBuilder = first.createDefaultBuilderOfSameType(tables.get(i).rowCount());
+          nullsBuilder.appendNulls(tables.get(i).rowCount());
+          part = nullsBuilder.seal();
         }
 
-        context.safepoint();
+        // The parts all share the same storage type, so their elements are of the same type.
+        @SuppressWarnings("unchecked")
+        Storage<Object> chunk = (Storage<Object>) part;
+        chunks.add(chunk);
       }
-      completedRows += table.rowCount();
+      return ChunkedStorage.concat(chunks);
     }
 
-    Column[] newColumns =
-        builders.stream()
-            .map(builder -> new Column(builder.name, builder.builder.seal()))
-            .toArray(Column[]::new);
-    return new Table(newColumns, null);
+    Context context = Context.getCurrent();
+    int resultSize = tables.stream().mapToInt(Table::rowCount).sum();
+    Builder builder = new InferredBuilder(resultSize);
+    for (int i = 0; i < parts.size(); i++) {
+      Storage<?> part = parts.get(i);
+      if (part == null) {
+        builder.appendNulls(tables.get(i).rowCount());
+      } else {
+        for (int j = 0; j < part.size(); j++) {
+          builder.appendNoGrow(part.getItemBoxed(j));
+          context.safepoint();
+        }
+      }
+    }
+    return builder.seal();
   }
+
   /** @return a copy of the Table containing a slice of the original data */
   public Table slice(int offset, int limit) {
     Column[] newColumns = new Column[columns.length];
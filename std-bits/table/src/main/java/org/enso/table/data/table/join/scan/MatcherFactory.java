@@ -102,13 +102,13 @@ public class MatcherFactory {
     private final Locale locale;
 
     public EqualsIgnoreCaseMatcher(EqualsIgnoreCase eq) {
-      if (eq.left().getStorage() instanceof StringStorage leftStrings) {
+      if (eq.left().getStorage().tryGettingMoreSpecializedStorage() instanceof StringStorage leftStrings) {
         leftStorage = leftStrings;
       } else {
         throw new IllegalArgumentException("Expected left column to have type Text.");
       }
 
-      if (eq.right().getStorage() instanceof StringStorage rightStrings) {
+      if (eq.right().getStorage().tryGettingMoreSpecializedStorage() instanceof StringStorage rightStrings) {
         rightStorage = rightStrings;
       } else {
         throw new IllegalArgumentException("Expected right column to have type Text.");
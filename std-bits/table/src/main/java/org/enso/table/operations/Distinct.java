@@ -6,12 +6,16 @@ import java.util.HashSet;
 import java.util.List;
 import org.enso.base.text.TextFoldingStrategy;
 import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.StringStorage;
+import org.enso.table.data.column.storage.numeric.AbstractLongStorage;
+import org.enso.table.data.column.storage.numeric.DoubleStorage;
 import org.enso.table.data.index.MultiValueKeyBase;
 import org.enso.table.data.index.UnorderedMultiValueKey;
 import org.enso.table.data.table.Column;
 import org.enso.table.data.table.problems.FloatingPointGrouping;
 import org.enso.table.problems.AggregatedProblems;
 import org.enso.table.util.ConstantList;
+import org.enso.table.util.LongHashSet;
 import org.graalvm.polyglot.Context;
 
 public class Distinct {
@@ -21,35 +25,145 @@ public class Distinct {
       Column[] keyColumns,
       TextFoldingStrategy textFoldingStrategy,
       AggregatedProblems problems) {
+    if (keyColumns.length == 0) {
+      // If there are no columns to distinct-by we just return the whole table.
+      var mask = new BitSet();
+      mask.set(0, tableSize);
+      return mask;
+    }
+
+    if (keyColumns.length == 1) {
+      Column column = keyColumns[0];
+      Storage<?> storage = column.getStorage().tryGettingMoreSpecializedStorage();
+      if (storage instanceof AbstractLongStorage longStorage) {
+        return distinctLongs(longStorage);
+      } else if (storage instanceof DoubleStorage doubleStorage) {
+        return distinctDoubles(doubleStorage, column.getName(), problems);
+      } else if (storage instanceof StringStorage stringStorage) {
+        return distinctStrings(stringStorage, textFoldingStrategy);
+      }
+    }
+
+    return distinctMultiValueKeys(keyColumns, textFoldingStrategy, problems);
+  }
+
+  private static BitSet distinctMultiValueKeys(
+      Column[] keyColumns, TextFoldingStrategy textFoldingStrategy, AggregatedProblems problems) {
     Context context = Context.getCurrent();
     var mask = new BitSet();
-    if (keyColumns.length != 0) {
-      HashSet<MultiValueKeyBase> visitedRows = new HashSet<>();
-      int size = keyColumns[0].getSize();
-      Storage<?>[] storage =
-          Arrays.stream(keyColumns).map(Column::getStorage).toArray(Storage[]::new);
-      List<TextFoldingStrategy> strategies = ConstantList.make(textFoldingStrategy, storage.length);
-      for (int i = 0; i < size; i++) {
-        UnorderedMultiValueKey key = new UnorderedMultiValueKey(storage, i, strategies);
-
-        if (key.hasFloatValues()) {
-          final int row = i;
-          key.floatColumnPositions()
-              .forEach(
-                  columnIx ->
-                      problems.add(new FloatingPointGrouping(keyColumns[columnIx].getName(), row)));
+    HashSet<MultiValueKeyBase> visitedRows = new HashSet<>();
+    int size = keyColumns[0].getSize();
+    Storage<?>[] storage =
+        Arrays.stream(keyColumns).map(Column::getStorage).toArray(Storage[]::new);
+    List<TextFoldingStrategy> strategies = ConstantList.make(textFoldingStrategy, storage.length);
+    for (int i = 0; i < size; i++) {
+      UnorderedMultiValueKey key = new UnorderedMultiValueKey(storage, i, strategies);
+
+      if (key.hasFloatValues()) {
+        final int row = i;
+        key.floatColumnPositions()
+            .forEach(
+                columnIx ->
+                    problems.add(new FloatingPointGrouping(keyColumns[columnIx].getName(), row)));
+      }
+
+      if (visitedRows.add(key)) {
+        mask.set(i);
+      }
+
+      context.safepoint();
+    }
+
+    return mask;
+  }
+
+  /**
+   * Distinct over a single integer column, keeping the raw values in a primitive set so that no
+   * objects are allocated per row.
+   */
+  private static BitSet distinctLongs(AbstractLongStorage storage) {
+    Context context = Context.getCurrent();
+    var mask = new BitSet();
+    LongHashSet visited = new LongHashSet();
+    boolean visitedNothing = false;
+    int size = storage.size();
+    for (int i = 0; i < size; i++) {
+      if (storage.isNa(i)) {
+        if (!visitedNothing) {
+          visitedNothing = true;
+          mask.set(i);
         }
+      } else if (visited.add(storage.getItem(i))) {
+        mask.set(i);
+      }
 
-        if (!visitedRows.contains(key)) {
+      context.safepoint();
+    }
+
+    return mask;
+  }
+
+  /**
+   * Distinct over a single floating point column, keeping the raw values in primitive sets.
+   *
+   * <p>It follows the folding of {@link org.enso.base.polyglot.EnsoObjectWrapper#foldObject}: whole
+   * numbers are compared as their {@code long} value and other values by their bit representation.
+   */
+  private static BitSet distinctDoubles(
+      DoubleStorage storage, String columnName, AggregatedProblems problems) {
+    Context context = Context.getCurrent();
+    var mask = new BitSet();
+    LongHashSet visitedWholeNumbers = new LongHashSet();
+    LongHashSet visitedFractions = new LongHashSet();
+    boolean visitedNothing = false;
+    int size = storage.size();
+    for (int i = 0; i < size; i++) {
+      if (storage.isNa(i)) {
+        if (!visitedNothing) {
+          visitedNothing = true;
+          mask.set(i);
+        }
+      } else {
+        problems.add(new FloatingPointGrouping(columnName, i));
+        double value = storage.getItem(i);
+        boolean isNew =
+            value % 1 == 0
+                ? visitedWholeNumbers.add((long) value)
+                : visitedFractions.add(Double.doubleToLongBits(value));
+        if (isNew) {
           mask.set(i);
-          visitedRows.add(key);
         }
+      }
+
+      context.safepoint();
+    }
+
+    return mask;
+  }
 
-        context.safepoint();
+  /**
+   * Distinct over a single text column. Only the folded representatives of distinct values are
+   * retained, and each value is hashed once.
+   */
+  private static BitSet distinctStrings(
+      StringStorage storage, TextFoldingStrategy textFoldingStrategy) {
+    Context context = Context.getCurrent();
+    var mask = new BitSet();
+    HashSet<String> visited = new HashSet<>();
+    boolean visitedNothing = false;
+    int size = storage.size();
+    for (int i = 0; i < size; i++) {
+      String value = storage.getItem(i);
+      if (value == null) {
+        if (!visitedNothing) {
+          visitedNothing = true;
+          mask.set(i);
+        }
+      } else if (visited.add(textFoldingStrategy.fold(value))) {
+        mask.set(i);
       }
-    } else {
-      // If there are no columns to distinct-by we just return the whole table.
-      mask.set(0, tableSize);
+
+      context.safepoint();
     }
 
     return mask;
@@ -0,0 +1,171 @@
+package org.enso.table.read;
+
+import org.enso.base.json.JsonParseException;
+import org.enso.base.json.JsonParser;
+import org.enso.base.json.JsonReader;
+import org.enso.base.json.JsonToken;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.builder.InferredBuilder;
+import org.enso.table.data.table.Column;
+import org.enso.table.data.table.Table;
+import org.enso.table.error.EmptyFileException;
+import org.enso.table.problems.AggregatedProblems;
+import org.enso.table.problems.WithAggregatedProblems;
+import org.graalvm.polyglot.Context;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A helper for reading a sequence of JSON records into a Table in a single streaming pass.
+ * <p>
+ * The input is either a JSON array of records or a sequence of records separated by whitespace, such as a JSON Lines
+ * file. It is considered an array if its first token opens one. Every member of an object record is appended to the
+ * column of its name, created on its first occurrence and padded with nulls for the preceding rows. Any other record
+ * is put in a column called {@code Value}. The types of the columns are inferred as the values are appended.
+ * <p>
+ * Nested objects and arrays are stored as parsed by {@link JsonParser}. Only the columns built so far and the current
+ * record are kept in memory.
+ */
+public class JsonRecordReader {
+  private static final String VALUE_COLUMN_NAME = "Value";
+  private static final int INITIAL_COLUMN_SIZE = 128;
+
+  /** Marks the columns that do not occur in the current record. */
+  private static final Object MISSING = new Object();
+
+  private final boolean restrictToFields;
+  private final Map<String, Integer> columnIndices = new HashMap<>();
+  private final List<String> columnNames = new ArrayList<>();
+  private final List<Builder> builders = new ArrayList<>();
+  private Object[] currentRow = new Object[16];
+  private int rowCount = 0;
+
+  /**
+   * Creates a new reader.
+   *
+   * @param fields the names of the columns to read, in order, or {@code null} to read all the members of the records
+   *     in the order of their first occurrence
+   */
+  public JsonRecordReader(List<String> fields) {
+    restrictToFields = fields != null;
+    if (restrictToFields) {
+      for (String field : fields) {
+        columnIndexFor(field, true);
+      }
+    }
+  }
+
+  /**
+   * Reads the input and returns a Table.
+   * <p>
+   * It should only be called once. The input is not closed.
+   *
+   * @throws JsonParseException if the input is not a valid sequence of JSON values
+   * @throws EmptyFileException if no column could be created
+   */
+  public WithAggregatedProblems<Table> read(Reader input) throws IOException {
+    Context context = Context.getCurrent();
+    JsonReader reader = new JsonReader(input, true);
+    JsonToken token = reader.next();
+    if (token == JsonToken.START_ARRAY) {
+      for (token = reader.next(); token != JsonToken.END_ARRAY; token = reader.next()) {
+        readRecord(reader, token);
+        context.safepoint();
+      }
+      if (reader.next() != JsonToken.END_DOCUMENT) {
+        throw new JsonParseException(
+            "JSON cannot be fully parsed at position " + reader.position(), reader.position());
+      }
+    } else {
+      for (; token != JsonToken.END_DOCUMENT; token = reader.next()) {
+        readRecord(reader, token);
+        context.safepoint();
+      }
+    }
+
+    if (builders.isEmpty()) {
+      throw new EmptyFileException();
+    }
+
+    Column[] columns = new Column[builders.size()];
+    AggregatedProblems[] problems = new AggregatedProblems[builders.size()];
+    for (int i = 0; i < builders.size(); i++) {
+      Builder builder = builders.get(i);
+      columns[i] = new Column(columnNames.get(i), builder.seal());
+      problems[i] = builder.getProblems();
+      context.safepoint();
+    }
+    return new WithAggregatedProblems<>(new Table(columns), AggregatedProblems.merge(problems));
+  }
+
+  private void readRecord(JsonReader reader, JsonToken first) throws IOException {
+    Arrays.fill(currentRow, 0, builders.size(), MISSING);
+    if (first == JsonToken.START_OBJECT) {
+      for (JsonToken token = reader.next(); token == JsonToken.NAME; token = reader.next()) {
+        int index = columnIndexFor(reader.stringValue(), !restrictToFields);
+        if (index < 0) {
+          reader.skipValue();
+        } else {
+          // A repeated member replaces the earlier value, as when parsing the record on its own.
+          currentRow[index] = readCellValue(reader, reader.next());
+        }
+      }
+    } else {
+      int index = columnIndexFor(VALUE_COLUMN_NAME, !restrictToFields);
+      if (index < 0) {
+        JsonParser.readValue(reader, first);
+      } else {
+        currentRow[index] = readCellValue(reader, first);
+      }
+    }
+
+    for (int i = 0; i < builders.size(); i++) {
+      Object value = currentRow[i];
+      builders.get(i).append(value == MISSING ? null : value);
+    }
+    rowCount++;
+  }
+
+  private static Object readCellValue(JsonReader reader, JsonToken token) throws IOException {
+    return switch (token) {
+      case STRING -> reader.stringValue();
+      case NUMBER -> reader.numberValue();
+      case BOOLEAN -> reader.booleanValue();
+      case NULL -> null;
+      default -> JsonParser.readValue(reader, token);
+    };
+  }
+
+  /**
+   * Finds the column of the given name, creating it if allowed.
+   *
+   * @return the index of the column, or -1 if there is no such column and it could not be created
+   */
+  private int columnIndexFor(String name, boolean create) {
+    Integer existing = columnIndices.get(name);
+    if (existing != null) {
+      return existing;
+    } else if (!create) {
+      return -1;
+    }
+
+    Column.ensureNameIsValid(name);
+    int index = builders.size();
+    Builder builder = new InferredBuilder(Math.max(INITIAL_COLUMN_SIZE, rowCount));
+    builder.appendNulls(rowCount);
+    builders.add(builder);
+    columnNames.add(name);
+    columnIndices.put(name, index);
+    if (index == currentRow.length) {
+      currentRow = Arrays.copyOf(currentRow, index * 2);
+    }
+    currentRow[index] = MISSING;
+    return index;
+  }
+}
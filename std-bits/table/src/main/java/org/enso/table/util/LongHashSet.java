@@ -0,0 +1,121 @@
+package org.enso.table.util;
+
+/**
+ * A set of primitive {@code long} values, backed by an open-addressing hash table with linear
+ * probing.
+ *
+ * <p>Unlike {@code HashSet<Long>}, it does not allocate any objects per element, so it can be used
+ * to deduplicate very large columns.
+ */
+public final class LongHashSet {
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** The value marking unused slots; membership of this value is tracked separately. */
+  private static final long EMPTY = 0L;
+
+  private long[] slots;
+  private int mask;
+  private int size = 0;
+  private boolean containsEmptyMarker = false;
+
+  public LongHashSet() {
+    this(INITIAL_CAPACITY);
+  }
+
+  /** Creates a set that can hold {@code expectedSize} elements without resizing. */
+  public LongHashSet(int expectedSize) {
+    int capacity = tableSizeFor(expectedSize);
+    slots = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Adds the value to the set.
+   *
+   * @return {@code true} if the value was not present in the set before
+   */
+  public boolean add(long value) {
+    if (value == EMPTY) {
+      if (containsEmptyMarker) {
+        return false;
+      }
+
+      containsEmptyMarker = true;
+      size++;
+      return true;
+    }
+
+    int ix = slotIndex(value);
+    while (true) {
+      long current = slots[ix];
+      if (current == EMPTY) {
+        slots[ix] = value;
+        size++;
+        if (2 * size > slots.length) {
+          grow();
+        }
+        return true;
+      } else if (current == value) {
+        return false;
+      }
+
+      ix = (ix + 1) & mask;
+    }
+  }
+
+  /** Checks if the value is present in the set. */
+  public boolean contains(long value) {
+    if (value == EMPTY) {
+      return containsEmptyMarker;
+    }
+
+    int ix = slotIndex(value);
+    while (true) {
+      long current = slots[ix];
+      if (current == EMPTY) {
+        return false;
+      } else if (current == value) {
+        return true;
+      }
+
+      ix = (ix + 1) & mask;
+    }
+  }
+
+  /** @return the number of elements in the set */
+  public int size() {
+    return size;
+  }
+
+  private int slotIndex(long value) {
+    // The MurmurHash3 finalizer, spreading consecutive values over the whole table.
+    long h = value;
+    h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+    h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    h = h ^ (h >>> 33);
+    return (int) h & mask;
+  }
+
+  private void grow() {
+    long[] oldSlots = slots;
+    slots = new long[oldSlots.length * 2];
+    mask = slots.length - 1;
+    for (long value : oldSlots) {
+      if (value != EMPTY) {
+        int ix = slotIndex(value);
+        while (slots[ix] != EMPTY) {
+          ix = (ix + 1) & mask;
+        }
+        slots[ix] = value;
+      }
+    }
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    int capacity = INITIAL_CAPACITY;
+    while (capacity < 2L * expectedSize && capacity < (1 << 30)) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+}
@@ -0,0 +1,188 @@
+package org.enso.table.data.column.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.data.column.operation.cast.CastProblemBuilder;
+import org.enso.table.data.column.operation.map.MapOperationProblemBuilder;
+import org.enso.table.data.column.storage.type.AnyObjectType;
+import org.enso.table.data.column.storage.type.FloatType;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.data.index.Index;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.table.problems.ArithmeticError;
+import org.enso.table.problems.Problem;
+import org.enso.table.test.TableTestSupport;
+import org.junit.Test;
+
+public class ChunkedStorageTest extends TableTestSupport {
+  private static List<Object> items(Storage<?> storage) {
+    List<Object> result = new ArrayList<>(storage.size());
+    for (int i = 0; i < storage.size(); i++) {
+      result.add(storage.getItemBoxed(i));
+    }
+    return result;
+  }
+
+  @Test
+  public void concatenationReferencesTheChunks() {
+    var first = longs(1L, 2L, null);
+    var second = longs(4L);
+    var third = longs(5L, 6L);
+    var result = ChunkedStorage.concat(List.of(first, second, third));
+
+    assertTrue(result instanceof ChunkedStorage);
+    var chunked = (ChunkedStorage<Long>) result;
+    assertEquals(3, chunked.getChunks().size());
+    assertSame(first, chunked.getChunks().get(0));
+    assertEquals(6, result.size());
+    assertEquals(1, result.countMissing());
+    assertEquals(Arrays.asList(1L, 2L, null, 4L, 5L, 6L), items(result));
+    assertTrue(result.isNa(2));
+    assertFalse(result.isNa(3));
+    assertEquals(5L, (long) result.getItemBoxed(4));
+  }
+
+  @Test
+  public void concatenationFlattensNestedChunksAndSkipsEmptyOnes() {
+    var inner = ChunkedStorage.concat(List.of(longs(1L), longs(2L)));
+    var result = ChunkedStorage.concat(List.of(inner, longs(), longs(3L)));
+
+    var chunked = (ChunkedStorage<Long>) result;
+    assertEquals(3, chunked.getChunks().size());
+    assertEquals(List.of(1L, 2L, 3L), items(result));
+
+    var single = longs(7L);
+    assertSame(single, ChunkedStorage.concat(List.of(longs(), single)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void concatenationRejectsDifferentTypes() {
+    @SuppressWarnings("unchecked")
+    var integers = (Storage<Object>) (Storage<?>) longs(1L);
+    @SuppressWarnings("unchecked")
+    var decimals = (Storage<Object>) (Storage<?>) doubles(2.0);
+    var mixed = List.of(integers, decimals);
+    ChunkedStorage.concat(mixed);
+  }
+
+  @Test
+  public void chunksAreCompactedPastTheLimit() {
+    List<Storage<Long>> parts = new ArrayList<>();
+    for (long i = 0; i < ChunkedStorage.MAX_CHUNK_COUNT; i++) {
+      parts.add(longs(i));
+    }
+    var atLimit = ChunkedStorage.concat(parts);
+    assertTrue(atLimit instanceof ChunkedStorage);
+
+    parts.add(longs((long) ChunkedStorage.MAX_CHUNK_COUNT));
+    var pastLimit = ChunkedStorage.concat(parts);
+    assertFalse(pastLimit instanceof ChunkedStorage);
+    assertEquals(ChunkedStorage.MAX_CHUNK_COUNT + 1, pastLimit.size());
+    for (int i = 0; i < pastLimit.size(); i++) {
+      assertEquals((long) i, (long) pastLimit.getItemBoxed(i));
+    }
+  }
+
+  @Test
+  public void maskAndSliceCrossChunkBoundaries() {
+    var result =
+        ChunkedStorage.concat(List.of(longs(0L, 1L, 2L), longs(3L, 4L), longs(5L, 6L, 7L)));
+
+    BitSet mask = new BitSet();
+    mask.set(1);
+    mask.set(3);
+    mask.set(4);
+    mask.set(7);
+    assertEquals(List.of(1L, 3L, 4L, 7L), items(result.mask(mask, 4)));
+
+    assertEquals(List.of(2L, 3L, 4L, 5L), items(result.slice(2, 4)));
+    assertEquals(List.of(6L, 7L), items(result.slice(6, 100)));
+  }
+
+  @Test
+  public void castIsAppliedChunkByChunk() {
+    var result = ChunkedStorage.concat(List.of(longs(1L, null), longs(3L)));
+
+    var asFloat = result.cast(FloatType.FLOAT_64, new CastProblemBuilder("x", FloatType.FLOAT_64));
+    assertEquals(FloatType.FLOAT_64, asFloat.getType());
+    assertEquals(Arrays.asList(1.0, null, 3.0), items(asFloat));
+
+    var textProblems = new CastProblemBuilder("x", TextType.VARIABLE_LENGTH);
+    var asText = result.cast(TextType.VARIABLE_LENGTH, textProblems);
+    assertTrue(asText.getType() instanceof TextType);
+    assertEquals("3", asText.getItemBoxed(2));
+  }
+
+  @Test
+  public void vectorizedMapsReportProblemsAtGlobalRows() {
+    var result = ChunkedStorage.concat(List.of(doubles(1.0, 2.0), doubles(3.0)));
+    var problemBuilder = new MapOperationProblemBuilder("x");
+
+    var divided = result.runVectorizedBinaryMap(Storage.Maps.DIV, 0.0, problemBuilder);
+    assertEquals(3, divided.size());
+    assertEquals(Double.POSITIVE_INFINITY, (double) (Double) divided.getItemBoxed(2), 0.0);
+
+    Problem[] problems = problemBuilder.getProblems().getProblems();
+    assertEquals(1, problems.length);
+    assertArrayEquals(new int[] {0, 1, 2}, ((ArithmeticError) problems[0]).getRows());
+  }
+
+  @Test
+  public void reorderingMasksEachChunk() {
+    var result =
+        ChunkedStorage.concat(List.of(longs(0L, 1L, 2L), longs(3L, 4L), longs(5L, 6L, 7L)));
+    int missing = Index.NOT_FOUND;
+
+    var reordered = result.applyMask(new OrderMask(new int[] {missing, 4, 3, missing, 0, 2, 7}));
+    var chunked = (ChunkedStorage<Long>) reordered;
+    assertEquals(3, chunked.getChunks().size());
+    assertEquals(Arrays.asList(null, 4L, 3L, null, 0L, 2L, 7L), items(reordered));
+    assertEquals(2, reordered.countMissing());
+
+    var allMissing = result.applyMask(new OrderMask(new int[] {missing, missing}));
+    assertEquals(Arrays.asList(null, null), items(allMissing));
+    assertEquals(0, result.applyMask(new OrderMask(new int[0])).size());
+  }
+
+  @Test
+  public void scatteredReorderingUsesTheCompactedStorage() {
+    var result = ChunkedStorage.concat(List.of(longs(0L, 1L), longs(2L, 3L)));
+    int[] positions = new int[2 * ChunkedStorage.MAX_CHUNK_COUNT + 2];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = i % 2 == 0 ? 1 : 2;
+    }
+
+    var reordered = result.applyMask(new OrderMask(positions));
+    assertFalse(reordered instanceof ChunkedStorage);
+    assertEquals(positions.length, reordered.size());
+    assertEquals(1L, (long) reordered.getItemBoxed(0));
+    assertEquals(2L, (long) reordered.getItemBoxed(positions.length - 1));
+  }
+
+  @Test
+  public void preciseTypeIsInferredFromTheChunks() {
+    var integers = new MixedStorage(new Object[] {1L, null}, 2);
+    var nulls = new MixedStorage(new Object[] {null, null}, 2);
+    var decimals = new MixedStorage(new Object[] {2.5}, 1);
+    var texts = new MixedStorage(new Object[] {"a"}, 1);
+
+    var numbers = ChunkedStorage.concat(List.of(integers, nulls, decimals));
+    assertTrue(numbers instanceof ChunkedStorage);
+    assertEquals(FloatType.FLOAT_64, numbers.inferPreciseType());
+    assertEquals(
+        IntegerType.INT_64, ChunkedStorage.concat(List.of(nulls, integers)).inferPreciseType());
+    assertEquals(
+        AnyObjectType.INSTANCE, ChunkedStorage.concat(List.of(nulls, nulls)).inferPreciseType());
+    assertEquals(
+        AnyObjectType.INSTANCE, ChunkedStorage.concat(List.of(integers, texts)).inferPreciseType());
+  }
+}
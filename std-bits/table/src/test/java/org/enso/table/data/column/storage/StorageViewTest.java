@@ -0,0 +1,138 @@
+package org.enso.table.data.column.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import org.enso.table.data.index.Index;
+import org.enso.table.data.mask.OrderMask;
+import org.enso.table.data.mask.SliceRange;
+import org.enso.table.data.table.Column;
+import org.enso.table.test.TableTestSupport;
+import org.junit.Test;
+
+public class StorageViewTest extends TableTestSupport {
+  private static final int PARENT_SIZE = 2 * StorageView.MIN_VIEW_PARENT_SIZE;
+
+  private record Range(int start, int end) implements SliceRange {}
+
+  private static void assertItems(Storage<Long> storage, long first, long step) {
+    for (int i = 0; i < storage.size(); i++) {
+      assertEquals(first + i * step, (long) storage.getItemBoxed(i));
+    }
+  }
+
+  @Test
+  public void slicesAreViewsOfTheParent() {
+    var parent = sequence(PARENT_SIZE);
+    var view = StorageView.slice(parent, 100, PARENT_SIZE / 2);
+    assertTrue(view instanceof StorageView);
+    assertEquals(PARENT_SIZE / 2, view.size());
+    assertItems(view, 100, 1);
+
+    var nested = view.slice(10, PARENT_SIZE / 3);
+    assertTrue(nested instanceof StorageView);
+    assertEquals(PARENT_SIZE / 3, nested.size());
+    assertItems(nested, 110, 1);
+
+    var ranges = StorageView.slice(parent, List.of(new Range(0, 600), new Range(1000, 1200)));
+    assertTrue(ranges instanceof StorageView);
+    assertEquals(800, ranges.size());
+    assertEquals(599L, (long) ranges.getItemBoxed(599));
+    assertEquals(1000L, (long) ranges.getItemBoxed(600));
+  }
+
+  @Test
+  public void smallSelectionsAreCopied() {
+    var parent = sequence(PARENT_SIZE);
+    var slice = StorageView.slice(parent, 5, 10);
+    assertFalse(slice instanceof StorageView);
+    assertItems(slice, 5, 1);
+
+    var view = StorageView.slice(parent, 0, PARENT_SIZE);
+    var sliceOfView = view.slice(20, 10);
+    assertFalse(sliceOfView instanceof StorageView);
+    assertItems(sliceOfView, 20, 1);
+
+    var small = sequence(StorageView.MIN_VIEW_PARENT_SIZE - 1);
+    assertFalse(StorageView.slice(small, 0, small.size()) instanceof StorageView);
+  }
+
+  @Test
+  public void masksComposeIndexVectors() {
+    var parent = sequence(PARENT_SIZE);
+    BitSet even = new BitSet();
+    for (int i = 0; i < PARENT_SIZE; i += 2) {
+      even.set(i);
+    }
+
+    var view = StorageView.mask(parent, even, PARENT_SIZE / 2);
+    assertTrue(view instanceof StorageView);
+    assertEquals(PARENT_SIZE / 2, view.size());
+    assertItems(view, 0, 2);
+
+    BitSet evenOfView = new BitSet();
+    for (int i = 0; i < view.size(); i += 2) {
+      evenOfView.set(i);
+    }
+    var nested = view.mask(evenOfView, PARENT_SIZE / 4);
+    assertTrue(nested instanceof StorageView);
+    assertItems(nested, 0, 4);
+
+    BitSet few = new BitSet();
+    few.set(3);
+    few.set(7);
+    var copied = view.mask(few, 2);
+    assertFalse(copied instanceof StorageView);
+    assertEquals(6L, (long) copied.getItemBoxed(0));
+    assertEquals(14L, (long) copied.getItemBoxed(1));
+  }
+
+  @Test
+  public void reorderingKeepsMissingRows() {
+    var parent = sequence(PARENT_SIZE);
+    int missingCount = (PARENT_SIZE + 9) / 10;
+    int[] positions = new int[PARENT_SIZE];
+    for (int i = 0; i < PARENT_SIZE; i++) {
+      positions[i] = i % 10 == 0 ? Index.NOT_FOUND : PARENT_SIZE - 1 - i;
+    }
+
+    var view = StorageView.applyMask(parent, new OrderMask(positions));
+    assertTrue(view instanceof StorageView);
+    assertEquals(PARENT_SIZE, view.size());
+    assertEquals(missingCount, view.countMissing());
+    assertTrue(view.isNa(0));
+    assertNull(view.getItemBoxed(10));
+    assertEquals(PARENT_SIZE - 2L, (long) view.getItemBoxed(1));
+
+    var reversedBack = view.applyMask(new OrderMask(new int[] {1, 0, 2}));
+    assertFalse(reversedBack instanceof StorageView);
+    assertEquals(PARENT_SIZE - 2L, (long) reversedBack.getItemBoxed(0));
+    assertTrue(reversedBack.isNa(1));
+
+    var materialized = ((StorageView<Long>) view).materialize();
+    assertFalse(materialized instanceof StorageView);
+    assertEquals(missingCount, materialized.countMissing());
+    assertEquals(PARENT_SIZE - 2L, (long) materialized.getItemBoxed(1));
+  }
+
+  @Test
+  public void columnsHandOutTheCachedMaterializedStorage() {
+    var column = new Column("x", sequence(PARENT_SIZE)).slice(100, PARENT_SIZE / 2);
+    var storage = column.getStorage();
+    assertFalse(storage instanceof StorageView);
+    assertSame(storage, column.getStorage());
+    assertEquals(PARENT_SIZE / 2, column.getSize());
+    assertEquals(100L, storage.getItemBoxed(0));
+
+    // The column keeps the materialized copy in place of the view, so further operations use it.
+    var sliced = column.slice(10, PARENT_SIZE / 3);
+    assertEquals(PARENT_SIZE / 3, sliced.getSize());
+    assertEquals(110L, sliced.getStorage().getItemBoxed(0));
+    assertSame(storage, column.getStorage());
+  }
+}
@@ -0,0 +1,98 @@
+package org.enso.table.operations;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+import java.util.Locale;
+import org.enso.base.text.TextFoldingStrategy;
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.builder.NumericBuilder;
+import org.enso.table.data.column.builder.StringBuilder;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.enso.table.data.column.storage.type.TextType;
+import org.enso.table.data.table.Column;
+import org.enso.table.data.table.problems.FloatingPointGrouping;
+import org.enso.table.problems.AggregatedProblems;
+import org.enso.table.test.TableTestSupport;
+import org.junit.Test;
+
+public class DistinctTest extends TableTestSupport {
+  private static Column column(String name, Builder builder, Object... values) {
+    return new Column(name, storage(builder, values));
+  }
+
+  private static BitSet rows(int... indices) {
+    BitSet result = new BitSet();
+    for (int ix : indices) {
+      result.set(ix);
+    }
+    return result;
+  }
+
+  private static BitSet distinct(Column[] keys, AggregatedProblems problems) {
+    return Distinct.buildDistinctRowsMask(
+        keys[0].getSize(), keys, TextFoldingStrategy.unicodeNormalizedFold, problems);
+  }
+
+  @Test
+  public void distinctIntegersKeepFirstOccurrences() {
+    var keys =
+        column(
+            "x",
+            NumericBuilder.createLongBuilder(8, IntegerType.INT_64),
+            3L, 0L, null, 3L, 0L, null, -5L, Long.MIN_VALUE);
+    var problems = new AggregatedProblems();
+    assertEquals(rows(0, 1, 2, 6, 7), distinct(new Column[] {keys}, problems));
+    assertEquals(0, problems.getCount());
+  }
+
+  @Test
+  public void distinctDecimalsFoldWholeNumbersAndReportGrouping() {
+    var keys =
+        column(
+            "x",
+            NumericBuilder.createDoubleBuilder(8),
+            2.0, 2.5, null, 2.0, -0.0, 0.0, 2.5, null);
+    var problems = new AggregatedProblems();
+    assertEquals(rows(0, 1, 2, 4), distinct(new Column[] {keys}, problems));
+
+    var reported = problems.getProblems();
+    assertEquals(1, reported.length);
+    assertEquals(FloatingPointGrouping.class, reported[0].getClass());
+  }
+
+  @Test
+  public void distinctTextsUseTheFoldingStrategy() {
+    var keys =
+        column(
+            "x",
+            new StringBuilder(6, TextType.VARIABLE_LENGTH),
+            "a", "A", "e\u0301", "\u00e9", null, "a");
+    var normalized = distinct(new Column[] {keys}, new AggregatedProblems());
+    assertEquals(rows(0, 1, 2, 4), normalized);
+
+    var caseInsensitive =
+        Distinct.buildDistinctRowsMask(
+            6,
+            new Column[] {keys},
+            TextFoldingStrategy.caseInsensitiveFold(Locale.ROOT),
+            new AggregatedProblems());
+    assertEquals(rows(0, 2, 4), caseInsensitive);
+  }
+
+  @Test
+  public void singleKeyAgreesWithTheMultiColumnPath() {
+    Object[] values = {1L, 2L, 1L, null, 2L, 3L, null};
+    var keys = column("x", NumericBuilder.createLongBuilder(7, IntegerType.INT_64), values);
+    var constant =
+        column(
+            "c",
+            NumericBuilder.createLongBuilder(7, IntegerType.INT_64),
+            0L, 0L, 0L, 0L, 0L, 0L, 0L);
+
+    var single = distinct(new Column[] {keys}, new AggregatedProblems());
+    var multi = distinct(new Column[] {keys, constant}, new AggregatedProblems());
+    assertEquals(rows(0, 1, 3, 5), single);
+    assertEquals(single, multi);
+  }
+}
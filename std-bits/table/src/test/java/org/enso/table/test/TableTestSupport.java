@@ -0,0 +1,60 @@
+package org.enso.table.test;
+
+import org.enso.table.data.column.builder.Builder;
+import org.enso.table.data.column.builder.NumericBuilder;
+import org.enso.table.data.column.storage.Storage;
+import org.enso.table.data.column.storage.type.IntegerType;
+import org.graalvm.polyglot.Context;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+/**
+ * A base for tests of the table library.
+ *
+ * <p>The storage operations check for interrupts through the current polyglot context, so a context
+ * is entered for the duration of the test class.
+ */
+public abstract class TableTestSupport {
+  private static Context context;
+
+  @BeforeClass
+  public static void enterContext() {
+    context = Context.newBuilder().build();
+    context.enter();
+  }
+
+  @AfterClass
+  public static void leaveContext() {
+    context.leave();
+    context.close();
+  }
+
+  /** Appends the values to the builder and returns the sealed storage. */
+  public static Storage<?> storage(Builder builder, Object... values) {
+    for (Object value : values) {
+      builder.append(value);
+    }
+    return builder.seal();
+  }
+
+  @SuppressWarnings("unchecked")
+  public static Storage<Long> longs(Long... values) {
+    var builder = NumericBuilder.createLongBuilder(values.length, IntegerType.INT_64);
+    return (Storage<Long>) storage(builder, (Object[]) values);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static Storage<Double> doubles(Double... values) {
+    var builder = NumericBuilder.createDoubleBuilder(values.length);
+    return (Storage<Double>) storage(builder, (Object[]) values);
+  }
+
+  /** @return a storage whose i-th element is i */
+  public static Storage<Long> sequence(int size) {
+    Long[] values = new Long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = (long) i;
+    }
+    return longs(values);
+  }
+}
@@ -0,0 +1,68 @@
+package org.enso.table.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class LongHashSetTest {
+  @Test
+  public void addReportsOnlyNewValues() {
+    var set = new LongHashSet();
+    assertTrue(set.add(42));
+    assertFalse(set.add(42));
+    assertTrue(set.add(-42));
+    assertTrue(set.add(Long.MIN_VALUE));
+    assertTrue(set.add(Long.MAX_VALUE));
+    assertFalse(set.add(Long.MIN_VALUE));
+    assertEquals(4, set.size());
+
+    assertTrue(set.contains(-42));
+    assertFalse(set.contains(43));
+  }
+
+  @Test
+  public void zeroIsTrackedDespiteMarkingEmptySlots() {
+    var set = new LongHashSet();
+    assertFalse(set.contains(0));
+    assertTrue(set.add(0));
+    assertTrue(set.contains(0));
+    assertFalse(set.add(0));
+    assertEquals(1, set.size());
+    assertFalse(set.contains(1));
+  }
+
+  @Test
+  public void growsAndAgreesWithHashSet() {
+    var set = new LongHashSet(4);
+    Set<Long> reference = new HashSet<>();
+    Random random = new Random(2023);
+    for (int i = 0; i < 100_000; i++) {
+      // A small range makes sure that a good share of the values repeats.
+      long value = random.nextInt(50_000) - 25_000L;
+      assertEquals(reference.add(value), set.add(value));
+    }
+    assertEquals(reference.size(), set.size());
+
+    for (long value = -30_000; value < 30_000; value++) {
+      assertEquals(reference.contains(value), set.contains(value));
+    }
+  }
+
+  @Test
+  public void handlesValuesCollidingInLowBits() {
+    var set = new LongHashSet();
+    for (long i = 0; i < 1000; i++) {
+      assertTrue(set.add(i << 32));
+    }
+    for (long i = 0; i < 1000; i++) {
+      assertTrue(set.contains(i << 32));
+      assertFalse(set.contains((i << 32) + 1));
+    }
+    assertEquals(1000, set.size());
+  }
+}